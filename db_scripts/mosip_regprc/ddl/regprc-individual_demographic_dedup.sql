@@ -26,7 +26,7 @@ CREATE TABLE regprc.individual_demographic_dedup(
 );
 
 -- indexes section -------------------------------------------------
-CREATE index IF NOT EXISTS idx_idemogd_namedobgender on regprc.individual_demographic_dedup (name, dob,gender);
+CREATE index IF NOT EXISTS idx_idemogd_namedobgenderlang on regprc.individual_demographic_dedup (name, dob, gender, lang_code);
 -- ddl-end --
 COMMENT ON TABLE regprc.individual_demographic_dedup IS 'Individual Demographic Dedupe: Table stores applicant demographic details for deduplication, Only required information for dedupe is stored. ';
 -- ddl-end --
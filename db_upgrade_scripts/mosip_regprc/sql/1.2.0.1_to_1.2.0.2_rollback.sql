@@ -0,0 +1,9 @@
+\c mosip_regprc
+
+DROP INDEX CONCURRENTLY IF EXISTS regprc.idx_reg_reg_id;
+DROP INDEX CONCURRENTLY IF EXISTS regprc.idx_reg_cr_dtimes_wfid;
+DROP INDEX CONCURRENTLY IF EXISTS regprc.idx_reg_stscode_upd_dtimes_wfid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reg_latest_trn_dtimes ON regprc.registration USING btree (latest_trn_dtimes);
+DROP INDEX CONCURRENTLY IF EXISTS regprc.idx_reg_latest_trn_dtimes_wfid;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_idemogd_namedobgender ON regprc.individual_demographic_dedup USING btree (name, dob, gender);
+DROP INDEX CONCURRENTLY IF EXISTS regprc.idx_idemogd_namedobgenderlang;
@@ -0,0 +1,9 @@
+\c mosip_regprc
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reg_reg_id ON regprc.registration USING btree (reg_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reg_cr_dtimes_wfid ON regprc.registration USING btree (cr_dtimes, workflow_instance_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reg_stscode_upd_dtimes_wfid ON regprc.registration USING btree (status_code, upd_dtimes, workflow_instance_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reg_latest_trn_dtimes_wfid ON regprc.registration USING btree (latest_trn_dtimes, workflow_instance_id);
+DROP INDEX CONCURRENTLY IF EXISTS regprc.idx_reg_latest_trn_dtimes;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_idemogd_namedobgenderlang ON regprc.individual_demographic_dedup USING btree (name, dob, gender, lang_code);
+DROP INDEX CONCURRENTLY IF EXISTS regprc.idx_idemogd_namedobgender;
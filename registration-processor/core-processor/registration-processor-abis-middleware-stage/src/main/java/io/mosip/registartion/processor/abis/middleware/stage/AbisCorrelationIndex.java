@@ -0,0 +1,178 @@
+package io.mosip.registartion.processor.abis.middleware.stage;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In memory index of the ABIS requests sent by this stage, mapping each request id
+ * to its batch and to the RID, process and iteration it was sent for, along with the
+ * identify requests of each batch still waiting for a response. It only saves the
+ * lookups that can be answered in memory, a request or batch that is not indexed,
+ * for example after a restart or when the response is consumed by another replica,
+ * is looked up in the database as before.
+ */
+public class AbisCorrelationIndex {
+
+	private final long expiryMillis;
+
+	private final LongSupplier clock;
+
+	private final Map<String, Correlation> requests = new ConcurrentHashMap<>();
+
+	private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+	private volatile long lastPurgeTime;
+
+	public AbisCorrelationIndex(long expiryMillis) {
+		this(expiryMillis, System::currentTimeMillis);
+	}
+
+	AbisCorrelationIndex(long expiryMillis, LongSupplier clock) {
+		this.expiryMillis = expiryMillis;
+		this.clock = clock;
+		this.lastPurgeTime = clock.getAsLong();
+	}
+
+	public boolean isEnabled() {
+		return expiryMillis > 0;
+	}
+
+	public void register(String requestId, Correlation correlation) {
+		if (!isEnabled() || requestId == null)
+			return;
+		purgeExpired();
+		requests.put(requestId, correlation);
+	}
+
+	/**
+	 * Registers the identify requests of the batch that are yet to be processed
+	 */
+	public void registerBatch(String batchId, Collection<String> outstandingRequestIds) {
+		if (!isEnabled() || batchId == null)
+			return;
+		Set<String> outstanding = ConcurrentHashMap.newKeySet();
+		outstanding.addAll(outstandingRequestIds);
+		batches.put(batchId, new Batch(outstanding, clock.getAsLong()));
+	}
+
+	public Correlation get(String requestId) {
+		return requestId != null ? requests.get(requestId) : null;
+	}
+
+	public void remove(String requestId) {
+		if (requestId != null)
+			requests.remove(requestId);
+	}
+
+	/**
+	 * Marks the request of the batch as processed.
+	 *
+	 * @return true if it was the last outstanding request of an indexed batch, false
+	 *         if requests are still outstanding or the batch is not indexed
+	 */
+	public boolean markProcessed(String batchId, String requestId) {
+		if (batchId == null || requestId == null)
+			return false;
+		Batch batch = batches.get(batchId);
+		if (batch == null)
+			return false;
+		batch.outstanding.remove(requestId);
+		if (batch.outstanding.isEmpty() && batches.remove(batchId, batch))
+			return true;
+		return false;
+	}
+
+	public void removeBatch(String batchId) {
+		if (batchId != null)
+			batches.remove(batchId);
+	}
+
+	public int size() {
+		return requests.size();
+	}
+
+	private void purgeExpired() {
+		long now = clock.getAsLong();
+		if (now - lastPurgeTime < Math.min(expiryMillis, 60000))
+			return;
+		lastPurgeTime = now;
+		requests.values().removeIf(correlation -> now - correlation.createdTime >= expiryMillis);
+		batches.values().removeIf(batch -> now - batch.createdTime >= expiryMillis);
+	}
+
+	public Correlation newCorrelation(String batchId, String bioRefId, String registrationId, String process,
+			int iteration, String workflowInstanceId) {
+		return new Correlation(batchId, bioRefId, registrationId, process, iteration, workflowInstanceId,
+				clock.getAsLong());
+	}
+
+	/**
+	 * Batch, bio reference and registration a request was sent for
+	 */
+	public static class Correlation {
+
+		private final String batchId;
+
+		private final String bioRefId;
+
+		private final String registrationId;
+
+		private final String process;
+
+		private final int iteration;
+
+		private final String workflowInstanceId;
+
+		private final long createdTime;
+
+		Correlation(String batchId, String bioRefId, String registrationId, String process, int iteration,
+				String workflowInstanceId, long createdTime) {
+			this.batchId = batchId;
+			this.bioRefId = bioRefId;
+			this.registrationId = registrationId;
+			this.process = process;
+			this.iteration = iteration;
+			this.workflowInstanceId = workflowInstanceId;
+			this.createdTime = createdTime;
+		}
+
+		public String getBatchId() {
+			return batchId;
+		}
+
+		public String getBioRefId() {
+			return bioRefId;
+		}
+
+		public String getRegistrationId() {
+			return registrationId;
+		}
+
+		public String getProcess() {
+			return process;
+		}
+
+		public int getIteration() {
+			return iteration;
+		}
+
+		public String getWorkflowInstanceId() {
+			return workflowInstanceId;
+		}
+	}
+
+	private static class Batch {
+
+		private final Set<String> outstanding;
+
+		private final long createdTime;
+
+		Batch(Set<String> outstanding, long createdTime) {
+			this.outstanding = outstanding;
+			this.createdTime = createdTime;
+		}
+	}
+}
@@ -6,8 +6,11 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.annotation.PreDestroy;
+import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.TextMessage;
 
@@ -147,6 +150,24 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 	@Value("${activemq.message.format}")
 	private String messageFormat;
 
+	/** Time after which an ABIS request without response is dropped from the correlation index (In seconds). */
+	@Value("${mosip.regproc.abis.middleware.correlation-index.expiry-seconds:86400}")
+	private long correlationIndexExpirySeconds;
+
+	/** Batch and registration of the ABIS requests sent by this stage. */
+	private AbisCorrelationIndex correlationIndex = new AbisCorrelationIndex(0);
+
+	/** Number of workers processing the ABIS responses, 0 processes them on the queue listener thread. */
+	@Value("${mosip.regproc.abis.middleware.response.worker-count:0}")
+	private int responseWorkerCount;
+
+	/** Number of consumers of each ABIS outbound queue when the responses are processed by workers. */
+	@Value("${mosip.regproc.abis.middleware.response.consumers-per-queue:1}")
+	private int responseConsumersPerQueue;
+
+	/** Dispatches the ABIS responses to the workers, null when they are processed on the listener thread. */
+	private AbisResponseDispatcher responseDispatcher;
+
 	/** The mosip event bus. */
 	MosipEventBus mosipEventBus = null;
 
@@ -168,9 +189,12 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 	 */
 	public void deployVerticle() {
 		try {
+			correlationIndex = new AbisCorrelationIndex(correlationIndexExpirySeconds * 1000);
 			mosipEventBus = this.getEventBus(this, clusterManagerUrl, workerPoolSize);
 			this.consume(mosipEventBus, MessageBusAddress.ABIS_MIDDLEWARE_BUS_IN, messageExpiryTimeLimit);
 			abisQueueDetails = utility.getAbisQueueDetails();
+			if (responseWorkerCount > 0)
+				responseDispatcher = new AbisResponseDispatcher(responseWorkerCount);
 			for (AbisQueueDetails abisQueue : abisQueueDetails) {
 				String abisInBoundaddress = abisQueue.getInboundQueueName();
 				int inboundMessageTTL = abisQueue.getInboundMessageTTL();
@@ -178,6 +202,10 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 				QueueListener listener = new QueueListener() {
 					@Override
 					public void setListener(Message message) {
+						if (responseDispatcher != null) {
+							dispatchResponse(message, abisInBoundaddress, queue, mosipEventBus, inboundMessageTTL);
+							return;
+						}
 						try {
 							consumerListener(message, abisInBoundaddress, queue, mosipEventBus,
 								inboundMessageTTL);
@@ -189,7 +217,11 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 						}
 					}
 				};
-				mosipQueueManager.consume(queue, abisQueue.getOutboundQueueName(), listener);
+				if (responseDispatcher != null)
+					mosipQueueManager.consume(queue, abisQueue.getOutboundQueueName(), listener,
+							responseConsumersPerQueue);
+				else
+					mosipQueueManager.consume(queue, abisQueue.getOutboundQueueName(), listener);
 			}
 
 		} catch (Exception e) {
@@ -214,6 +246,12 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 		return STAGE_PROPERTY_PREFIX;
 	}
 
+	@PreDestroy
+	public void shutdownResponseDispatcher() {
+		if (responseDispatcher != null)
+			responseDispatcher.shutdown();
+	}
+
 
 	@Override
 	public MessageDTO process(MessageDTO object) {
@@ -253,6 +291,7 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 					.filter(dto -> dto.getRequestType().equals(AbisStatusCode.IDENTIFY.toString()))
 					.collect(Collectors.toList());
 
+			indexRequests(abisInsertIdentifyList, abisIdentifyRequestList, abisRefId, object);
 			processInsertIdentify(abisInsertRequestList, abisIdentifyRequestList, abisInprogressInsertRequestList,
 					internalRegDto, abisAlreadyprocessedInsertRequestList);
 
@@ -365,11 +404,92 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 		}
 	}
 
+	/**
+	 * Indexes the requests about to be sent, so that their responses are correlated
+	 * to the batch and registration without reading them again from the database
+	 */
+	private void indexRequests(List<AbisRequestDto> abisInsertIdentifyList,
+			List<AbisRequestDto> abisIdentifyRequestList, String bioRefId, MessageDTO object) {
+		if (!correlationIndex.isEnabled())
+			return;
+		for (AbisRequestDto abisRequestDto : abisInsertIdentifyList) {
+			correlationIndex.register(abisRequestDto.getId(),
+					correlationIndex.newCorrelation(abisRequestDto.getReqBatchId(), bioRefId, object.getRid(),
+							object.getReg_type(), object.getIteration(), object.getWorkflowInstanceId()));
+		}
+		Map<String, List<String>> outstandingIdentifyRequests = abisIdentifyRequestList.stream()
+				.filter(dto -> dto.getReqBatchId() != null && dto.getId() != null
+						&& !AbisStatusCode.PROCESSED.toString().equals(dto.getStatusCode()))
+				.collect(Collectors.groupingBy(AbisRequestDto::getReqBatchId,
+						Collectors.mapping(AbisRequestDto::getId, Collectors.toList())));
+		outstandingIdentifyRequests.forEach(correlationIndex::registerBatch);
+	}
+
+	/**
+	 * Hands the response over to the worker of its registration and acknowledges the
+	 * message once the worker is done with it, whether it was processed or not. A
+	 * response that failed has already marked its registration for reprocess, and an
+	 * unacknowledged message of an individually acknowledged session is not delivered
+	 * again until the session is closed, it only holds a slot of the prefetch window.
+	 * The registration is resolved here so that all the responses of a registration
+	 * run on the same worker, a response that cannot be resolved is left to the worker
+	 * to report.
+	 */
+	private void dispatchResponse(Message message, String abisInBoundAddress, MosipQueue queue,
+			MosipEventBus eventBus, int inboundMessageTTL) {
+		String key = null;
+		AbisCorrelationIndex.Correlation correlation = null;
+		try {
+			key = JsonUtil.getJSONValue(JsonUtil.objectMapperReadValue(getResponse(message), JSONObject.class),
+					REQUESTID);
+			correlation = getCorrelation(key);
+			key = correlation.getBioRefId();
+		} catch (Exception e) {
+			regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"AbisMiddlewareStage::dispatchResponse()::request of the response not resolved " + e.getMessage());
+		}
+		AbisCorrelationIndex.Correlation resolvedCorrelation = correlation;
+		responseDispatcher.dispatch(key, () -> {
+			try {
+				consumerListener(message, abisInBoundAddress, queue, eventBus, inboundMessageTTL,
+						resolvedCorrelation);
+			} catch (Exception e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
+						LoggerFileConstant.REGISTRATIONID.toString(), "", ExceptionUtils.getStackTrace(e));
+			} finally {
+				acknowledge(message);
+			}
+		});
+	}
+
+	private void acknowledge(Message message) {
+		try {
+			message.acknowledge();
+		} catch (JMSException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					"", ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private String getResponse(Message message) throws JMSException {
+		if (messageFormat.equalsIgnoreCase(TEXT_MESSAGE))
+			return ((TextMessage) message).getText();
+		return new String(((ActiveMQBytesMessage) message).getContent().data);
+	}
+
 	public void consumerListener(Message message, String abisInBoundAddress, MosipQueue queue,
 			MosipEventBus eventBus, int inboundMessageTTL)
 			throws RegistrationProcessorCheckedException {
+		consumerListener(message, abisInBoundAddress, queue, eventBus, inboundMessageTTL, null);
+	}
+
+	private void consumerListener(Message message, String abisInBoundAddress, MosipQueue queue,
+			MosipEventBus eventBus, int inboundMessageTTL, AbisCorrelationIndex.Correlation resolvedCorrelation)
+			throws RegistrationProcessorCheckedException {
 		TrimExceptionMessage trimExceptionMessage = new TrimExceptionMessage();
 		InternalRegistrationStatusDto internalRegStatusDto = null;
+		AbisCorrelationIndex.Correlation correlation = null;
+		String requestId = null;
 		String registrationId = null;
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
 				"AbisMiddlewareStage::consumerListener()::entry");
@@ -379,23 +499,13 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 		String response = null;
 		LogDescription description = new LogDescription();
 		try {
-			if (messageFormat.equalsIgnoreCase(TEXT_MESSAGE)) {
-				TextMessage textMessage = (TextMessage) message;
-				response =textMessage.getText();
-			} else
-				response = new String(((ActiveMQBytesMessage) message).getContent().data);
+			response = getResponse(message);
 			JSONObject inserOrIdentifyResponse = JsonUtil.objectMapperReadValue(response, JSONObject.class);
-			String requestId = JsonUtil.getJSONValue(inserOrIdentifyResponse, REQUESTID);
-			String batchId = packetInfoManager.getBatchIdByRequestId(requestId);
-			validateNullCheck(batchId, "ABIS_BATCH_ID_NOT_FOUND");
-			List<String> bioRefId = packetInfoManager.getReferenceIdByBatchId(batchId);
-			validateNullCheck(bioRefId, "ABIS_REFERENCE_ID_NOT_FOUND");
-
-			List<RegBioRefDto> regBioRefist = packetInfoManager.getRegBioRefDataByBioRefIds(bioRefId);
-			RegBioRefDto regBioRefDto = regBioRefist.get(0);
-			registrationId = regBioRefDto.getRegId();
-			internalRegStatusDto = registrationStatusService.getRegistrationStatus(registrationId,
-					regBioRefDto.getProcess(), regBioRefDto.getIteration(), regBioRefDto.getWorkflowInstanceId());
+			requestId = JsonUtil.getJSONValue(inserOrIdentifyResponse, REQUESTID);
+			correlation = resolvedCorrelation != null ? resolvedCorrelation : getCorrelation(requestId);
+			String batchId = correlation.getBatchId();
+			String bioRefId = correlation.getBioRefId();
+			registrationId = correlation.getRegistrationId();
 			regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
 					"AbisMiddlewareStage::consumerListener()::response from abis for requestId ::" + requestId);
 
@@ -430,8 +540,11 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 					AbisRequestDto abisIdentifyRequestDto = abisIdentifyRequest.get(0);
 					boolean isAddedToQueue = sendToQueue(queue, new String(abisIdentifyRequestDto.getReqText()),
 							abisInBoundAddress, inboundMessageTTL);
+					if (!isAddedToQueue)
+						internalRegStatusDto = getRegistrationStatus(correlation);
 					updateAbisRequest(isAddedToQueue, abisIdentifyRequestDto, internalRegStatusDto);
 				} else {
+					internalRegStatusDto = getRegistrationStatus(correlation);
 					internalRegStatusDto
 							.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
 					internalRegStatusDto.setStatusComment(
@@ -465,6 +578,7 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 				AbisIdentifyResponseDto abisIdentifyResponseDto = JsonUtil.readValueWithUnknownProperties(response,
 						AbisIdentifyResponseDto.class);
 				if (!abisIdentifyResponseDto.getReturnValue().equalsIgnoreCase("1")){
+					internalRegStatusDto = getRegistrationStatus(correlation);
 					internalRegStatusDto
 							.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
 					internalRegStatusDto.setStatusComment(
@@ -479,19 +593,20 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 				if (abisIdentifyResponseDto.getCandidateList() != null) {
 					CandidatesDto[] candidatesDtos = abisIdentifyResponseDto.getCandidateList().getCandidates();
 					if (!Arrays.isNullOrEmpty(candidatesDtos)) {
-						saveCandiateDtos(candidatesDtos, abisResponseDto, bioRefId.get(0));
+						saveCandiateDtos(candidatesDtos, abisResponseDto, bioRefId);
 					}
 				}
 				updteAbisRequestProcessed(abisIdentifyResponseDto, abisCommonRequestDto);
 
-				if (checkAllIdentifyRequestsProcessed(batchId)) {
+				if (checkAllIdentifyRequestsProcessed(batchId, requestId,
+						isInsertSuccess(abisIdentifyResponseDto))) {
 
 					regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
 							"",
 							"AbisMiddlewareStage::consumerListener()::All identify are requests processed sending to Abis handler");
 
-					sendToAbisHandler(eventBus, bioRefId, registrationId, internalRegStatusDto.getRegistrationType(),
-							internalRegStatusDto.getIteration(), internalRegStatusDto.getWorkflowInstanceId());
+					sendToAbisHandler(eventBus, bioRefId, registrationId, correlation.getProcess(),
+							correlation.getIteration(), correlation.getWorkflowInstanceId());
 
 					}
 				} else {
@@ -507,6 +622,8 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 			}
 
 		} catch (IOException e) {
+			if (internalRegStatusDto == null && correlation != null)
+				internalRegStatusDto = getRegistrationStatus(correlation);
 			if (internalRegStatusDto != null) {
 				internalRegStatusDto
 						.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
@@ -521,6 +638,8 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 			throw new RegistrationProcessorCheckedException(PlatformErrorMessages.RPR_SYS_IO_EXCEPTION.getCode(),
 					PlatformErrorMessages.RPR_SYS_IO_EXCEPTION.getMessage(), e);
 		} catch (Exception e) {
+			if (internalRegStatusDto == null && correlation != null)
+				internalRegStatusDto = getRegistrationStatus(correlation);
 			if (internalRegStatusDto != null) {
 				internalRegStatusDto
 						.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
@@ -534,6 +653,7 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 					registrationId, ExceptionUtils.getStackTrace(e));
 		} finally {
+			correlationIndex.remove(requestId);
 			if (!isTransactionSuccessful) {
 				String eventId = EventId.RPR_405.toString();
 				String eventName = EventName.EXCEPTION.toString();
@@ -759,7 +879,38 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 
 	}
 
-	private boolean checkAllIdentifyRequestsProcessed(String batchId) {
+	/**
+	 * Returns the correlation of the request from the index, or from the database if
+	 * the request was not sent by this instance of the stage
+	 */
+	private AbisCorrelationIndex.Correlation getCorrelation(String requestId) {
+		AbisCorrelationIndex.Correlation correlation = correlationIndex.get(requestId);
+		if (correlation != null)
+			return correlation;
+		String batchId = packetInfoManager.getBatchIdByRequestId(requestId);
+		validateNullCheck(batchId, "ABIS_BATCH_ID_NOT_FOUND");
+		List<String> bioRefId = packetInfoManager.getReferenceIdByBatchId(batchId);
+		validateNullCheck(bioRefId, "ABIS_REFERENCE_ID_NOT_FOUND");
+
+		List<RegBioRefDto> regBioRefist = packetInfoManager.getRegBioRefDataByBioRefIds(bioRefId);
+		RegBioRefDto regBioRefDto = regBioRefist.get(0);
+		return correlationIndex.newCorrelation(batchId, bioRefId.get(0), regBioRefDto.getRegId(),
+				regBioRefDto.getProcess(), regBioRefDto.getIteration(), regBioRefDto.getWorkflowInstanceId());
+	}
+
+	private InternalRegistrationStatusDto getRegistrationStatus(AbisCorrelationIndex.Correlation correlation) {
+		return registrationStatusService.getRegistrationStatus(correlation.getRegistrationId(),
+				correlation.getProcess(), correlation.getIteration(), correlation.getWorkflowInstanceId());
+	}
+
+	private boolean checkAllIdentifyRequestsProcessed(String batchId, String requestId, boolean isProcessed) {
+		if (!isProcessed) {
+			correlationIndex.removeBatch(batchId);
+			return false;
+		}
+		// the batch is read from the database unless all of its requests were processed here
+		if (correlationIndex.markProcessed(batchId, requestId))
+			return true;
 		List<String> batchStatus = packetInfoManager.getBatchStatusbyBatchId(batchId);
 		if (batchStatus != null) {
 			boolean flag = batchStatus.stream().allMatch(status -> status.equals(AbisStatusCode.PROCESSED.toString()));
@@ -769,7 +920,7 @@ public class AbisMiddleWareStage extends MosipVerticleAPIManager {
 		return false;
 	}
 
-	private void sendToAbisHandler(MosipEventBus eventBus, List<String> bioRefId,
+	private void sendToAbisHandler(MosipEventBus eventBus, String bioRefId,
 								   String regId, String regType, int iteration, String workflowInstanceId) {
 		if (bioRefId != null) {
 			MessageDTO messageDto = new MessageDTO();
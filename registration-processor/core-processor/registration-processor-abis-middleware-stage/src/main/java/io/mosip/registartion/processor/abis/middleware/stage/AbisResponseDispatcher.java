@@ -0,0 +1,38 @@
+package io.mosip.registartion.processor.abis.middleware.stage;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the ABIS responses on a fixed set of single threaded lanes. Responses with
+ * the same key, the bio reference of the registration, always run on the same lane
+ * in the order they were dispatched, so the insert and identify responses of a
+ * registration are never processed concurrently while responses of other
+ * registrations, from any ABIS, run in parallel.
+ */
+public class AbisResponseDispatcher {
+
+	private final ExecutorService[] lanes;
+
+	public AbisResponseDispatcher(int workerCount) {
+		lanes = new ExecutorService[workerCount];
+		for (int i = 0; i < workerCount; i++) {
+			String threadName = "abis-response-worker-" + i;
+			lanes[i] = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, threadName));
+		}
+	}
+
+	public void dispatch(String key, Runnable response) {
+		lanes[Math.floorMod(Objects.hashCode(key), lanes.length)].execute(response);
+	}
+
+	public int getWorkerCount() {
+		return lanes.length;
+	}
+
+	public void shutdown() {
+		for (ExecutorService lane : lanes)
+			lane.shutdown();
+	}
+}
@@ -0,0 +1,81 @@
+package io.mosip.registartion.processor.abis.middleware.stage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AbisCorrelationIndexTest {
+
+	private AtomicLong time;
+
+	private AbisCorrelationIndex index;
+
+	@Before
+	public void setup() {
+		time = new AtomicLong(1000);
+		index = new AbisCorrelationIndex(120000, time::get);
+	}
+
+	@Test
+	public void testRegisteredRequestIsCorrelated() {
+		index.register("request1", index.newCorrelation("batch1", "bioRef1", "10003100030001520190422074511", "NEW",
+				1, "workflowInstanceId"));
+
+		AbisCorrelationIndex.Correlation correlation = index.get("request1");
+		assertEquals("batch1", correlation.getBatchId());
+		assertEquals("bioRef1", correlation.getBioRefId());
+		assertEquals("10003100030001520190422074511", correlation.getRegistrationId());
+		assertEquals("NEW", correlation.getProcess());
+		assertEquals(1, correlation.getIteration());
+		assertEquals("workflowInstanceId", correlation.getWorkflowInstanceId());
+		assertNull(index.get("request2"));
+		assertNull(index.get(null));
+	}
+
+	@Test
+	public void testBatchCompletesWithLastOutstandingRequest() {
+		index.registerBatch("batch1", Arrays.asList("request1", "request2"));
+
+		assertFalse(index.markProcessed("batch1", "request1"));
+		assertFalse(index.markProcessed("batch1", "request1"));
+		assertTrue(index.markProcessed("batch1", "request2"));
+		assertFalse(index.markProcessed("batch1", "request2"));
+	}
+
+	@Test
+	public void testRemovedBatchIsNotCompleted() {
+		index.registerBatch("batch1", Arrays.asList("request1"));
+		index.removeBatch("batch1");
+
+		assertFalse(index.markProcessed("batch1", "request1"));
+	}
+
+	@Test
+	public void testExpiredRequestsArePurged() {
+		index.register("request1", index.newCorrelation("batch1", "bioRef1", "rid1", "NEW", 1, "workflow1"));
+		time.addAndGet(120000);
+		index.register("request2", index.newCorrelation("batch2", "bioRef2", "rid2", "NEW", 1, "workflow2"));
+
+		assertNull(index.get("request1"));
+		assertEquals(1, index.size());
+	}
+
+	@Test
+	public void testDisabledIndexKeepsNothing() {
+		AbisCorrelationIndex disabledIndex = new AbisCorrelationIndex(0, time::get);
+		disabledIndex.register("request1", disabledIndex.newCorrelation("batch1", "bioRef1", "rid1", "NEW", 1,
+				"workflow1"));
+		disabledIndex.registerBatch("batch1", Arrays.asList("request1"));
+
+		assertFalse(disabledIndex.isEnabled());
+		assertNull(disabledIndex.get("request1"));
+		assertFalse(disabledIndex.markProcessed("batch1", "request1"));
+	}
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.activemq.command.ActiveMQBytesMessage;
@@ -622,6 +623,83 @@ public class AbisMiddleWareStageTest {
 
 	}
 	
+	@Test
+	public void testIdentifyResponseCorrelatedFromIndex() throws RegistrationProcessorCheckedException {
+		ReflectionTestUtils.setField(stage, "correlationIndexExpirySeconds", 3600L);
+		ReflectionTestUtils.setField(stage, "busOutHaltAddresses", new ArrayList<String>());
+		AbisRequestDto identifyAbisReq = new AbisRequestDto();
+		identifyAbisReq.setId("8a3effd4-5fba-44e0-8cbb-3083ba098209");
+		identifyAbisReq.setRefRegtrnId("de7c4893-bf6f-46b4-a4d5-5cd458d5c7e2");
+		identifyAbisReq.setAbisAppCode("Abis1");
+		identifyAbisReq.setBioRefId("d1070375-0960-4e90-b12c-72ab6186444d");
+		identifyAbisReq.setRequestType("IDENTIFY");
+		identifyAbisReq.setReqBatchId("d87e6e28-4234-4433-b45d-0313c2aeca01");
+		identifyAbisReq.setStatusCode("IN_PROGRESS");
+		identifyAbisReq.setReqText("mosip".getBytes());
+		Mockito.when(packetInfoManager.getInsertOrIdentifyRequest(Mockito.anyString(), Mockito.anyString()))
+				.thenReturn(Collections.singletonList(identifyAbisReq));
+		MessageDTO dto = new MessageDTO();
+		dto.setRid("10003100030001520190422074511");
+		dto.setWorkflowInstanceId("workflowInstanceId");
+		dto.setReg_type("NEW");
+		dto.setIteration(1);
+		stage.deployVerticle();
+		stage.process(dto);
+
+		String identifySucessfulResponse = "{\"id\":\"mosip.abis.identify\",\"requestId\":\"8a3effd4-5fba-44e0-8cbb-3083ba098209\",\"responsetime\":"
+				+ null + ",\"returnValue\":1,\"failureReason\":null,\"candidateList\":null}";
+		ActiveMQBytesMessage amq = new ActiveMQBytesMessage();
+		ByteSequence byteSeq = new ByteSequence();
+		byteSeq.setData(identifySucessfulResponse.getBytes());
+		amq.setContent(byteSeq);
+		MosipEventBus evenBus = Mockito.mock(MosipEventBus.class);
+		MosipQueue queue = Mockito.mock(MosipQueue.class);
+		AbisRequestDto abisCommonRequestDto = new AbisRequestDto();
+		abisCommonRequestDto.setRequestType("IDENTIFY");
+		abisCommonRequestDto.setStatusCode("SENT");
+		Mockito.when(packetInfoManager.getAbisRequestByRequestId(Mockito.any())).thenReturn(abisCommonRequestDto);
+		stage.consumerListener(amq, "abis1_inboundAddress", queue, evenBus, messageTTL);
+
+		Mockito.verify(packetInfoManager, Mockito.never()).getBatchIdByRequestId(Mockito.any());
+		Mockito.verify(packetInfoManager, Mockito.never()).getBatchStatusbyBatchId(Mockito.any());
+		Mockito.verify(evenBus).send(Mockito.eq(MessageBusAddress.ABIS_MIDDLEWARE_BUS_OUT),
+				Mockito.argThat(message -> message.getRid().equals("10003100030001520190422074511")
+						&& message.getIteration() == 1 && message.getReg_type().equals("NEW")));
+	}
+
+	@Test
+	public void testDispatchedResponseAcknowledgedAfterFailure() throws Exception {
+		AbisResponseDispatcher responseDispatcher = new AbisResponseDispatcher(1);
+		ReflectionTestUtils.setField(stage, "responseDispatcher", responseDispatcher);
+		String failedInsertResponse = "{\"id\":\"mosip.abis.insert\",\"requestId\":\"5b64e806-8d5f-4ba1-b641-0b55cf40c0e1\",\"responsetime\":"
+				+ null + ",\"returnValue\":2,\"failureReason\":7}";
+		ByteSequence byteSeq = new ByteSequence();
+		byteSeq.setData(failedInsertResponse.getBytes());
+		ActiveMQBytesMessage failedMessage = Mockito.spy(new ActiveMQBytesMessage());
+		failedMessage.setContent(byteSeq);
+		ActiveMQBytesMessage processedMessage = Mockito.spy(new ActiveMQBytesMessage());
+		processedMessage.setContent(byteSeq);
+		MosipEventBus evenBus = Mockito.mock(MosipEventBus.class);
+		MosipQueue queue = Mockito.mock(MosipQueue.class);
+		AbisRequestDto abisCommonRequestDto = new AbisRequestDto();
+		abisCommonRequestDto.setRequestType("INSERT");
+		abisCommonRequestDto.setStatusCode("SENT");
+		Mockito.when(packetInfoManager.getAbisRequestByRequestId(Mockito.any()))
+				.thenThrow(new RegistrationProcessorUnCheckedException("", "")).thenReturn(abisCommonRequestDto);
+
+		try {
+			ReflectionTestUtils.invokeMethod(stage, "dispatchResponse", failedMessage, "abis1_inboundAddress",
+					queue, evenBus, messageTTL);
+			ReflectionTestUtils.invokeMethod(stage, "dispatchResponse", processedMessage, "abis1_inboundAddress",
+					queue, evenBus, messageTTL);
+
+			Mockito.verify(processedMessage, Mockito.timeout(5000)).acknowledge();
+			Mockito.verify(failedMessage).acknowledge();
+		} finally {
+			stage.shutdownResponseDispatcher();
+		}
+	}
+
 	@Test(expected = RegistrationProcessorUnCheckedException.class)
 	public void testDeployVerticle() throws RegistrationProcessorCheckedException {
 		Mockito.when(utility.getAbisQueueDetails()).thenThrow(RegistrationProcessorCheckedException.class);
@@ -0,0 +1,75 @@
+package io.mosip.registartion.processor.abis.middleware.stage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AbisResponseDispatcherTest {
+
+	private AbisResponseDispatcher dispatcher;
+
+	@Before
+	public void setup() {
+		dispatcher = new AbisResponseDispatcher(4);
+	}
+
+	@After
+	public void tearDown() {
+		dispatcher.shutdown();
+	}
+
+	@Test
+	public void testResponsesOfSameKeyRunInOrder() throws InterruptedException {
+		List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(100);
+		for (int i = 0; i < 100; i++) {
+			int response = i;
+			dispatcher.dispatch("bioRef1", () -> {
+				processed.add(response);
+				latch.countDown();
+			});
+		}
+
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, processed.get(i).intValue());
+	}
+
+	@Test
+	public void testSlowResponseDoesNotBlockOtherLanes() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch processed = new CountDownLatch(1);
+		String blockedKey = "bioRef1";
+		String otherKey = "bioRef2";
+		assertNotEquals(Math.floorMod(blockedKey.hashCode(), 4), Math.floorMod(otherKey.hashCode(), 4));
+		dispatcher.dispatch(blockedKey, () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		dispatcher.dispatch(otherKey, processed::countDown);
+
+		assertTrue(processed.await(10, TimeUnit.SECONDS));
+		release.countDown();
+	}
+
+	@Test
+	public void testUnresolvedResponseIsDispatched() throws InterruptedException {
+		CountDownLatch processed = new CountDownLatch(1);
+		dispatcher.dispatch(null, processed::countDown);
+
+		assertTrue(processed.await(10, TimeUnit.SECONDS));
+	}
+}
@@ -1,7 +1,10 @@
 package io.mosip.registration.processor.stages.demodedupe;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -50,11 +53,7 @@ public class DemoDedupe {
 
 		List<DemographicInfoDto> applicantDemoDto = packetInfoDao.findDemoById(refId);
 		List<DemographicInfoDto> demographicInfoDtos;
-		List<DemographicInfoDto> infoDtos = new ArrayList<>();
-		for (DemographicInfoDto demoDto : applicantDemoDto) {
-			infoDtos.addAll(packetInfoDao.getAllDemographicInfoDtos(demoDto.getName(), demoDto.getGenderCode(),
-					demoDto.getDob(), demoDto.getLangCode()));
-		}
+		List<DemographicInfoDto> infoDtos = packetInfoDao.getAllDemographicInfoDtos(applicantDemoDto);
 		demographicInfoDtos = getAllDemographicInfoDtosWithUin(infoDtos);
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REFERENCEID.toString(), refId,
 				"DemoDedupe::performDedupe()::exit");
@@ -64,8 +63,17 @@ public class DemoDedupe {
 	private List<DemographicInfoDto> getAllDemographicInfoDtosWithUin(
 			List<DemographicInfoDto> duplicateDemographicDtos) {
 		List<DemographicInfoDto> demographicInfoDtosWithUin = new ArrayList<>();
+		if (duplicateDemographicDtos.isEmpty())
+			return demographicInfoDtosWithUin;
+		// a rid matching in several languages is checked once, for all the candidates in one go
+		Set<String> candidateRids = new LinkedHashSet<>();
+		for (DemographicInfoDto demographicDto : duplicateDemographicDtos) {
+			candidateRids.add(demographicDto.getRegId());
+		}
+		Set<String> ridsWithUin = new HashSet<>(
+				registrationStatusService.getRidsWithUin(new ArrayList<>(candidateRids)));
 		for (DemographicInfoDto demographicDto : duplicateDemographicDtos) {
-			if (registrationStatusService.checkUinAvailabilityForRid(demographicDto.getRegId())) {
+			if (ridsWithUin.contains(demographicDto.getRegId())) {
 				demographicInfoDtosWithUin.add(demographicDto);
 			}
 
@@ -2,10 +2,12 @@ package io.mosip.registrationprocessor.stages.demodedupe;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.anyString;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
@@ -105,7 +107,8 @@ public class DemoDedupeTest {
 		// Mockito.when(packetInfoManager.getApplicantIrisImageNameById(anyString())).thenReturn(iris);
 
 
-		Mockito.when(registrationStatusService.checkUinAvailabilityForRid(any())).thenReturn(true);
+		Mockito.when(registrationStatusService.getRidsWithUin(anyList()))
+				.thenReturn(Arrays.asList("2018782130000224092018121229", "2018782130000224092018121230"));
 
 		byte[] data = "1234567890".getBytes();
 		PowerMockito.mockStatic(IOUtils.class);
@@ -124,19 +127,49 @@ public class DemoDedupeTest {
 		String regId = "1234567890";
 
 		DemographicInfoDto dto1 = new DemographicInfoDto();
+		dto1.setRegId("2018782130000224092018121229");
 		DemographicInfoDto dto2 = new DemographicInfoDto();
+		dto2.setRegId("2018782130000224092018121230");
 		List<DemographicInfoDto> Dtos = new ArrayList<>();
 		Dtos.add(dto1);
 		Dtos.add(dto2);
 
 		Mockito.when(packetInfoDao.findDemoById(regId)).thenReturn(Dtos);
 
-		Mockito.when(packetInfoDao.getAllDemographicInfoDtos(any(), any(), any(), any())).thenReturn(Dtos);
+		Mockito.when(packetInfoDao.getAllDemographicInfoDtos(anyList())).thenReturn(Dtos);
 
 		List<DemographicInfoDto> duplicates = demoDedupe.performDedupe(regId);
 		assertEquals("Test for Dedupe Duplicate found", false, duplicates.isEmpty());
 	}
 
+	/**
+	 * Test candidates without uin are dropped with one batched uin check.
+	 */
+	@Test
+	public void testDedupeCandidatesWithoutUinDropped() {
+		String regId = "1234567890";
+
+		DemographicInfoDto withUin = new DemographicInfoDto();
+		withUin.setRegId("2018782130000224092018121229");
+		DemographicInfoDto withUinOtherLanguage = new DemographicInfoDto();
+		withUinOtherLanguage.setRegId("2018782130000224092018121229");
+		DemographicInfoDto withoutUin = new DemographicInfoDto();
+		withoutUin.setRegId("2018782130000224092018121231");
+		List<DemographicInfoDto> Dtos = new ArrayList<>();
+		Dtos.add(withUin);
+		Dtos.add(withUinOtherLanguage);
+		Dtos.add(withoutUin);
+
+		Mockito.when(packetInfoDao.findDemoById(regId)).thenReturn(Dtos);
+		Mockito.when(packetInfoDao.getAllDemographicInfoDtos(anyList())).thenReturn(Dtos);
+
+		List<DemographicInfoDto> duplicates = demoDedupe.performDedupe(regId);
+		assertEquals(2, duplicates.size());
+		Mockito.verify(registrationStatusService, Mockito.times(1)).getRidsWithUin(
+				Arrays.asList("2018782130000224092018121229", "2018782130000224092018121231"));
+		Mockito.verify(registrationStatusService, Mockito.never()).checkUinAvailabilityForRid(anyString());
+	}
+
 	/**
 	 * Test demodedupe empty.
 	 */
@@ -6,6 +6,16 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.json.JSONArray;
@@ -60,6 +70,7 @@ import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
 import io.mosip.registration.processor.core.status.util.StatusUtil;
 import io.mosip.registration.processor.core.status.util.TrimExceptionMessage;
+import io.mosip.registration.processor.core.tracing.ContextualData;
 import io.mosip.registration.processor.core.util.JsonUtil;
 import io.mosip.registration.processor.core.util.RegistrationExceptionMapperUtil;
 import io.mosip.registration.processor.packet.manager.dto.IdRequestDto;
@@ -155,6 +166,16 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	@Value("${mosip.regproc.uin.generator.trim-whitespaces.simpleType-value:false}")
 	private boolean trimWhitespaces;
 
+	/**
+	 * Number of documents and biometrics fetched from the packet manager at a time,
+	 * shared by all the packets processed by the stage. 1 fetches them one after
+	 * the other.
+	 */
+	@Value("${mosip.regproc.uin.generator.document-fetch.pool-size:4}")
+	private int documentFetchPoolSize;
+
+	private ExecutorService documentFetchExecutor;
+
 	/** The core audit request builder. */
 	@Autowired
 	private AuditLogRequestBuilder auditLogRequestBuilder;
@@ -205,6 +226,24 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 
 	private TrimExceptionMessage trimExceptionMessage = new TrimExceptionMessage();
 
+	@PostConstruct
+	private void initDocumentFetchExecutor() {
+		if (documentFetchPoolSize > 1) {
+			AtomicInteger threadCount = new AtomicInteger();
+			documentFetchExecutor = Executors.newFixedThreadPool(documentFetchPoolSize, runnable -> {
+				Thread thread = new Thread(runnable, "uin-document-fetch-worker-" + threadCount.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	@PreDestroy
+	private void shutdownDocumentFetchExecutor() {
+		if (documentFetchExecutor != null)
+			documentFetchExecutor.shutdown();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -551,7 +590,9 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	}
 
 	/**
-	 * Gets the all documents by reg id.
+	 * Gets the all documents by reg id. The documents and the biometrics are
+	 * fetched and encoded concurrently and returned in the order of the mapping
+	 * json, the biometrics last.
 	 *
 	 * @param regId
 	 *            the reg id
@@ -573,22 +614,46 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 
 		HashMap<String, String> applicantBiometric = (HashMap<String, String>) idJSON.get(applicantBiometricLabel);
 
-
+		Executor executor = documentFetchExecutor != null ? documentFetchExecutor : Runnable::run;
+		// the trace id is read from the vertx context, which the executor threads do not have
+		Map<String, Object> contextualData = ContextualData.getAll();
+		List<CompletableFuture<Documents>> documentFetches = new ArrayList<>();
 		for (Object doc : docJson.values()) {
 			Map docMap = (LinkedHashMap) doc;
 			String docValue = docMap.values().iterator().next().toString();
 			HashMap<String, String> docInIdentityJson = (HashMap<String, String>) idJSON.get(docValue);
 			if (docInIdentityJson != null)
-				applicantDocuments
-						.add(getIdDocumnet(regId, docValue, process));
+				documentFetches.add(fetchDocument(() -> getIdDocumnet(regId, docValue, process), executor,
+						contextualData));
 		}
 
 		if (applicantBiometric != null) {
-			applicantDocuments.add(getBiometrics(regId, applicantBiometricLabel, process, applicantBiometricLabel));
+			documentFetches.add(fetchDocument(
+					() -> getBiometrics(regId, applicantBiometricLabel, process, applicantBiometricLabel), executor,
+					contextualData));
+		}
+		try {
+			// completes once every fetch has completed, failed or not
+			CompletableFuture.allOf(documentFetches.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
 		}
+		for (CompletableFuture<Documents> documentFetch : documentFetches)
+			applicantDocuments.add(documentFetch.join());
 		return applicantDocuments;
 	}
 
+	private CompletableFuture<Documents> fetchDocument(Callable<Documents> fetch, Executor executor,
+			Map<String, Object> contextualData) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return ContextualData.callWith(contextualData, fetch);
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, executor);
+	}
+
 	private Documents getIdDocumnet(String registrationId, String dockey, String process)
 			throws IOException, ApisResourceAccessException, PacketManagerException, io.mosip.kernel.core.util.exception.JsonProcessingException {
 		Documents documentsInfoDto = new Documents();
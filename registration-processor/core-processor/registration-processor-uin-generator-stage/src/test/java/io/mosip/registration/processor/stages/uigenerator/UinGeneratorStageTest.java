@@ -22,6 +22,11 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.mosip.kernel.core.util.DateUtils;
@@ -81,6 +86,8 @@ import io.mosip.registration.processor.core.packet.dto.Identity;
 import io.mosip.registration.processor.core.spi.eventbus.EventHandler;
 import io.mosip.registration.processor.core.spi.packetmanager.PacketInfoManager;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+import io.mosip.registration.processor.core.tracing.ContextualData;
+import io.mosip.registration.processor.core.tracing.TracingConstant;
 import io.mosip.registration.processor.core.util.JsonUtil;
 import io.mosip.registration.processor.core.util.RegistrationExceptionMapperUtil;
 import io.mosip.registration.processor.packet.manager.dto.IdResponseDTO;
@@ -393,6 +400,97 @@ public class UinGeneratorStageTest {
 		assertFalse(result.getInternalError());
 		assertTrue(result.getIsValid());
 	}
+
+	@Test
+	public void testUinGenerationFetchesDocumentsConcurrently() throws Exception {
+		ExecutorService documentFetchExecutor = Executors.newFixedThreadPool(2);
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentFetchExecutor", documentFetchExecutor);
+		Map<String, String> fieldMap = new HashMap<>();
+		fieldMap.put("name", "mono");
+		fieldMap.put("proofOfAddress", "{\"value\":\"POA\",\"type\":\"DOC001\",\"format\":\"pdf\"}");
+		fieldMap.put("proofOfIdentity", "{\"value\":\"POI\",\"type\":\"DOC002\",\"format\":\"pdf\"}");
+		fieldMap.put("individualBiometrics", "{\"format\":\"cbeff\",\"value\":\"individualBiometrics_bio_CBEFF\"}");
+		when(packetManagerService.getFields(any(), any(), any(), any())).thenReturn(fieldMap);
+		when(packetManagerService.getDocument(anyString(), anyString(), anyString(), any())).thenAnswer(invocation -> {
+			Document document = new Document();
+			document.setDocument("document".getBytes());
+			document.setValue(invocation.getArgument(1));
+			return document;
+		});
+		ArgumentCaptor<IdRequestDto> argumentCaptor = ArgumentCaptor.forClass(IdRequestDto.class);
+
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("27847657360002520181210094052");
+		messageDTO.setReg_type(RegistrationType.NEW.name());
+
+		IdResponseDTO idResponseDTO = new IdResponseDTO();
+		ResponseDTO responseDTO = new ResponseDTO();
+		responseDTO.setStatus("ACTIVATED");
+		idResponseDTO.setResponse(responseDTO);
+		when(idrepoDraftService.idrepoUpdateDraft(anyString(), any(), any())).thenReturn(idResponseDTO);
+
+		try {
+			MessageDTO result = uinGeneratorStage.process(messageDTO);
+			assertFalse(result.getInternalError());
+			assertTrue(result.getIsValid());
+		} finally {
+			documentFetchExecutor.shutdown();
+		}
+		verify(idrepoDraftService).idrepoUpdateDraft(any(), any(), argumentCaptor.capture());
+		List<Documents> documents = argumentCaptor.getValue().getRequest().getDocuments();
+		assertEquals(3, documents.size());
+		assertEquals("proofOfAddress", documents.get(0).getCategory());
+		assertEquals("proofOfIdentity", documents.get(1).getCategory());
+		assertEquals("UIN", documents.get(2).getCategory());
+	}
+
+	@Test
+	public void testConcurrentDocumentFetchesKeepTraceId() throws Exception {
+		ExecutorService documentFetchExecutor = Executors.newFixedThreadPool(2);
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentFetchExecutor", documentFetchExecutor);
+		Map<String, String> fieldMap = new HashMap<>();
+		fieldMap.put("name", "mono");
+		fieldMap.put("proofOfAddress", "{\"value\":\"POA\",\"type\":\"DOC001\",\"format\":\"pdf\"}");
+		fieldMap.put("proofOfIdentity", "{\"value\":\"POI\",\"type\":\"DOC002\",\"format\":\"pdf\"}");
+		when(packetManagerService.getFields(any(), any(), any(), any())).thenReturn(fieldMap);
+		List<Object> traceIds = new CopyOnWriteArrayList<>();
+		when(packetManagerService.getDocument(anyString(), anyString(), anyString(), any())).thenAnswer(invocation -> {
+			traceIds.add(ContextualData.getOrDefault(TracingConstant.TRACE_ID_KEY, "none"));
+			Document document = new Document();
+			document.setDocument("document".getBytes());
+			document.setValue(invocation.getArgument(1));
+			return document;
+		});
+
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("27847657360002520181210094052");
+		messageDTO.setReg_type(RegistrationType.NEW.name());
+
+		IdResponseDTO idResponseDTO = new IdResponseDTO();
+		ResponseDTO responseDTO = new ResponseDTO();
+		responseDTO.setStatus("ACTIVATED");
+		idResponseDTO.setResponse(responseDTO);
+		when(idrepoDraftService.idrepoUpdateDraft(anyString(), any(), any())).thenReturn(idResponseDTO);
+
+		Vertx traceVertx = Vertx.vertx();
+		try {
+			CompletableFuture<MessageDTO> processed = new CompletableFuture<>();
+			traceVertx.getOrCreateContext().runOnContext(v -> {
+				try {
+					ContextualData.put(TracingConstant.TRACE_ID_KEY, "trace-id");
+					processed.complete(uinGeneratorStage.process(messageDTO));
+				} catch (RuntimeException e) {
+					processed.completeExceptionally(e);
+				}
+			});
+			MessageDTO result = processed.get(30, TimeUnit.SECONDS);
+			assertTrue(result.getIsValid());
+		} finally {
+			documentFetchExecutor.shutdown();
+			traceVertx.close();
+		}
+		assertEquals(Arrays.asList("trace-id", "trace-id"), traceIds);
+	}
 	
 	@Test
 	public void testUinGenerationIDRepoDraftException() throws Exception {
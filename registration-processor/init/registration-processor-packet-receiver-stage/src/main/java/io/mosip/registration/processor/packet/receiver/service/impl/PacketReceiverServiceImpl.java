@@ -1,6 +1,5 @@
 package io.mosip.registration.processor.packet.receiver.service.impl;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -13,7 +12,6 @@ import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.processor.core.exception.AdditionalInfoIdNotFoundException;
 import io.mosip.registration.processor.core.exception.ObjectStoreNotAccessibleException;
 import io.mosip.registration.processor.core.packet.dto.AdditionalInfoRequestDto;
-import org.apache.commons.io.IOUtils;
 import org.h2.store.fs.FileUtils;
 import org.h2.util.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,7 +23,6 @@ import org.springframework.stereotype.Component;
 import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
 import io.mosip.kernel.core.virusscanner.spi.VirusScanner;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
@@ -45,6 +42,7 @@ import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.mosip.registration.processor.core.spi.filesystem.manager.FileManager;
 import io.mosip.registration.processor.core.status.util.StatusUtil;
 import io.mosip.registration.processor.core.status.util.TrimExceptionMessage;
+import io.mosip.registration.processor.core.util.DigestUtil;
 import io.mosip.registration.processor.core.util.RegistrationExceptionMapperUtil;
 import io.mosip.registration.processor.packet.manager.dto.DirectoryPathDto;
 import io.mosip.registration.processor.packet.receiver.constants.PacketReceiverConstant;
@@ -165,9 +163,8 @@ public class PacketReceiverServiceImpl implements PacketReceiverService<File, Me
 			messageDTO.setRid(registrationId);
 			messageDTO.setWorkflowInstanceId(regEntity.getWorkflowInstanceId());
 			try (InputStream encryptedInputStream = FileUtils.newInputStream(file.getAbsolutePath())) {
-				byte[] encryptedByteArray = IOUtils.toByteArray(encryptedInputStream);
 				messageDTO.setReg_type(regEntity.getRegistrationType());
-				validateHashCode(encryptedByteArray, regEntity, registrationId, description);
+				validateHashCode(encryptedInputStream, regEntity, registrationId, description);
 				validatePacketFormat(fileOriginalName, registrationId, description);
 				validatePacketSize(file.length(), regEntity, registrationId, description);
 				if (isDuplicatePacket(registrationId, regEntity) && !isExternalStatusResend(registrationId)) {
@@ -331,14 +328,13 @@ public class PacketReceiverServiceImpl implements PacketReceiverService<File, Me
 	/**
 	 * Scan file.
 	 *
-	 * @param input
-	 *            the input packet byte
+	 * @param file
+	 *            the packet file, streamed to the scanner
 	 * @param description
 	 */
-	private boolean scanFile(final byte[] input, RegistrationExceptionMapperUtil registrationExceptionMapperUtil,
+	private boolean scanFile(File file, RegistrationExceptionMapperUtil registrationExceptionMapperUtil,
 			String registrationId, InternalRegistrationStatusDto dto, LogDescription description) throws IOException {
-		try {
-			InputStream inputStream = new ByteArrayInputStream(input);
+		try (InputStream inputStream = FileUtils.newInputStream(file.getAbsolutePath())) {
 			boolean isInputFileClean = virusScannerService.scanFile(inputStream);
 
 			if (!isInputFileClean) {
@@ -435,15 +431,14 @@ public class PacketReceiverServiceImpl implements PacketReceiverService<File, Me
 	 * @param registrationId
 	 *            the registration id
 	 * @param inputStream
-	 *            the input stream
+	 *            the input stream, hashed as it is read
 	 * @param description
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
 	 */
-	private void validateHashCode(byte[] isbytearray, SyncRegistrationEntity regEntity, String registrationId,
+	private void validateHashCode(InputStream inputStream, SyncRegistrationEntity regEntity, String registrationId,
 			LogDescription description) throws IOException, NoSuchAlgorithmException {
-		// TO-DO testing
-		String hashSequence = HMACUtils2.digestAsPlainText(isbytearray);
+		String hashSequence = DigestUtil.digestAsPlainText(inputStream);
 		String packetHashSequence = regEntity.getPacketHashValue();
 		if (!(MessageDigest.isEqual(packetHashSequence.getBytes(), hashSequence.getBytes()))) {
 			description.setMessage(PlatformErrorMessages.UNEQUAL_PACKET_HASH_PR.getMessage());
@@ -513,20 +508,22 @@ public class PacketReceiverServiceImpl implements PacketReceiverService<File, Me
 		}
 		messageDTO.setSource(regEntity.getSource());
 		messageDTO.setWorkflowInstanceId(regEntity.getWorkflowInstanceId());
-		try (InputStream encryptedInputStream = FileUtils.newInputStream(file.getAbsolutePath())) {
-			final byte[] encryptedByteArray = IOUtils.toByteArray(encryptedInputStream);
-			scanningFlag = scanFile(encryptedByteArray, registrationExceptionMapperUtil,
+		try {
+			// the packet is streamed from the file to the scanner and then to the landing zone, never held in memory
+			scanningFlag = scanFile(file, registrationExceptionMapperUtil,
 					registrationId, dto, description);
 			if (scanningFlag) {
-				if(landingZoneType.equalsIgnoreCase(LandingZoneTypeConstant.DMZ_SERVER)) {
-					fileManager.put(packetId, new ByteArrayInputStream(encryptedByteArray),
-							DirectoryPathDto.LANDING_ZONE);
-				}
-				else if(landingZoneType.equalsIgnoreCase(LandingZoneTypeConstant.OBJECT_STORE)) {
-					 boolean result =objectStoreAdapter.putObject(landingZoneAccount, registrationId, null, null, packetId, encryptedInputStream);
-					 if(!result) {
-						 throw new ObjectStoreNotAccessibleException("Failed to store packet : " + packetId);
-					 }
+				try (InputStream encryptedInputStream = FileUtils.newInputStream(file.getAbsolutePath())) {
+					if(landingZoneType.equalsIgnoreCase(LandingZoneTypeConstant.DMZ_SERVER)) {
+						fileManager.put(packetId, encryptedInputStream,
+								DirectoryPathDto.LANDING_ZONE);
+					}
+					else if(landingZoneType.equalsIgnoreCase(LandingZoneTypeConstant.OBJECT_STORE)) {
+						 boolean result =objectStoreAdapter.putObject(landingZoneAccount, registrationId, null, null, packetId, encryptedInputStream);
+						 if(!result) {
+							 throw new ObjectStoreNotAccessibleException("Failed to store packet : " + packetId);
+						 }
+					}
 				}
 				
 				dto.setStatusCode(RegistrationStatusCode.PROCESSING.toString());
@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -46,7 +45,6 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.Appender;
 import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
 import io.mosip.kernel.core.virusscanner.spi.VirusScanner;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
@@ -85,7 +83,7 @@ import io.mosip.registration.processor.status.service.SyncRegistrationService;
 @RefreshScope
 @RunWith(PowerMockRunner.class)
 @PowerMockIgnore({"com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*"})
-@PrepareForTest({ZipUtils.class, IOUtils.class, HMACUtils2.class, org.h2.store.fs.FileUtils.class })
+@PrepareForTest({ZipUtils.class, org.h2.store.fs.FileUtils.class })
 public class PacketReceiverServiceTest {
 
 	@Mock
@@ -123,6 +121,9 @@ public class PacketReceiverServiceTest {
 
 	private String stageName = "PacketReceiverStage";
 
+	/** The hash of the 0000.zip test packet. */
+	private static final String PACKET_HASH = "0E90C4972937B7BFC99B3DA32B06A4AF31D9423A1471E687486BBDA072980040";
+
 	@InjectMocks
 	private PacketReceiverService<File, MessageDTO> packetReceiverService = new PacketReceiverServiceImpl();
 
@@ -155,7 +156,7 @@ public class PacketReceiverServiceTest {
 		regEntity.setRegistrationType("NEW");
 		regEntity.setStatusCode("NEW_REGISTRATION");
 		regEntity.setStatusComment("registration begins");
-		regEntity.setPacketHashValue("abcd1234");
+		regEntity.setPacketHashValue(PACKET_HASH);
 		BigInteger size = new BigInteger("120");
 		regEntity.setPacketSize(size);
 
@@ -169,8 +170,6 @@ public class PacketReceiverServiceTest {
 		PowerMockito.mockStatic(ZipUtils.class);
 		PowerMockito.when(ZipUtils.unzipAndGetFile(any(), anyString()))
 				.thenReturn(new ByteArrayInputStream(new String("abc").getBytes()));
-		PowerMockito.mockStatic(HMACUtils2.class);
-		PowerMockito.when(HMACUtils2.digestAsPlainText(any())).thenReturn("abcd1234");
 		try {
 			ClassLoader classLoader = getClass().getClassLoader();
 			File file = new File(classLoader.getResource("0000.zip").getFile());
@@ -256,7 +255,7 @@ public class PacketReceiverServiceTest {
 		regEntity.setRegistrationType("BIOMETRIC_CORRECTION");
 		regEntity.setStatusCode("BIOMETRIC_CORRECTION");
 		regEntity.setStatusComment("registration begins");
-		regEntity.setPacketHashValue("abcd1234");
+		regEntity.setPacketHashValue(PACKET_HASH);
 		BigInteger size = new BigInteger("120");
 		regEntity.setPacketSize(size);
 
@@ -510,8 +509,10 @@ public class PacketReceiverServiceTest {
 			throws PacketDecryptionFailureException, ApisResourceAccessException, IOException {
 
 		Mockito.when(syncRegistrationService.findByPacketId(anyString())).thenReturn(regEntity);
-		PowerMockito.mockStatic(IOUtils.class);
-		PowerMockito.when(IOUtils.toByteArray(any(InputStream.class))).thenThrow(new IOException());
+		InputStream failingStream = Mockito.mock(InputStream.class);
+		Mockito.when(failingStream.read(any(byte[].class))).thenThrow(new IOException());
+		PowerMockito.mockStatic(org.h2.store.fs.FileUtils.class);
+		PowerMockito.when(org.h2.store.fs.FileUtils.class, "newInputStream", any()).thenReturn(failingStream);
 		MessageDTO successResult = packetReceiverService.validatePacket(mockMultipartFile, stageName);
 		assertEquals(false, successResult.getIsValid());
 	}
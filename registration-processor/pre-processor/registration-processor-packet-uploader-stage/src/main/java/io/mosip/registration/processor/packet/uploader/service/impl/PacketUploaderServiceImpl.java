@@ -1,13 +1,24 @@
 package io.mosip.registration.processor.packet.uploader.service.impl;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,7 +34,6 @@ import io.mosip.commons.khazana.exception.ObjectStoreAdapterException;
 import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
 import io.mosip.kernel.core.virusscanner.spi.VirusScanner;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
@@ -49,13 +59,15 @@ import io.mosip.registration.processor.core.packet.dto.AdditionalInfoRequestDto;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
 import io.mosip.registration.processor.core.status.util.StatusUtil;
 import io.mosip.registration.processor.core.status.util.TrimExceptionMessage;
+import io.mosip.registration.processor.core.util.DigestUtil;
 import io.mosip.registration.processor.core.util.RegistrationExceptionMapperUtil;
 import io.mosip.registration.processor.packet.manager.decryptor.Decryptor;
-import io.mosip.registration.processor.packet.manager.utils.ZipUtils;
 import io.mosip.registration.processor.packet.storage.dto.ConfigEnum;
 import io.mosip.registration.processor.packet.storage.utils.Utilities;
 import io.mosip.registration.processor.packet.uploader.exception.PacketNotFoundException;
 import io.mosip.registration.processor.packet.uploader.service.PacketUploaderService;
+import io.mosip.registration.processor.packet.uploader.util.PacketSpooler;
+import io.mosip.registration.processor.packet.uploader.util.PacketSpooler.SpooledData;
 import io.mosip.registration.processor.rest.client.audit.builder.AuditLogRequestBuilder;
 import io.mosip.registration.processor.status.code.RegistrationStatusCode;
 import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
@@ -117,6 +129,22 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
     @Value("${registration.processor.max.retry}")
     private int maxRetryCount;
 
+    /**
+     * The bytes of a packet, its decrypted content and source packets, kept on the heap
+     * while uploading it. Beyond this they are buffered in temporary files.
+     */
+    @Value("${mosip.regproc.packet.uploader.max-in-memory-packet-size:10485760}")
+    private long maxInMemoryPacketSize;
+
+    /**
+     * Number of source packets stored to the object store at a time, shared by all
+     * the packets uploaded by the stage. 1 stores them one after the other.
+     */
+    @Value("${mosip.regproc.packet.uploader.upload.pool-size:4}")
+    private int uploadPoolSize;
+
+    private ExecutorService uploadExecutor;
+
     @Autowired
     private ObjectStoreAdapter objectStoreAdapter;
 
@@ -176,6 +204,24 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
      */
     private TrimExceptionMessage trimExpMessage = new TrimExceptionMessage();
 
+    @PostConstruct
+    private void initUploadExecutor() {
+        if (uploadPoolSize > 1) {
+            AtomicInteger threadCount = new AtomicInteger();
+            uploadExecutor = Executors.newFixedThreadPool(uploadPoolSize, runnable -> {
+                Thread thread = new Thread(runnable, "packet-upload-worker-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    private void shutdownUploadExecutor() {
+        if (uploadExecutor != null)
+            uploadExecutor.shutdown();
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -195,6 +241,7 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
         regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
                 registrationId, "PacketUploaderServiceImpl::validateAndUploadPacket()::entry");
         SyncRegistrationEntity regEntity = null;
+        PacketSpooler spooler = new PacketSpooler(maxInMemoryPacketSize);
 
         try {
         	regEntity = syncRegistrationService.findByWorkflowInstanceId(messageDTO.getWorkflowInstanceId());
@@ -204,25 +251,25 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
             dto.setLatestTransactionTypeCode(RegistrationTransactionTypeCode.UPLOAD_PACKET.toString());
             dto.setRegistrationStageName(stageName);
 
-            final byte[] encryptedByteArray = getPakcetFromDMZ(regEntity.getPacketId(),registrationId);
+            final SpooledData encryptedPacket = getPakcetFromDMZ(regEntity.getPacketId(), registrationId, spooler);
 
-            if (encryptedByteArray != null) {
+            if (encryptedPacket != null) {
 
-                if (validateHashCode(new ByteArrayInputStream(encryptedByteArray), regEntity, registrationId, dto,
-                        description)) {
-                    InputStream decryptedPacket = decryptor.decrypt(
-                            registrationId,
-                            utility.getRefId(registrationId, regEntity.getReferenceId()),
-                            new ByteArrayInputStream(encryptedByteArray));
-                    final byte[] decryptedPacketBytes = IOUtils.toByteArray(decryptedPacket);
-                    if (scanFile(encryptedByteArray, registrationId,
-                            regEntity.getReferenceId(), ZipUtils.unzipAndGetFiles(new ByteArrayInputStream(
-                                    decryptedPacketBytes)), dto, description, messageDTO)) {
+                if (validateHashCode(encryptedPacket, regEntity, registrationId, dto, description)) {
+                    final Map<String, SpooledData> sourcePackets = new LinkedHashMap<>();
+                    boolean isPacketClean;
+                    try (InputStream encryptedStream = encryptedPacket.getInputStream();
+                         ZipInputStream decryptedPacket = new ZipInputStream(decryptor.decrypt(registrationId,
+                                 utility.getRefId(registrationId, regEntity.getReferenceId()), encryptedStream))) {
+                        isPacketClean = scanFile(encryptedPacket, registrationId, regEntity.getReferenceId(),
+                                decryptedPacket, sourcePackets, spooler, dto, description, messageDTO);
+                    }
+                    if (isPacketClean) {
                         int retrycount = (dto.getRetryCount() == null) ? 0 : dto.getRetryCount() + 1;
                         dto.setRetryCount(retrycount);
                         if (retrycount < getMaxRetryCount()) {
 
-                            messageDTO = uploadPacket(regEntity, dto, ZipUtils.unzipAndGetFiles(new ByteArrayInputStream(decryptedPacketBytes)), messageDTO, description);
+                            messageDTO = uploadPacket(regEntity, dto, sourcePackets, messageDTO, description);
                             if (messageDTO.getIsValid()) {
                                 dto.setLatestTransactionStatusCode(
                                         RegistrationTransactionStatusCode.SUCCESS.toString());
@@ -369,6 +416,12 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
             description.setCode(PlatformErrorMessages.RPR_PKR_UNKNOWN_EXCEPTION.getCode());
 
         } finally {
+            try {
+                spooler.close();
+            } catch (IOException e) {
+                regProcLogger.warn(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+                        registrationId, "Failed to delete the temporary packet files " + e.getMessage());
+            }
 			if (messageDTO.getInternalError()) {
 				updateErrorFlags(dto, messageDTO);
 			}
@@ -397,34 +450,43 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
     }
 
     /**
-     * Scan file.
+     * Scan file. The source packets are read one entry at a time from the decrypted
+     * packet, each one is spooled into sourcePackets and scanned before the next is read.
      *
-     * @param input    the input stream
+     * @param encryptedPacket the packet
      * @param refId
+     * @param decryptedPacket the decrypted packet, read lazily
+     * @param sourcePackets   the source packets read till the scan completed
      * @param description
      * @return true, if successful
      * @throws IOException
      * @throws ApisResourceAccessException
      */
-    private boolean scanFile(final byte[] input, String id, String refId, final Map<String, InputStream> sourcePackets, InternalRegistrationStatusDto dto,
-                             LogDescription description, MessageDTO messageDTO) throws ApisResourceAccessException, PacketDecryptionFailureException {
+    private boolean scanFile(final SpooledData encryptedPacket, String id, String refId, final ZipInputStream decryptedPacket,
+                             final Map<String, SpooledData> sourcePackets, PacketSpooler spooler, InternalRegistrationStatusDto dto,
+                             LogDescription description, MessageDTO messageDTO) throws ApisResourceAccessException, PacketDecryptionFailureException, IOException {
         boolean isInputFileClean = false;
         try {
-            InputStream packet = new ByteArrayInputStream(input);
-            // scanning the top level packet
-            isInputFileClean = virusScannerService.scanFile(packet);
+            try (InputStream packet = encryptedPacket.getInputStream()) {
+                // scanning the top level packet
+                isInputFileClean = virusScannerService.scanFile(packet);
+            }
 
             if (isInputFileClean) {
                 // scanning the source packets (Like - id, evidence, optional packets).
-                for (final Map.Entry<String, InputStream> source : sourcePackets.entrySet()) {
-                    if (source.getKey().endsWith(ZIP)) {
-                        InputStream decryptedData = decryptor
-                                .decrypt(id, utility.getRefId(id, refId), source.getValue());
-                        isInputFileClean = virusScannerService.scanFile(decryptedData);
-                    } else
-                        isInputFileClean = virusScannerService.scanFile(source.getValue());
-                    if (!isInputFileClean)
-                        break;
+                ZipEntry zipEntry;
+                while (isInputFileClean && (zipEntry = decryptedPacket.getNextEntry()) != null) {
+                    SpooledData source = spooler.spool(decryptedPacket);
+                    sourcePackets.put(zipEntry.getName(), source);
+                    try (InputStream sourceStream = source.getInputStream()) {
+                        if (zipEntry.getName().endsWith(ZIP)) {
+                            try (InputStream decryptedData = decryptor
+                                    .decrypt(id, utility.getRefId(id, refId), sourceStream)) {
+                                isInputFileClean = virusScannerService.scanFile(decryptedData);
+                            }
+                        } else
+                            isInputFileClean = virusScannerService.scanFile(sourceStream);
+                    }
                 }
             }
             if (!isInputFileClean) {
@@ -461,16 +523,18 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
      * Validate hash code.
      *
      * @param registrationId the registration id
-     * @param inputStream    the input stream
+     * @param packet         the packet
      * @param registrationId
      * @param description
      * @throws IOException Signals that an I/O exception has occurred.
      */
-    private boolean validateHashCode(InputStream inputStream, SyncRegistrationEntity regEntity, String registrationId,
+    private boolean validateHashCode(SpooledData packet, SyncRegistrationEntity regEntity, String registrationId,
                                      InternalRegistrationStatusDto dto, LogDescription description) throws IOException, NoSuchAlgorithmException {
         boolean isValidHash = false;
-        byte[] isbytearray = IOUtils.toByteArray(inputStream);
-        String hashSequence = HMACUtils2.digestAsPlainText(isbytearray);
+        String hashSequence;
+        try (InputStream inputStream = packet.getInputStream()) {
+            hashSequence = DigestUtil.digestAsPlainText(inputStream);
+        }
         String packetHashSequence = regEntity.getPacketHashValue();
         if (!(MessageDigest.isEqual(packetHashSequence.getBytes(), hashSequence.getBytes()))) {
             description.setMessage(PlatformErrorMessages.RPR_PKR_PACKET_HASH_NOT_EQUALS_SYNCED_HASH.getMessage());
@@ -501,41 +565,60 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
      * @throws IOException                Signals that an I/O exception has occurred.
      * @throws SftpFileOperationException
      */
-    private MessageDTO uploadPacket(SyncRegistrationEntity regEntity, InternalRegistrationStatusDto dto, final Map<String, InputStream> sourcePackets,
+    private MessageDTO uploadPacket(SyncRegistrationEntity regEntity, InternalRegistrationStatusDto dto, final Map<String, SpooledData> sourcePackets,
                                     MessageDTO object, LogDescription description) throws ObjectStoreNotAccessibleException {
 
         object.setIsValid(false);
         String registrationId = dto.getRegistrationId();
-        // upload packets
+        // keys of the source packets created by this upload, not the ones an earlier upload already stored
+        List<String> storedKeys = Collections.synchronizedList(new ArrayList<>());
+        List<String> metadataKeys = new ArrayList<>();
+        // upload packets, all the source packets are stored or none of them are kept
         try {
-            for (Map.Entry<String, InputStream> entry : sourcePackets.entrySet()) {
+            Executor executor = uploadExecutor != null ? uploadExecutor : Runnable::run;
+            List<CompletableFuture<Void>> uploads = new ArrayList<>();
+            for (Map.Entry<String, SpooledData> entry : sourcePackets.entrySet()) {
                 if (entry.getKey().endsWith(ZIP)) {
                     String objStoreKey = isIterationAdditionEnabled ?
                             getFinalKey(regEntity, entry.getKey().replace(ZIP, ""), object)
                             :
                             entry.getKey().replace(ZIP, "");
-                    boolean result = objectStoreAdapter.putObject(packetManagerAccount, registrationId,
-                            null, null, objStoreKey, entry.getValue());
-                    if (!result)
-                        throw new ObjectStoreNotAccessibleException("Failed to store packet : " + entry.getKey());
+                    uploads.add(CompletableFuture.runAsync(() -> {
+                        boolean isAlreadyStored = objectStoreAdapter.exists(packetManagerAccount, registrationId,
+                                null, null, objStoreKey);
+                        putSourcePacket(registrationId, objStoreKey, entry.getKey(), entry.getValue());
+                        if (!isAlreadyStored)
+                            storedKeys.add(objStoreKey);
+                    }, executor));
                 }
             }
+            try {
+                // completes once every upload has completed, failed or not
+                CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
 
             // upload metadata
-            for (Map.Entry<String, InputStream> entry : sourcePackets.entrySet()) {
+            for (Map.Entry<String, SpooledData> entry : sourcePackets.entrySet()) {
                 if (entry.getKey().endsWith(JSON)) {
-                    byte[] bytearray = IOUtils.toByteArray(entry.getValue());
+                    byte[] bytearray;
+                    try (InputStream metaInfo = entry.getValue().getInputStream()) {
+                        bytearray = IOUtils.toByteArray(metaInfo);
+                    }
                     String jsonString = new String(bytearray);
                     LinkedHashMap<String, Object> currentIdMap = (LinkedHashMap<String, Object>) mapper.readValue(jsonString, LinkedHashMap.class);
                     String objStoreKey = isIterationAdditionEnabled ?
                             getFinalKey(regEntity, entry.getKey().replace(JSON, ""), object)
                             :
                             entry.getKey().replace(JSON, "");
+                    metadataKeys.add(objStoreKey);
                     objectStoreAdapter.addObjectMetaData(packetManagerAccount, registrationId,
                             null, null, objStoreKey, currentIdMap);
                 }
             }
         } catch (Exception e) {
+            deleteSourcePackets(registrationId, storedKeys, metadataKeys);
             object.setIsValid(false);
             object.setInternalError(true);
             throw new ObjectStoreNotAccessibleException(e.getMessage(), e);
@@ -561,6 +644,42 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
         return object;
     }
 
+    private void putSourcePacket(String registrationId, String objStoreKey, String packetName, SpooledData packet) {
+        boolean result;
+        try (InputStream packetStream = packet.getInputStream()) {
+            result = objectStoreAdapter.putObject(packetManagerAccount, registrationId,
+                    null, null, objStoreKey, packetStream);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+        if (!result)
+            throw new CompletionException(new ObjectStoreNotAccessibleException("Failed to store packet : " + packetName));
+    }
+
+    /**
+     * Removes the source packets this upload stored before it failed, so that a partially
+     * uploaded packet is not left in the object store. The metadata added to them is removed
+     * too, for the adapters keeping it in a separate json object next to the packet. Packets
+     * an earlier upload already stored under the same key are kept.
+     */
+    private void deleteSourcePackets(String registrationId, List<String> storedKeys, List<String> metadataKeys) {
+        for (String objStoreKey : storedKeys) {
+            deleteObject(registrationId, objStoreKey);
+            if (metadataKeys.contains(objStoreKey))
+                deleteObject(registrationId, objStoreKey + JSON);
+        }
+    }
+
+    private void deleteObject(String registrationId, String objectName) {
+        try {
+            objectStoreAdapter.deleteObject(packetManagerAccount, registrationId, null, null, objectName);
+        } catch (Exception e) {
+            regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+                    registrationId, "Failed to delete partially uploaded packet " + objectName + " "
+                            + ExceptionUtils.getStackTrace(e));
+        }
+    }
+
     /**
      * Get max retry count.
      *
@@ -570,20 +689,25 @@ public class PacketUploaderServiceImpl implements PacketUploaderService<MessageD
         return maxRetryCount;
     }
 
-    private byte[] getPakcetFromDMZ(String packetId, String registrationId) throws ApisResourceAccessException, ObjectStoreNotAccessibleException, IOException {
+    private SpooledData getPakcetFromDMZ(String packetId, String registrationId, PacketSpooler spooler) throws ApisResourceAccessException, ObjectStoreNotAccessibleException, IOException {
         List<String> pathSegment = new ArrayList<>();
         pathSegment.add(packetId + extention);
-        byte[] packet = null;
+        SpooledData packet = null;
 
         try {
         	if(landingZoneType.equalsIgnoreCase(LandingZoneTypeConstant.DMZ_SERVER)) {
-            packet = (byte[]) restClient.getApi(ApiName.NGINXDMZURL, pathSegment, "", null, byte[].class);
+            byte[] packetBytes = (byte[]) restClient.getApi(ApiName.NGINXDMZURL, pathSegment, "", null, byte[].class);
+            if (packetBytes != null)
+                packet = spooler.wrap(packetBytes);
         	}
         	else if(landingZoneType.equalsIgnoreCase(LandingZoneTypeConstant.OBJECT_STORE)) {
-        	packet=IOUtils.toByteArray(objectStoreAdapter.getObject(landingZoneAccount, registrationId, null, null, packetId));
-        	if(packet==null) {
+        	InputStream packetStream = objectStoreAdapter.getObject(landingZoneAccount, registrationId, null, null, packetId);
+        	if(packetStream==null) {
         		throw new ObjectStoreNotAccessibleException("Failed to get packet : " +packetId);
         	}
+        	try (InputStream in = packetStream) {
+        		packet = spooler.spool(in);
+        	}
         	}
         } catch (ApisResourceAccessException e) {
             if (e.getCause() instanceof HttpClientErrorException) {
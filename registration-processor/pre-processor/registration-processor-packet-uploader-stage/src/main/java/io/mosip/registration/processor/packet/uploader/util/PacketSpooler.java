@@ -0,0 +1,124 @@
+package io.mosip.registration.processor.packet.uploader.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers the streams read while uploading a packet so that they can be read more
+ * than once, keeping them on the heap only while the total buffered for the packet
+ * is within the configured limit and spilling them to temporary files beyond it.
+ * The temporary files are deleted when the spooler is closed.
+ */
+public class PacketSpooler implements Closeable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final String TEMP_FILE_PREFIX = "packet-uploader-";
+
+	private final long memoryLimit;
+
+	private long memoryUsed;
+
+	private final List<File> tempFiles = new ArrayList<>();
+
+	/**
+	 * @param memoryLimit the maximum number of bytes kept on the heap for the packet
+	 */
+	public PacketSpooler(long memoryLimit) {
+		this.memoryLimit = memoryLimit;
+	}
+
+	/**
+	 * Reads the stream till its end, the stream is not closed.
+	 */
+	public SpooledData spool(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream memory = new ByteArrayOutputStream();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = inputStream.read(buffer, 0, buffer.length)) != -1) {
+			if (memoryUsed + memory.size() + read > memoryLimit)
+				return spill(memory, buffer, read, inputStream);
+			memory.write(buffer, 0, read);
+		}
+		memoryUsed += memory.size();
+		return new SpooledData(memory.toByteArray(), null, memory.size());
+	}
+
+	/**
+	 * Wraps data that is already on the heap.
+	 */
+	public SpooledData wrap(byte[] data) {
+		memoryUsed += data.length;
+		return new SpooledData(data, null, data.length);
+	}
+
+	public long getMemoryUsed() {
+		return memoryUsed;
+	}
+
+	private SpooledData spill(ByteArrayOutputStream memory, byte[] buffer, int read, InputStream inputStream)
+			throws IOException {
+		File file = File.createTempFile(TEMP_FILE_PREFIX, ".tmp");
+		tempFiles.add(file);
+		long length = memory.size();
+		try (OutputStream out = new FileOutputStream(file)) {
+			memory.writeTo(out);
+			do {
+				out.write(buffer, 0, read);
+				length += read;
+			} while ((read = inputStream.read(buffer, 0, buffer.length)) != -1);
+		}
+		return new SpooledData(null, file, length);
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (File file : tempFiles)
+			Files.deleteIfExists(file.toPath());
+		tempFiles.clear();
+	}
+
+	/**
+	 * Data buffered by the spooler, on the heap or in a temporary file
+	 */
+	public static class SpooledData {
+
+		private final byte[] data;
+
+		private final File file;
+
+		private final long length;
+
+		SpooledData(byte[] data, File file, long length) {
+			this.data = data;
+			this.file = file;
+			this.length = length;
+		}
+
+		/**
+		 * Returns a new stream on the data, each call reads it from the start.
+		 */
+		public InputStream getInputStream() throws FileNotFoundException {
+			return data != null ? new ByteArrayInputStream(data) : new FileInputStream(file);
+		}
+
+		public long getLength() {
+			return length;
+		}
+
+		public boolean isInMemory() {
+			return data != null;
+		}
+	}
+}
@@ -6,8 +6,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -18,17 +21,18 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
-import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
-import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.core.env.Environment;
@@ -42,7 +46,6 @@ import io.mosip.commons.khazana.exception.FileNotFoundInDestinationException;
 import io.mosip.commons.khazana.exception.ObjectStoreAdapterException;
 import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
 import io.mosip.kernel.core.exception.BaseUncheckedException;
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.kernel.core.util.JsonUtils;
 import io.mosip.kernel.core.util.exception.JsonProcessingException;
 import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
@@ -59,9 +62,9 @@ import io.mosip.registration.processor.core.http.ResponseWrapper;
 import io.mosip.registration.processor.core.logger.LogDescription;
 import io.mosip.registration.processor.core.packet.dto.AdditionalInfoRequestDto;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+import io.mosip.registration.processor.core.util.DigestUtil;
 import io.mosip.registration.processor.core.util.RegistrationExceptionMapperUtil;
 import io.mosip.registration.processor.packet.manager.decryptor.Decryptor;
-import io.mosip.registration.processor.packet.manager.utils.ZipUtils;
 import io.mosip.registration.processor.packet.storage.utils.Utilities;
 import io.mosip.registration.processor.packet.uploader.service.PacketUploaderService;
 import io.mosip.registration.processor.packet.uploader.service.impl.PacketUploaderServiceImpl;
@@ -80,7 +83,6 @@ import io.mosip.registration.processor.status.service.SyncRegistrationService;
 @RefreshScope
 @RunWith(PowerMockRunner.class)
 @PowerMockIgnore({"com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*"})
-@PrepareForTest({ IOUtils.class, HMACUtils2.class, ZipUtils.class})
 public class PacketUploaderServiceTest {
 
 	@InjectMocks
@@ -110,9 +112,6 @@ public class PacketUploaderServiceTest {
 	/** The entry. */
 	InternalRegistrationStatusDto entry = new InternalRegistrationStatusDto();
 
-	@Mock
-	private InputStream is;
-
 	@Mock
 	private LogDescription description;
 
@@ -139,6 +138,10 @@ public class PacketUploaderServiceTest {
 
 	private File file;
 
+	private String packetHash;
+
+	private byte[] decryptedPacket;
+
 	@Before
 	public void setUp() throws IOException, ApisResourceAccessException, JsonProcessingException, NoSuchAlgorithmException {
 		ReflectionTestUtils.setField(packetuploaderservice, "packetNames", "id,optional,evidence");
@@ -161,14 +164,11 @@ public class PacketUploaderServiceTest {
 		regEntity.setRegistrationType("NEW");
 		regEntity.setStatusCode("NEW_REGISTRATION");
 		regEntity.setStatusComment("registration begins");
-		regEntity.setPacketHashValue("abcd1234");
+		packetHash = DigestUtil.digestAsPlainText(new ByteArrayInputStream(new byte[2]));
+		regEntity.setPacketHashValue(packetHash);
 		regEntity.setRegistrationType("NEW");
 		BigInteger size = new BigInteger("2291584");
 		regEntity.setPacketSize(size);
-		is = new FileInputStream(file);
-		IOUtils.toByteArray(is);
-		PowerMockito.mockStatic(HMACUtils2.class);
-		PowerMockito.when(HMACUtils2.digestAsPlainText(any())).thenReturn("abcd1234");
 		Mockito.when(syncRegistrationService.findByWorkflowInstanceId(Mockito.any())).thenReturn(regEntity);
 		ResponseWrapper<AuditResponseDto> responseWrapper = new ResponseWrapper<>();
 		Mockito.doReturn(responseWrapper).when(auditLogRequestBuilder).createAuditRequestBuilder(
@@ -192,13 +192,12 @@ public class PacketUploaderServiceTest {
 		Map<String, Object> jsonObject = new LinkedHashMap<>();
 		jsonObject.put("id", "2345");
 		jsonObject.put("email", "mono@mono.com");
-		Map<String, InputStream> entryMap = new HashMap<>();
-		entryMap.put("id.zip", new ByteArrayInputStream("123".getBytes()));
-		entryMap.put("id.json", new ByteArrayInputStream(JsonUtils.javaObjectToJsonString(jsonObject).getBytes()));
+		Map<String, byte[]> entryMap = new LinkedHashMap<>();
+		entryMap.put("id.zip", "123".getBytes());
+		entryMap.put("id.json", JsonUtils.javaObjectToJsonString(jsonObject).getBytes());
+		decryptedPacket = createPacket(entryMap);
 
 		Mockito.when(mapper.readValue(anyString(), any(Class.class))).thenReturn(jsonObject);
-		PowerMockito.mockStatic(ZipUtils.class);
-		PowerMockito.when(ZipUtils.unzipAndGetFiles(any())).thenReturn(entryMap);
 		Mockito.when(objectStoreAdapter.exists(any(), any(), any(), any(), any())).thenReturn(false);
 		Mockito.when(utility.getDefaultSource(any(), any())).thenReturn("REGISTRATION_CLIENT");
 
@@ -210,7 +209,7 @@ public class PacketUploaderServiceTest {
 		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
 
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
 		assertTrue(result.getIsValid());
 	}
@@ -226,7 +225,7 @@ public class PacketUploaderServiceTest {
 		regEntity.setRegistrationId("0000");
 		regEntity.setRegistrationType("BIOMETRIC_CORRECTION");
 		regEntity.setStatusComment("registration begins");
-		regEntity.setPacketHashValue("abcd1234");
+		regEntity.setPacketHashValue(packetHash);
 		regEntity.setAdditionalInfoReqId("1001-BIOMETRIC_CORRECTION-1");
 		BigInteger size = new BigInteger("2291584");
 		regEntity.setPacketSize(size);
@@ -236,19 +235,18 @@ public class PacketUploaderServiceTest {
 		jsonObject.put("id", "2345");
 		jsonObject.put("email", "mono@mono.com");
 
-		Map<String, InputStream> entryMap = new HashMap<>();
-		entryMap.put("REGISTRATION/BIOMETRIC_CORRECTION/id.zip", new ByteArrayInputStream("123".getBytes()));
-		entryMap.put("REGISTRATION/BIOMETRIC_CORRECTION/id.json", new ByteArrayInputStream(JsonUtils.javaObjectToJsonString(jsonObject).getBytes()));
+		Map<String, byte[]> entryMap = new LinkedHashMap<>();
+		entryMap.put("REGISTRATION/BIOMETRIC_CORRECTION/id.zip", "123".getBytes());
+		entryMap.put("REGISTRATION/BIOMETRIC_CORRECTION/id.json", JsonUtils.javaObjectToJsonString(jsonObject).getBytes());
+		decryptedPacket = createPacket(entryMap);
 
 		Mockito.when(mapper.readValue(anyString(), any(Class.class))).thenReturn(jsonObject);
-		PowerMockito.mockStatic(ZipUtils.class);
-		PowerMockito.when(ZipUtils.unzipAndGetFiles(any())).thenReturn(entryMap);
 
 		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
 		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
 
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
 		assertTrue(result.getIsValid());
 	}
@@ -259,7 +257,7 @@ public class PacketUploaderServiceTest {
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.PACKET_UPLOAD_FAILED_ON_MAX_RETRY_CNT))
 		.thenReturn("FAILED");
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
 		assertFalse(result.getIsValid());
 		assertTrue(result.getInternalError());
@@ -272,7 +270,7 @@ public class PacketUploaderServiceTest {
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.TABLE_NOT_ACCESSIBLE_EXCEPTION))
 		.thenReturn("REPROCESS");
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
 		assertTrue(result.getIsValid());
 		assertTrue(result.getInternalError());
@@ -280,13 +278,12 @@ public class PacketUploaderServiceTest {
 
 	@Test
 	public void testvalidateHashCodeFailed() throws Exception {
-		PowerMockito.mockStatic(HMACUtils2.class);
-		PowerMockito.when(HMACUtils2.digestAsPlainText(any())).thenReturn("abcd123");
+		regEntity.setPacketHashValue("abcd123");
 		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
 		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
 
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
 		assertFalse(result.getIsValid());
 		assertFalse(result.getInternalError());
@@ -310,7 +307,7 @@ public class PacketUploaderServiceTest {
 		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
 		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.OBJECT_STORE_EXCEPTION))
 		.thenReturn("REPROCESS");
 		Mockito.when(objectStoreAdapter.putObject(any(), any(), any(), any(), any(), any())).thenThrow(FileNotFoundInDestinationException.class);
@@ -326,7 +323,7 @@ public class PacketUploaderServiceTest {
 		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
 		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		Mockito.when(objectStoreAdapter.putObject(any(), any(), any(), any(), any(), any())).thenReturn(false);
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.OBJECT_STORE_EXCEPTION))
 		.thenReturn("REPROCESS");
@@ -363,9 +360,12 @@ public class PacketUploaderServiceTest {
 		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
 		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
-		PowerMockito.mockStatic(IOUtils.class);
-		PowerMockito.when(IOUtils.toByteArray(any(InputStream.class))).thenThrow(new IOException("IO execption occured"));
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("IO execption occured");
+			}
+		});
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.IOEXCEPTION))
 		.thenReturn("ERROR");
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
@@ -378,7 +378,7 @@ public class PacketUploaderServiceTest {
 		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
 		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		Mockito.when(objectStoreAdapter.putObject(any(),any(), any(), any(), any(),any())).thenReturn(false);
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.OBJECT_STORE_EXCEPTION))
 		.thenReturn("REPROCESS");
@@ -387,6 +387,93 @@ public class PacketUploaderServiceTest {
 		assertTrue(result.getInternalError());
 	}
 
+	@Test
+	public void testPartialUploadDeleted() throws Exception {
+		Map<String, byte[]> entryMap = new LinkedHashMap<>();
+		entryMap.put("id.zip", "123".getBytes());
+		entryMap.put("evidence.zip", "456".getBytes());
+		decryptedPacket = createPacket(entryMap);
+		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
+		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
+		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
+		Mockito.when(objectStoreAdapter.putObject(any(), any(), any(), any(), eq("evidence"), any())).thenReturn(false);
+		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.OBJECT_STORE_EXCEPTION))
+		.thenReturn("REPROCESS");
+		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
+		assertTrue(result.getInternalError());
+		Mockito.verify(objectStoreAdapter).deleteObject(any(), eq("1001"), isNull(), isNull(), eq("id"));
+		Mockito.verify(objectStoreAdapter, Mockito.never()).addObjectMetaData(any(), any(), any(), any(), any(), any());
+	}
+
+	@Test
+	public void testPartialUploadKeepsPacketsStoredBefore() throws Exception {
+		Map<String, byte[]> entryMap = new LinkedHashMap<>();
+		entryMap.put("id.zip", "123".getBytes());
+		entryMap.put("evidence.zip", "456".getBytes());
+		decryptedPacket = createPacket(entryMap);
+		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
+		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
+		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
+		Mockito.when(objectStoreAdapter.exists(any(), eq("1001"), isNull(), isNull(), eq("id"))).thenReturn(true);
+		Mockito.when(objectStoreAdapter.putObject(any(), any(), any(), any(), eq("evidence"), any())).thenReturn(false);
+		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.OBJECT_STORE_EXCEPTION))
+		.thenReturn("REPROCESS");
+		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
+		assertTrue(result.getInternalError());
+		Mockito.verify(objectStoreAdapter, Mockito.never()).deleteObject(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	public void testPartialUploadMetadataDeleted() throws Exception {
+		Map<String, Object> jsonObject = new LinkedHashMap<>();
+		jsonObject.put("id", "2345");
+		Map<String, byte[]> entryMap = new LinkedHashMap<>();
+		entryMap.put("id.zip", "123".getBytes());
+		entryMap.put("evidence.zip", "456".getBytes());
+		entryMap.put("id.json", JsonUtils.javaObjectToJsonString(jsonObject).getBytes());
+		entryMap.put("evidence.json", JsonUtils.javaObjectToJsonString(jsonObject).getBytes());
+		decryptedPacket = createPacket(entryMap);
+		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
+		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
+		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
+		Mockito.when(objectStoreAdapter.exists(any(), eq("1001"), isNull(), isNull(), eq("evidence"))).thenReturn(true);
+		Mockito.when(objectStoreAdapter.addObjectMetaData(any(), any(), any(), any(), eq("evidence"), any()))
+				.thenThrow(new RuntimeException("metadata not stored"));
+		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.OBJECT_STORE_EXCEPTION))
+		.thenReturn("REPROCESS");
+		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
+		assertTrue(result.getInternalError());
+		Mockito.verify(objectStoreAdapter).deleteObject(any(), eq("1001"), isNull(), isNull(), eq("id"));
+		Mockito.verify(objectStoreAdapter).deleteObject(any(), eq("1001"), isNull(), isNull(), eq("id.json"));
+		Mockito.verify(objectStoreAdapter, Mockito.times(2)).deleteObject(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	public void testvalidateAndUploadPacketConcurrentUploadSuccess() throws Exception {
+		ExecutorService uploadExecutor = Executors.newFixedThreadPool(2);
+		ReflectionTestUtils.setField(packetuploaderservice, "uploadExecutor", uploadExecutor);
+		Map<String, byte[]> entryMap = new LinkedHashMap<>();
+		entryMap.put("id.zip", "123".getBytes());
+		entryMap.put("evidence.zip", "456".getBytes());
+		entryMap.put("optional.zip", "789".getBytes());
+		decryptedPacket = createPacket(entryMap);
+		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
+		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
+		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
+		try {
+			MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
+			assertTrue(result.getIsValid());
+			Mockito.verify(objectStoreAdapter, Mockito.times(3)).putObject(any(), any(), any(), any(), any(), any());
+			Mockito.verify(objectStoreAdapter, Mockito.never()).deleteObject(any(), any(), any(), any(), any());
+		} finally {
+			uploadExecutor.shutdown();
+		}
+	}
+
 	@Test
 	public void testVirusScanFailedException() throws PacketDecryptionFailureException, ApisResourceAccessException {
 		Mockito.when(registrationStatusService.getRegistrationStatus(
@@ -395,7 +482,7 @@ public class PacketUploaderServiceTest {
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.FALSE);
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.VIRUS_SCAN_FAILED_EXCEPTION))
 		.thenReturn("FAILED");
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "");
 		assertFalse(result.getIsValid());
 		assertFalse(result.getInternalError());
@@ -408,7 +495,7 @@ public class PacketUploaderServiceTest {
 				.thenThrow(new VirusScannerException());
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.VIRUS_SCANNER_SERVICE_FAILED))
 		.thenReturn("FAILED");
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
 		assertFalse(result.getIsValid());
 		assertTrue(result.getInternalError());
@@ -480,8 +567,7 @@ public class PacketUploaderServiceTest {
 	public void testUnknownExceptionOccured() throws NoSuchAlgorithmException {
 		BaseUncheckedException exception = new BaseUncheckedException("Unknown");
 		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
-		PowerMockito.mockStatic(HMACUtils2.class);
-		PowerMockito.when(HMACUtils2.digestAsPlainText(any())).thenThrow(exception);
+		Mockito.when(utility.getRefId(any(), any())).thenThrow(exception);
 		Mockito.when(registrationStatusMapperUtil.getStatusCode(RegistrationExceptionTypeCode.EXCEPTION))
 		.thenReturn("ERROR");
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
@@ -501,13 +587,16 @@ public class PacketUploaderServiceTest {
 		assertFalse(result.getIsValid());
 	}
 	@Test
-	public void testObjectStorePacketFromDMZ() throws ApisResourceAccessException, PacketDecryptionFailureException {
+	public void testObjectStorePacketFromDMZ() throws Exception {
 		ReflectionTestUtils.setField(packetuploaderservice, "landingZoneType", "ObjectStore");
+		try (InputStream packet = new FileInputStream(file)) {
+			regEntity.setPacketHashValue(DigestUtil.digestAsPlainText(packet));
+		}
 		Mockito.when(registrationStatusService.getRegistrationStatus(Mockito.any(),Mockito.any(),Mockito.any(), Mockito.any())).thenReturn(entry);
 		ReflectionTestUtils.setField(packetuploaderservice, "maxRetryCount", 3);
 
 		Mockito.when(virusScannerService.scanFile(Mockito.any(InputStream.class))).thenReturn(Boolean.TRUE);
-		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn(is);
+		Mockito.when(decryptor.decrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenAnswer(invocation -> new ByteArrayInputStream(decryptedPacket));
 		MessageDTO result = packetuploaderservice.validateAndUploadPacket(dto, "PacketUploaderStage");
 		assertTrue(result.getIsValid());
 	}
@@ -526,4 +615,16 @@ public class PacketUploaderServiceTest {
 		assertTrue(result.getIsValid());
 	}
 
+	private byte[] createPacket(Map<String, byte[]> entries) throws IOException {
+		ByteArrayOutputStream packet = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(packet)) {
+			for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+				zipOutputStream.putNextEntry(new ZipEntry(entry.getKey()));
+				zipOutputStream.write(entry.getValue());
+				zipOutputStream.closeEntry();
+			}
+		}
+		return packet.toByteArray();
+	}
+
 }
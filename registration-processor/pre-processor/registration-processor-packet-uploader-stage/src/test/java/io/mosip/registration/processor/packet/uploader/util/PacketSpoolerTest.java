@@ -0,0 +1,63 @@
+package io.mosip.registration.processor.packet.uploader.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+public class PacketSpoolerTest {
+
+	@Test
+	public void testStreamWithinLimitIsKeptInMemory() throws IOException {
+		try (PacketSpooler spooler = new PacketSpooler(1024)) {
+			PacketSpooler.SpooledData spooled = spooler.spool(new ByteArrayInputStream("packet".getBytes()));
+
+			assertTrue(spooled.isInMemory());
+			assertEquals(6, spooled.getLength());
+			assertEquals(6, spooler.getMemoryUsed());
+			assertArrayEquals("packet".getBytes(), read(spooled));
+			assertArrayEquals("packet".getBytes(), read(spooled));
+		}
+	}
+
+	@Test
+	public void testStreamsBeyondLimitAreSpilledToFile() throws IOException {
+		byte[] packet = new byte[200 * 1024 + 7];
+		Arrays.fill(packet, (byte) 'a');
+		try (PacketSpooler spooler = new PacketSpooler(150 * 1024)) {
+			PacketSpooler.SpooledData first = spooler.spool(new ByteArrayInputStream("id".getBytes()));
+			PacketSpooler.SpooledData second = spooler.spool(new ByteArrayInputStream(packet));
+
+			assertTrue(first.isInMemory());
+			assertFalse(second.isInMemory());
+			assertEquals(packet.length, second.getLength());
+			assertEquals(2, spooler.getMemoryUsed());
+			assertArrayEquals(packet, read(second));
+		}
+	}
+
+	@Test
+	public void testMemoryLimitIsSharedByAllStreams() throws IOException {
+		try (PacketSpooler spooler = new PacketSpooler(10)) {
+			spooler.wrap("evidence".getBytes());
+			PacketSpooler.SpooledData spooled = spooler.spool(new ByteArrayInputStream("optional".getBytes()));
+
+			assertFalse(spooled.isInMemory());
+			assertArrayEquals("optional".getBytes(), read(spooled));
+		}
+	}
+
+	private byte[] read(PacketSpooler.SpooledData spooled) throws IOException {
+		try (InputStream in = spooled.getInputStream()) {
+			return IOUtils.toByteArray(in);
+		}
+	}
+}
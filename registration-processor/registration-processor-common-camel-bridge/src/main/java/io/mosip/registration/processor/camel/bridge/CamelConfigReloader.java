@@ -0,0 +1,240 @@
+package io.mosip.registration.processor.camel.bridge;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.camel.bridge.intercepter.PauseFlowPredicate;
+import io.mosip.registration.processor.camel.bridge.intercepter.RouteIntercepter;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+/**
+ * Loads the camel route files and reloads them, with the pause settings, while
+ * the bridge is running. A route file is applied again only when its content has
+ * changed. The new routes are added before the routes that are no longer defined
+ * are removed, and camel stops a removed or replaced route gracefully, so the
+ * exchanges in flight complete on the old route.
+ * <p>
+ * Each applied change increments the configuration version, exposed as
+ * mosip.regproc.camelbridge.config.version. The time taken by each reload is
+ * recorded in mosip.regproc.camelbridge.reload.time, tagged with its outcome.
+ */
+class CamelConfigReloader {
+
+	private static Logger regProcLogger = RegProcessorLogger.getLogger(CamelConfigReloader.class);
+
+	private static final String RELOAD_TIME_METRIC = "mosip.regproc.camelbridge.reload.time";
+	private static final String VERSION_METRIC = "mosip.regproc.camelbridge.config.version";
+
+	private final CamelContext camelContext;
+
+	private final RouteIntercepter routeIntercepter;
+
+	private final PauseFlowPredicate pauseFlowPredicate;
+
+	private final RestTemplate restTemplate;
+
+	private final String camelRoutesBaseUrl;
+
+	private final List<String> camelRouteFileNames;
+
+	private final Callable<String> pauseSettingsReader;
+
+	/** The content digest of each route file currently loaded */
+	private final Map<String, String> routeFileVersions = new HashMap<>();
+
+	/** The route definitions added to the camel context by each route file */
+	private final Map<String, List<RouteDefinition>> routeFileDefinitions = new HashMap<>();
+
+	private final AtomicLong configVersion = new AtomicLong();
+
+	private final AtomicBoolean reloading = new AtomicBoolean();
+
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * @param pauseSettingsReader returns the current value of
+	 *                            mosip.regproc.camelbridge.pause-settings, null if
+	 *                            the pause settings are not reloaded
+	 */
+	CamelConfigReloader(CamelContext camelContext, RouteIntercepter routeIntercepter,
+			PauseFlowPredicate pauseFlowPredicate, RestTemplate restTemplate, String camelRoutesBaseUrl,
+			List<String> camelRouteFileNames, Callable<String> pauseSettingsReader) {
+		this(camelContext, routeIntercepter, pauseFlowPredicate, restTemplate, camelRoutesBaseUrl,
+				camelRouteFileNames, pauseSettingsReader, null);
+	}
+
+	CamelConfigReloader(CamelContext camelContext, RouteIntercepter routeIntercepter,
+			PauseFlowPredicate pauseFlowPredicate, RestTemplate restTemplate, String camelRoutesBaseUrl,
+			List<String> camelRouteFileNames, Callable<String> pauseSettingsReader, MeterRegistry meterRegistry) {
+		this.camelContext = camelContext;
+		this.routeIntercepter = routeIntercepter;
+		this.pauseFlowPredicate = pauseFlowPredicate;
+		this.restTemplate = restTemplate;
+		this.camelRoutesBaseUrl = camelRoutesBaseUrl;
+		this.camelRouteFileNames = camelRouteFileNames;
+		this.pauseSettingsReader = pauseSettingsReader;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Loads all the route files into the camel context.
+	 *
+	 * @throws Exception if a route file cannot be downloaded or loaded
+	 */
+	synchronized void loadRoutes() throws Exception {
+		for (String camelRouteFileName : camelRouteFileNames) {
+			byte[] content = downloadRouteFile(camelRouteFileName);
+			routeFileDefinitions.put(camelRouteFileName, addRoutes(content));
+			routeFileVersions.put(camelRouteFileName, DigestUtils.md5DigestAsHex(content));
+		}
+		Gauge.builder(VERSION_METRIC, configVersion, AtomicLong::get).register(getMeterRegistry());
+	}
+
+	/**
+	 * Downloads the route files and reads the pause settings again and applies the
+	 * ones that have changed. A failure is logged and leaves the current
+	 * configuration in place. Returns immediately if a reload is already running.
+	 *
+	 * @return true if a change was applied
+	 */
+	boolean reload() {
+		if (!reloading.compareAndSet(false, true))
+			return false;
+		long startTime = System.nanoTime();
+		String outcome = "failed";
+		try {
+			boolean changed = reloadRoutes() | reloadPauseSettings();
+			if (changed) {
+				long version = configVersion.incrementAndGet();
+				regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+						"CamelConfigReloader::reload()", "applied configuration version " + version + " "
+								+ routeFileVersions);
+			}
+			outcome = changed ? "changed" : "unchanged";
+			return changed;
+		} catch (Exception e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					"CamelConfigReloader::reload()::exception", ExceptionUtils.getStackTrace(e));
+			return false;
+		} finally {
+			Timer.builder(RELOAD_TIME_METRIC).tag("outcome", outcome).register(getMeterRegistry())
+					.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+			reloading.set(false);
+		}
+	}
+
+	long getConfigVersion() {
+		return configVersion.get();
+	}
+
+	private synchronized boolean reloadRoutes() throws Exception {
+		boolean changed = false;
+		for (String camelRouteFileName : camelRouteFileNames) {
+			byte[] content = downloadRouteFile(camelRouteFileName);
+			String version = DigestUtils.md5DigestAsHex(content);
+			if (version.equals(routeFileVersions.get(camelRouteFileName)))
+				continue;
+			List<RouteDefinition> oldDefinitions = routeFileDefinitions.getOrDefault(camelRouteFileName,
+					Collections.emptyList());
+			List<RouteDefinition> newDefinitions = addRoutes(content);
+			Set<String> newRouteIds = new HashSet<>();
+			for (RouteDefinition definition : newDefinitions)
+				newRouteIds.add(definition.getId());
+			for (RouteDefinition definition : oldDefinitions) {
+				String routeId = definition.getId();
+				// a route with the same id has already been replaced by camel
+				if (routeId != null && !newRouteIds.contains(routeId)
+						&& camelContext.getRouteDefinition(routeId) == definition)
+					camelContext.removeRouteDefinitions(Collections.singletonList(definition));
+			}
+			routeFileDefinitions.put(camelRouteFileName, newDefinitions);
+			routeFileVersions.put(camelRouteFileName, version);
+			regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					"CamelConfigReloader::reloadRoutes()", "reloaded " + camelRouteFileName + " version " + version);
+			changed = true;
+		}
+		return changed;
+	}
+
+	private boolean reloadPauseSettings() throws Exception {
+		if (pauseSettingsReader == null)
+			return false;
+		boolean changed = pauseFlowPredicate.reloadSettings(pauseSettingsReader.call());
+		if (changed)
+			regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					"CamelConfigReloader::reloadPauseSettings()", "reloaded pause settings");
+		return changed;
+	}
+
+	/**
+	 * Adds the routes of the file to the camel context and returns the route
+	 * definitions the context has gained.
+	 */
+	private List<RouteDefinition> addRoutes(byte[] content) throws Exception {
+		Set<RouteDefinition> existingDefinitions = Collections.newSetFromMap(new IdentityHashMap<>());
+		existingDefinitions.addAll(camelContext.getRouteDefinitions());
+		RoutesDefinition routes;
+		try (InputStream inputStream = new ByteArrayInputStream(content)) {
+			routes = camelContext.loadRoutesDefinition(inputStream);
+		}
+		camelContext.addRouteDefinitions(routeIntercepter.intercept(camelContext, routes.getRoutes()));
+		List<RouteDefinition> addedDefinitions = new ArrayList<>();
+		for (RouteDefinition definition : camelContext.getRouteDefinitions()) {
+			if (!existingDefinitions.contains(definition))
+				addedDefinitions.add(definition);
+		}
+		return addedDefinitions;
+	}
+
+	private byte[] downloadRouteFile(String camelRouteFileName) throws IOException {
+		String camelRoutesUrl = camelRoutesBaseUrl + camelRouteFileName;
+		ResponseEntity<Resource> responseEntity = restTemplate.exchange(camelRoutesUrl, HttpMethod.GET, null,
+				Resource.class);
+		Resource body = responseEntity.getBody();
+		if (body == null) {
+			throw new RuntimeException("Response for " + camelRoutesUrl + " is null");
+		}
+		try (InputStream inputStream = body.getInputStream()) {
+			return StreamUtils.copyToByteArray(inputStream);
+		}
+	}
+
+	private MeterRegistry getMeterRegistry() {
+		if (meterRegistry == null) {
+			MeterRegistry registry = BackendRegistries.getDefaultNow();
+			meterRegistry = registry != null ? registry : Metrics.globalRegistry;
+		}
+		return meterRegistry;
+	}
+}
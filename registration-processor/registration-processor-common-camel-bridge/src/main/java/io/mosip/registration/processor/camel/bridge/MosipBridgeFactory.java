@@ -1,11 +1,11 @@
 package io.mosip.registration.processor.camel.bridge;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.component.kafka.KafkaComponent;
@@ -13,29 +13,32 @@ import org.apache.camel.component.kafka.KafkaConfiguration;
 import org.apache.camel.component.vertx.VertxComponent;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.impl.JndiRegistry;
-import org.apache.camel.model.RoutesDefinition;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.camel.bridge.intercepter.PauseFlowPredicate;
 import io.mosip.registration.processor.camel.bridge.intercepter.RouteIntercepter;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
 import io.mosip.registration.processor.core.abstractverticle.MosipEventBus;
 import io.mosip.registration.processor.core.abstractverticle.MosipRouter;
 import io.mosip.registration.processor.core.abstractverticle.MosipVerticleAPIManager;
+import io.mosip.registration.processor.core.config.ConfigurationUtil;
+import io.mosip.registration.processor.core.config.CoreConfigBean;
 import io.mosip.registration.processor.core.constant.LoggerFileConstant;
 import io.mosip.registration.processor.core.exception.UnsupportedEventBusTypeException;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.vertx.camel.CamelBridge;
 import io.vertx.camel.CamelBridgeOptions;
+import io.vertx.config.ConfigRetriever;
+import io.vertx.config.ConfigRetrieverOptions;
+import io.vertx.config.ConfigStoreOptions;
+import io.vertx.core.json.JsonObject;
 
 /**
  * This class starts Vertx camel bridge.
@@ -52,6 +55,8 @@ public class MosipBridgeFactory extends MosipVerticleAPIManager {
 
 	private static final String STAGE_PROPERTY_PREFIX = "mosip.regproc.camel.bridge.";
 
+	private static final String PAUSE_SETTINGS_PROPERTY = "mosip.regproc.camelbridge.pause-settings";
+
 	@Value("${mosip.regproc.eventbus.type:vertx}")
 	private String eventBusType;
 
@@ -68,6 +73,17 @@ public class MosipBridgeFactory extends MosipVerticleAPIManager {
 	@Autowired
 	private RouteIntercepter routeIntercepter;
 
+	@Autowired
+	private PauseFlowPredicate pauseFlowPredicate;
+
+	/** Interval at which the routes and pause settings are reloaded, 0 to disable */
+	@Value("${mosip.regproc.camelbridge.reload.interval-millis:60000}")
+	private long reloadIntervalMillis;
+
+	private CamelConfigReloader camelConfigReloader;
+
+	private ConfigRetriever configRetriever;
+
 	/** Mosip router for APIs */
 	@Autowired
 	MosipRouter router;
@@ -137,19 +153,9 @@ public class MosipBridgeFactory extends MosipVerticleAPIManager {
 		List<String> camelRoutesFilesArr = Arrays.asList(camelRoutesFileName.split(","));
 		RestTemplate restTemplate = new RestTemplate();
 		String camelRoutesBaseUrl = environment.getProperty("camel.routes.url");
-		ResponseEntity<Resource> responseEntity;
-		RoutesDefinition routes;
-		for (String camelRouteFileName : camelRoutesFilesArr) {
-			String camelRoutesUrl = camelRoutesBaseUrl + camelRouteFileName;
-			responseEntity = restTemplate.exchange(camelRoutesUrl, HttpMethod.GET, null, Resource.class);
-			Resource body=responseEntity.getBody();
-			if (body == null) {
-				throw new RuntimeException("Response for " + camelRoutesUrl + " is null");
-			}
-			routes = camelContext.loadRoutesDefinition(body.getInputStream());
-			camelContext.addRouteDefinitions(routeIntercepter.intercept(camelContext, routes.getRoutes()));
-			// camelContext.addRouteDefinitions(routes.getRoutes());
-		}
+		camelConfigReloader = new CamelConfigReloader(camelContext, routeIntercepter, pauseFlowPredicate,
+				restTemplate, camelRoutesBaseUrl, camelRoutesFilesArr, this::readPauseSettings);
+		camelConfigReloader.loadRoutes();
 		if (eventBusType.equals("vertx")) {
 			VertxComponent vertxComponent = new VertxComponent();
 			vertxComponent.setVertx(vertx);
@@ -171,6 +177,42 @@ public class MosipBridgeFactory extends MosipVerticleAPIManager {
 
 		camelContext.start();
 		CamelBridge.create(vertx, new CamelBridgeOptions(camelContext)).start();
+		if (reloadIntervalMillis > 0) {
+			vertx.setPeriodic(reloadIntervalMillis, timerId -> vertx.<Void>executeBlocking(promise -> {
+				camelConfigReloader.reload();
+				promise.complete();
+			}, false, null));
+		}
+	}
+
+	/**
+	 * Reads the pause settings from the config server, the same way they are read
+	 * at startup.
+	 */
+	private String readPauseSettings() throws Exception {
+		if (configRetriever == null) {
+			ConfigRetrieverOptions configRetrieverOptions = new ConfigRetrieverOptions().setScanPeriod(0);
+			for (String url : CoreConfigBean.getUrls(environment)) {
+				JsonObject config = new JsonObject().put("url", url).put("timeout",
+						Long.parseLong(ConfigurationUtil.CONFIG_SERVER_TIME_OUT));
+				if (!url.startsWith("http://"))
+					config.put("httpClientConfiguration", new JsonObject().put("trustAll", true).put("ssl", true));
+				configRetrieverOptions.addStore(
+						new ConfigStoreOptions().setType(ConfigurationUtil.CONFIG_SERVER_TYPE).setConfig(config));
+			}
+			configRetriever = ConfigRetriever.create(vertx, configRetrieverOptions);
+		}
+		CompletableFuture<JsonObject> configLoader = new CompletableFuture<>();
+		configRetriever.getConfig(result -> {
+			if (result.succeeded())
+				configLoader.complete(result.result());
+			else
+				configLoader.completeExceptionally(result.cause());
+		});
+		Object pauseSettings = configLoader
+				.get(Long.parseLong(ConfigurationUtil.CONFIG_SERVER_TIME_OUT), TimeUnit.MILLISECONDS)
+				.getValue(PAUSE_SETTINGS_PROPERTY);
+		return pauseSettings != null ? pauseSettings.toString() : null;
 	}
 
 	@Override
@@ -5,7 +5,6 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import javax.annotation.PostConstruct;
 
@@ -18,7 +17,9 @@ import org.springframework.beans.factory.annotation.Value;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 import io.mosip.kernel.core.exception.BaseUncheckedException;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -31,7 +32,7 @@ import io.mosip.registration.processor.core.constant.JsonConstant;
 import io.mosip.registration.processor.core.constant.LoggerFileConstant;
 import io.mosip.registration.processor.core.exception.util.PlatformSuccessMessages;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
-import net.minidev.json.JSONArray;
+import io.vertx.micrometer.backends.BackendRegistries;
 
 public class PauseFlowPredicate implements Predicate {
 
@@ -40,7 +41,11 @@ public class PauseFlowPredicate implements Predicate {
 	@Autowired
 	private ObjectMapper objectMapper;
 
-	Setting[] settings = null;
+	volatile Setting[] settings = null;
+
+	private volatile PauseRules pauseRules;
+
+	private MeterRegistry meterRegistry;
 
 	@Value("${mosip.regproc.camelbridge.pause-settings}")
 	private String settingsString;
@@ -48,16 +53,70 @@ public class PauseFlowPredicate implements Predicate {
 	@PostConstruct
 	private void init() {
 		try {
-			String encodedSettings = StringUtils.toEncodedString(settingsString.getBytes(Charset.forName("ISO-8859-1")),
+			// spring reads the property as ISO-8859-1, the config server value is UTF-8
+			settingsString = StringUtils.toEncodedString(settingsString.getBytes(Charset.forName("ISO-8859-1")),
 					Charset.forName("UTF-8"));
-			settings = objectMapper.readValue(encodedSettings, Setting[].class);
-		} catch (IOException e) {
+			settings = readSettings(settingsString);
+			getPauseRules();
+		} catch (IOException | RuntimeException e) {
 			LOGGER.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
 					"RoutePredicate::exception " + e.getMessage());
 		}
 
 	}
 
+	/**
+	 * Replaces the pause settings if they differ from the current ones. The new
+	 * rules are compiled before they are swapped in, so each exchange is matched
+	 * against either the old rules or the new ones, and settings that cannot be
+	 * read or compiled leave the current rules in place.
+	 *
+	 * @param newSettingsString the value of mosip.regproc.camelbridge.pause-settings
+	 * @return true if the settings were replaced
+	 * @throws IOException if the settings cannot be read
+	 */
+	public synchronized boolean reloadSettings(String newSettingsString) throws IOException {
+		if (newSettingsString == null || (settings != null && newSettingsString.equals(settingsString)))
+			return false;
+		Setting[] newSettings = readSettings(newSettingsString);
+		PauseRules newRules = new PauseRules(newSettings, getMeterRegistry());
+		settings = newSettings;
+		pauseRules = newRules;
+		settingsString = newSettingsString;
+		return true;
+	}
+
+	private Setting[] readSettings(String value) throws IOException {
+		return objectMapper.readValue(value, Setting[].class);
+	}
+
+	/**
+	 * Returns the compiled rules of the current settings, compiling them again only
+	 * when the settings have been replaced.
+	 */
+	private PauseRules getPauseRules() {
+		PauseRules rules = pauseRules;
+		if (rules != null && rules.isCompiledFrom(settings))
+			return rules;
+		synchronized (this) {
+			rules = pauseRules;
+			Setting[] currentSettings = settings;
+			if (rules == null || !rules.isCompiledFrom(currentSettings)) {
+				rules = new PauseRules(currentSettings, getMeterRegistry());
+				pauseRules = rules;
+			}
+			return rules;
+		}
+	}
+
+	private MeterRegistry getMeterRegistry() {
+		if (meterRegistry == null) {
+			MeterRegistry registry = BackendRegistries.getDefaultNow();
+			meterRegistry = registry != null ? registry : Metrics.globalRegistry;
+		}
+		return meterRegistry;
+	}
+
 	@Override
 	public boolean matches(Exchange exchange) {
         try {
@@ -73,12 +132,14 @@ public class PauseFlowPredicate implements Predicate {
 		long pauseFor = 0;
 		String defaultResumeAction=null;
 		Map<String,String> tags = messageDto.getTags();
-		for (Setting setting : settings) {
+		Object document = null;
+		for (PauseRules.PauseRule rule : getPauseRules().getRules(fromAddress)) {
+			Setting setting = rule.getSetting();
 			if(isRuleIdNotPresent(tags,setting.getRuleId())) {
 
-			JSONArray jsonArray = JsonPath.read(message, setting.getMatchExpression());
-			if (Pattern.matches(setting.getFromAddress(), fromAddress)
-					&& !jsonArray.isEmpty()) {
+			if (document == null)
+				document = PauseRules.parse(message);
+			if (rule.matches(document)) {
 				     matchedRuleIds.add(setting.getRuleId());
 				     if(ruleDescription.isBlank())
 				    	 ruleDescription = setting.getRuleDescription();
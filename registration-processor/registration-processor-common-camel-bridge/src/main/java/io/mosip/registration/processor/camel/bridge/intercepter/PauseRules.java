@@ -0,0 +1,107 @@
+package io.mosip.registration.processor.camel.bridge.intercepter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import io.mosip.registration.processor.camel.bridge.model.Setting;
+import net.minidev.json.JSONArray;
+
+/**
+ * The pause settings compiled once, with the match expression of each rule as a
+ * compiled JsonPath and its from address as a compiled pattern. The rules that
+ * apply to an endpoint are looked up once per endpoint and kept in the order of
+ * the settings. The matches of each rule are counted in
+ * mosip.regproc.camelbridge.pause.rule.matches, tagged with the rule id.
+ */
+public final class PauseRules {
+
+	private static final String MATCH_METRIC = "mosip.regproc.camelbridge.pause.rule.matches";
+
+	private final Setting[] settings;
+
+	private final List<PauseRule> rules;
+
+	private final Map<String, List<PauseRule>> rulesByFromAddress = new ConcurrentHashMap<>();
+
+	public PauseRules(Setting[] settings, MeterRegistry meterRegistry) {
+		this.settings = settings;
+		List<PauseRule> compiledRules = new ArrayList<>(settings.length);
+		for (Setting setting : settings)
+			compiledRules.add(new PauseRule(setting, meterRegistry));
+		this.rules = Collections.unmodifiableList(compiledRules);
+	}
+
+	/**
+	 * Returns true if these rules were compiled from the given settings array.
+	 */
+	public boolean isCompiledFrom(Setting[] settings) {
+		return this.settings == settings;
+	}
+
+	/**
+	 * Returns the rules whose from address matches the endpoint.
+	 */
+	public List<PauseRule> getRules(String fromAddress) {
+		return rulesByFromAddress.computeIfAbsent(fromAddress, address -> Collections.unmodifiableList(
+				rules.stream().filter(rule -> rule.matchesFromAddress(address)).collect(Collectors.toList())));
+	}
+
+	/**
+	 * Parses the message once into the document the rules are evaluated on.
+	 */
+	public static Object parse(String message) {
+		return Configuration.defaultConfiguration().jsonProvider().parse(message);
+	}
+
+	/**
+	 * A pause setting with its compiled match expression and from address
+	 */
+	public static final class PauseRule {
+
+		private final Setting setting;
+
+		private final JsonPath matchExpression;
+
+		private final Pattern fromAddress;
+
+		private final Counter matchCounter;
+
+		PauseRule(Setting setting, MeterRegistry meterRegistry) {
+			this.setting = setting;
+			this.matchExpression = JsonPath.compile(setting.getMatchExpression());
+			this.fromAddress = Pattern.compile(setting.getFromAddress());
+			this.matchCounter = Counter.builder(MATCH_METRIC).tag("ruleId", String.valueOf(setting.getRuleId()))
+					.register(meterRegistry);
+		}
+
+		public Setting getSetting() {
+			return setting;
+		}
+
+		boolean matchesFromAddress(String address) {
+			return fromAddress.matcher(address).matches();
+		}
+
+		/**
+		 * Returns true if the match expression selects anything in the parsed message.
+		 */
+		public boolean matches(Object document) {
+			JSONArray jsonArray = matchExpression.read(document);
+			if (jsonArray.isEmpty())
+				return false;
+			matchCounter.increment();
+			return true;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package io.mosip.registration.processor.camel.bridge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.registration.processor.camel.bridge.intercepter.PauseFlowPredicate;
+import io.mosip.registration.processor.camel.bridge.intercepter.RouteIntercepter;
+
+public class CamelConfigReloaderTest {
+
+	private static final String ROUTES_URL = "http://localhost/config/";
+
+	private static final String ROUTES_FILE = "registration-processor-camel-routes-new-secure.xml";
+
+	private CamelContext camelContext;
+
+	private RestTemplate restTemplate;
+
+	private PauseFlowPredicate pauseFlowPredicate;
+
+	private Callable<String> pauseSettingsReader;
+
+	private MeterRegistry meterRegistry;
+
+	private CamelConfigReloader camelConfigReloader;
+
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setup() throws Exception {
+		camelContext = new DefaultCamelContext();
+		restTemplate = mock(RestTemplate.class);
+		pauseFlowPredicate = mock(PauseFlowPredicate.class);
+		pauseSettingsReader = mock(Callable.class);
+		RouteIntercepter routeIntercepter = mock(RouteIntercepter.class);
+		when(routeIntercepter.intercept(any(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+		meterRegistry = new SimpleMeterRegistry();
+		camelConfigReloader = new CamelConfigReloader(camelContext, routeIntercepter, pauseFlowPredicate,
+				restTemplate, ROUTES_URL, Arrays.asList(ROUTES_FILE), pauseSettingsReader, meterRegistry);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		camelContext.stop();
+	}
+
+	@Test
+	public void testReloadAppliesChangedRoutesOnly() throws Exception {
+		mockRoutes("route-a");
+		camelConfigReloader.loadRoutes();
+		camelContext.start();
+		assertNotNull(camelContext.getRoute("route-a"));
+
+		assertFalse(camelConfigReloader.reload());
+		assertEquals(0, camelConfigReloader.getConfigVersion());
+
+		mockRoutes("route-b");
+		assertTrue(camelConfigReloader.reload());
+		assertEquals(1, camelConfigReloader.getConfigVersion());
+		assertNull(camelContext.getRoute("route-a"));
+		assertNotNull(camelContext.getRoute("route-b"));
+		assertEquals(1, camelContext.getRoutes().size());
+		assertEquals(1, meterRegistry.get("mosip.regproc.camelbridge.reload.time").tag("outcome", "changed").timer()
+				.count());
+	}
+
+	@Test
+	public void testReloadAppliesChangedPauseSettings() throws Exception {
+		mockRoutes("route-a");
+		camelConfigReloader.loadRoutes();
+		camelContext.start();
+		when(pauseSettingsReader.call()).thenReturn("[]");
+		when(pauseFlowPredicate.reloadSettings("[]")).thenReturn(true);
+
+		assertTrue(camelConfigReloader.reload());
+		assertEquals(1, camelConfigReloader.getConfigVersion());
+		assertNotNull(camelContext.getRoute("route-a"));
+	}
+
+	@Test
+	public void testFailedReloadKeepsCurrentRoutes() throws Exception {
+		mockRoutes("route-a");
+		camelConfigReloader.loadRoutes();
+		camelContext.start();
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(Resource.class)))
+				.thenThrow(new ResourceAccessException("config server down"));
+
+		assertFalse(camelConfigReloader.reload());
+		assertEquals(0, camelConfigReloader.getConfigVersion());
+		assertNotNull(camelContext.getRoute("route-a"));
+		assertEquals(1, meterRegistry.get("mosip.regproc.camelbridge.reload.time").tag("outcome", "failed").timer()
+				.count());
+	}
+
+	private void mockRoutes(String routeId) {
+		String routes = "<routes xmlns=\"http://camel.apache.org/schema/spring\"><route id=\"" + routeId
+				+ "\"><from uri=\"direct:" + routeId + "\"/><to uri=\"log:" + routeId + "\"/></route></routes>";
+		when(restTemplate.exchange(ROUTES_URL + ROUTES_FILE, HttpMethod.GET, null, Resource.class))
+				.thenReturn(new ResponseEntity<>(new ByteArrayResource(routes.getBytes(StandardCharsets.UTF_8)),
+						HttpStatus.OK));
+	}
+}
@@ -3,9 +3,13 @@ package io.mosip.registration.processor.camel.bridge;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,9 +32,12 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.processor.camel.bridge.intercepter.PauseFlowPredicate;
+import io.mosip.registration.processor.camel.bridge.intercepter.PauseRules;
 import io.mosip.registration.processor.camel.bridge.model.Setting;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
 import io.mosip.registration.processor.core.abstractverticle.WorkflowInternalActionDTO;
@@ -215,4 +222,77 @@ public class PauseFlowPredicateTest {
 		assertEquals(1,
 				workflowInternalActionDTO.getMatchedRuleIds().size());
 	}
+
+	@Test
+	public void testPauseRulesCompiledOncePerSettings() throws Exception {
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("10002100741000120201231071308");
+		messageDTO.setTags(new HashMap<>());
+		String message = objectMapper.writeValueAsString(messageDTO);
+		exchange.getMessage().setBody(message);
+		assertFalse(pauseFlowPredicate.matches(exchange));
+		PauseRules pauseRules = (PauseRules) ReflectionTestUtils.getField(pauseFlowPredicate, "pauseRules");
+		exchange.getMessage().setBody(message);
+		assertFalse(pauseFlowPredicate.matches(exchange));
+		assertSame(pauseRules, ReflectionTestUtils.getField(pauseFlowPredicate, "pauseRules"));
+		assertEquals(2, pauseRules.getRules("bio-debup-bus-out").size());
+		assertTrue(pauseRules.getRules("wrongendpointtest").isEmpty());
+
+		Setting[] settings = new Setting[] { new Setting("HOTLISTED_OPERATOR",
+				"$.tags[?(@['HOTLISTED'] == 'operator')]", 100, "STOP_PROCESSING", ".*-bus-out", "HotListed paused") };
+		ReflectionTestUtils.setField(pauseFlowPredicate, "settings", settings);
+		Map<String, String> tags = new HashMap<>();
+		tags.put("HOTLISTED", "operator");
+		messageDTO.setTags(tags);
+		exchange.getMessage().setBody(objectMapper.writeValueAsString(messageDTO));
+		assertTrue(pauseFlowPredicate.matches(exchange));
+		assertNotSame(pauseRules, ReflectionTestUtils.getField(pauseFlowPredicate, "pauseRules"));
+	}
+
+	@Test
+	public void testReloadOfStartupSettingsFromConfigServerKeepsRules() throws Exception {
+		String settingsString = "[{\"ruleId\" :\"HOTLISTED_OPERATOR\",\"matchExpression\": \"$.tags[?(@['HOTLISTED'] == 'operator')]\",\"pauseFor\": 100,\"defaultResumeAction\": \"RESUME_PROCESSING\",\"fromAddress\": \"bio-debup-bus-out\",\"ruleDescription\": \"Op\u00e9rateur paus\u00e9\"}]";
+		// the value spring reads from the properties as ISO-8859-1
+		ReflectionTestUtils.setField(pauseFlowPredicate, "settingsString",
+				new String(settingsString.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1));
+		ReflectionTestUtils.invokeMethod(pauseFlowPredicate, "init");
+		Setting[] settings = (Setting[]) ReflectionTestUtils.getField(pauseFlowPredicate, "settings");
+
+		assertEquals("Op\u00e9rateur paus\u00e9", settings[0].getRuleDescription());
+		assertFalse(pauseFlowPredicate.reloadSettings(settingsString));
+		assertSame(settings, ReflectionTestUtils.getField(pauseFlowPredicate, "settings"));
+	}
+
+	@Test
+	public void testReloadSettingsSwapsRulesAndCountsMatches() throws Exception {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ReflectionTestUtils.setField(pauseFlowPredicate, "meterRegistry", meterRegistry);
+		String settingsString = "[{\"ruleId\" :\"HOTLISTED_OPERATOR\",\"matchExpression\": \"$.tags[?(@['HOTLISTED'] == 'operator')]\",\"pauseFor\": 100,\"defaultResumeAction\": \"RESUME_PROCESSING\",\"fromAddress\": \"bio-debup-bus-out\",\"ruleDescription\": \"HotListed paused\"}]";
+
+		assertTrue(pauseFlowPredicate.reloadSettings(settingsString));
+		PauseRules pauseRules = (PauseRules) ReflectionTestUtils.getField(pauseFlowPredicate, "pauseRules");
+		assertFalse(pauseFlowPredicate.reloadSettings(settingsString));
+		try {
+			pauseFlowPredicate.reloadSettings("[{\"ruleId\" :");
+			fail();
+		} catch (IOException e) {
+			assertSame(pauseRules, ReflectionTestUtils.getField(pauseFlowPredicate, "pauseRules"));
+		}
+
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("10002100741000120201231071308");
+		Map<String, String> tags = new HashMap<>();
+		tags.put("HOTLISTED", "operator");
+		tags.put("AGE_GROUP", "CHILD");
+		tags.put("ID_OBJECT-residenceStatus", "nonResident");
+		messageDTO.setTags(tags);
+		exchange.getMessage().setBody(objectMapper.writeValueAsString(messageDTO));
+		assertTrue(pauseFlowPredicate.matches(exchange));
+		WorkflowInternalActionDTO workflowInternalActionDTO = objectMapper
+				.readValue(exchange.getMessage().getBody().toString(), WorkflowInternalActionDTO.class);
+		assertEquals(1, workflowInternalActionDTO.getMatchedRuleIds().size());
+		assertEquals("RESUME_PROCESSING", workflowInternalActionDTO.getDefaultResumeAction());
+		assertEquals(1.0, meterRegistry.get("mosip.regproc.camelbridge.pause.rule.matches")
+				.tag("ruleId", "HOTLISTED_OPERATOR").counter().count(), 0);
+	}
 }
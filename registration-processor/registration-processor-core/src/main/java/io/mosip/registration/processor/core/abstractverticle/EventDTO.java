@@ -24,14 +24,23 @@ public class EventDTO implements Serializable {
 	/** The Json object body of an event. */
 	private JsonObject body;
 
+	/** The raw json string body of an event as received from the bus. */
+	private String rawBody;
+
+	/** The lastHopTimestamp of the message when the bus carries it outside the body. */
+	private String lastHopTimestamp;
+
 	
 	/**
-	 * Gets the body .
+	 * Gets the body, parsed from the raw body on first access when the event
+	 * was created from the raw message.
 	 *
 	 * @return the body
 	 */
 
 	public JsonObject getBody() {
+		if (this.body == null && this.rawBody != null)
+			this.body = new JsonObject(this.rawBody);
 		return this.body;
 	}
 
@@ -44,5 +53,44 @@ public class EventDTO implements Serializable {
 		this.body = body;
 	}
 
+	/**
+	 * Gets the raw body, encoded from the body when the event was created from
+	 * a JsonObject.
+	 *
+	 * @return the raw json string body
+	 */
+	public String getRawBody() {
+		if (this.rawBody == null && this.body != null)
+			return this.body.encode();
+		return this.rawBody;
+	}
+
+	/**
+	 * Sets the raw body.
+	 *
+	 * @param rawBody the raw json string received from the bus
+	 */
+	public void setRawBody(String rawBody) {
+		this.rawBody = rawBody;
+	}
+
+	/**
+	 * Gets the lastHopTimestamp read from the message headers.
+	 *
+	 * @return the lastHopTimestamp, null when the bus did not carry it
+	 */
+	public String getLastHopTimestamp() {
+		return lastHopTimestamp;
+	}
+
+	/**
+	 * Sets the lastHopTimestamp.
+	 *
+	 * @param lastHopTimestamp the timestamp in ISO format
+	 */
+	public void setLastHopTimestamp(String lastHopTimestamp) {
+		this.lastHopTimestamp = lastHopTimestamp;
+	}
+
 	
 }
@@ -55,4 +55,17 @@ public interface MosipEventBus {
 	public void consumerHealthCheck(Handler<HealthCheckDTO> eventHandler, String address);
 
 	public void senderHealthCheck(Handler<HealthCheckDTO> eventHandler, String address);
+
+	/**
+	 * Stop receiving new events from the consumed address, used for back pressure when the
+	 * stage can not keep up. Events already received are still handed to the handler
+	 */
+	public default void pauseConsumption() {
+	}
+
+	/**
+	 * Start receiving events again after {@link #pauseConsumption()}
+	 */
+	public default void resumeConsumption() {
+	}
 }
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.MDC;
@@ -26,6 +27,7 @@ import io.mosip.kernel.core.util.JsonUtils;
 import io.mosip.kernel.core.util.exception.JsonProcessingException;
 import io.mosip.registration.processor.core.code.ApiName;
 import io.mosip.registration.processor.core.constant.HealthConstant;
+import io.mosip.registration.processor.core.eventbus.MessageDTOCodec;
 import io.mosip.registration.processor.core.eventbus.MosipEventBusFactory;
 import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
 import io.mosip.registration.processor.core.exception.DeploymentFailureException;
@@ -41,15 +43,22 @@ import io.mosip.registration.processor.core.packet.dto.packetmanager.TagResponse
 import io.mosip.registration.processor.core.spi.eventbus.EventBusManager;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
 import io.mosip.registration.processor.core.util.PropertiesUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.eventbus.EventBusOptions;
-import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
 import io.vertx.micrometer.VertxPrometheusOptions;
 import io.vertx.spi.cluster.hazelcast.HazelcastClusterManager;
 
@@ -76,6 +85,18 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 
 	private static final boolean DEFAULT_MESSAGE_TAG_LOADING_DISABLE_VALUE = false;
 
+	private static final String WORKER_POOL_SIZE = "worker.pool.size";
+
+	private static final String WORKER_QUEUE_SIZE = "worker.queue.size";
+
+	private static final int DEFAULT_WORKER_POOL_SIZE = 0;
+
+	private static final String WORKER_VIRTUAL_THREADS_ENABLED = "worker.virtual-threads.enabled";
+
+	private static final String WORKER_VIRTUAL_THREADS_MAX_CONCURRENCY = "worker.virtual-threads.max-concurrency";
+
+	private static final int DEFAULT_VIRTUAL_THREADS_MAX_CONCURRENCY = 1000;
+
     @Autowired
     private RegistrationProcessorRestClientService<Object> restApi;
 
@@ -99,8 +120,15 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 	@Autowired
 	private MosipEventBusFactory mosipEventBusFactory;
 
+	@Autowired(required = false)
+	private List<StageMessageListener> stageMessageListeners;
+
 	protected MosipEventBus mosipEventBus;
 
+	private StageWorkerExecutor stageWorkerExecutor;
+
+	private boolean stageWorkerExecutorResolved;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -182,20 +210,16 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 			return;
 		}
 		mosipEventBus.consumeAndSend(fromAddress, toAddress, (msg, handler) -> {
-			logger.debug("consumeAndSend received from {} {}",fromAddress.toString(), msg.getBody());
+			logger.debug("consumeAndSend received from {} {}",fromAddress.toString(), msg.getRawBody());
+			if(dropIfExpired(msg, messageExpiryTimeLimit, handler))
+				return;
 			Map<String, String> mdc = MDC.getCopyOfContextMap();
-			vertx.executeBlocking(future -> {
+			executeBlocking(future -> {
 				MessageDTO messageDTO =new MessageDTO();
 				try {
 				MDC.setContextMap(mdc);
-				JsonObject jsonObject = (JsonObject) msg.getBody();
-				messageDTO = objectMapper.readValue(objectMapper.writeValueAsString(jsonObject.getMap()), MessageDTO.class);
-				if(isMessageExpired(messageDTO, messageExpiryTimeLimit)) {
-					future.fail(new MessageExpiredException("rid: " + messageDTO.getRid() +
-						" lastHopTimestamp " + messageDTO.getLastHopTimestamp()));
-					return;
-				}
-				
+				messageDTO = MessageDTOCodec.decode(msg.getRawBody());
+					notifyStageMessageListeners(messageDTO);
 					MessageDTO result = process(messageDTO);
 					addTagsToMessageDTO(result);
 					result.setLastHopTimestamp(DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime()));
@@ -212,7 +236,7 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 					future.complete(messageDTO);
 				}
 
-			}, false, handler);
+			}, handler);
 			MDC.clear();
 		});
 	}
@@ -248,20 +272,16 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 	public void consume(MosipEventBus mosipEventBus, MessageBusAddress fromAddress,
 			long messageExpiryTimeLimit) {
 		mosipEventBus.consume(fromAddress, (msg, handler) -> {
-			logger.debug("Received from {} {}",fromAddress.toString(), msg.getBody());
+			logger.debug("Received from {} {}",fromAddress.toString(), msg.getRawBody());
+			if(dropIfExpired(msg, messageExpiryTimeLimit, handler))
+				return;
 			Map<String, String> mdc = MDC.getCopyOfContextMap();
-			vertx.executeBlocking(future -> {
+			executeBlocking(future -> {
 				MessageDTO messageDTO=new MessageDTO();
 				try {
 				MDC.setContextMap(mdc);
-				JsonObject jsonObject = (JsonObject) msg.getBody();
-				messageDTO = objectMapper.readValue(objectMapper.writeValueAsString(jsonObject.getMap()), MessageDTO.class);
-				if(isMessageExpired(messageDTO, messageExpiryTimeLimit)) {
-					future.fail(new MessageExpiredException("rid: " + messageDTO.getRid() +
-						" lastHopTimestamp " + messageDTO.getLastHopTimestamp()));
-					return;
-				}
-				
+				messageDTO = MessageDTOCodec.decode(msg.getRawBody());
+					notifyStageMessageListeners(messageDTO);
 					MessageDTO result = process(messageDTO);
 					future.complete(result);
 				} catch (Exception e) {
@@ -273,11 +293,80 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 					messageDTO.setInternalError(true);
 					future.complete(messageDTO);
 				}
-			}, false, handler);
+			}, handler);
 			MDC.clear();
 		});
 	}
 
+	private void notifyStageMessageListeners(MessageDTO messageDTO) {
+		if (stageMessageListeners != null)
+			stageMessageListeners.forEach(listener -> listener.beforeProcess(messageDTO));
+	}
+
+	/**
+	 * Runs the blocking code on virtual threads when worker.virtual-threads.enabled is
+	 * set and the JDK supports them, on the stage worker pool when one is configured
+	 * through worker.pool.size, otherwise on the shared vertx worker pool
+	 *
+	 * @param blockingCodeHandler
+	 *            the blocking code
+	 * @param resultHandler
+	 *            the handler called with the result
+	 */
+	protected <T> void executeBlocking(Handler<Promise<T>> blockingCodeHandler,
+			Handler<AsyncResult<T>> resultHandler) {
+		StageWorkerExecutor workerExecutor = getStageWorkerExecutor();
+		if (workerExecutor != null)
+			workerExecutor.executeBlocking(blockingCodeHandler, resultHandler);
+		else
+			vertx.executeBlocking(blockingCodeHandler, false, resultHandler);
+	}
+
+	private synchronized StageWorkerExecutor getStageWorkerExecutor() {
+		if (!stageWorkerExecutorResolved) {
+			stageWorkerExecutorResolved = true;
+			MeterRegistry meterRegistry = BackendRegistries.getDefaultNow();
+			if (meterRegistry == null)
+				meterRegistry = Metrics.globalRegistry;
+			if (propertiesUtil.getProperty(getPropertyPrefix() + WORKER_VIRTUAL_THREADS_ENABLED, Boolean.class,
+					false)) {
+				ExecutorService virtualThreadExecutor = StageWorkerExecutor.createVirtualThreadExecutor();
+				if (virtualThreadExecutor != null) {
+					Integer maxConcurrency = propertiesUtil.getProperty(
+							getPropertyPrefix() + WORKER_VIRTUAL_THREADS_MAX_CONCURRENCY, Integer.class,
+							DEFAULT_VIRTUAL_THREADS_MAX_CONCURRENCY);
+					Integer queueSize = propertiesUtil.getProperty(getPropertyPrefix() + WORKER_QUEUE_SIZE,
+							Integer.class, maxConcurrency * 2);
+					stageWorkerExecutor = new StageWorkerExecutor(vertx, getPropertyPrefix() + "worker",
+							virtualThreadExecutor, maxConcurrency, queueSize, meterRegistry,
+							this::pauseConsumption, this::resumeConsumption);
+					return stageWorkerExecutor;
+				}
+				logger.warn("Virtual threads are not supported by the running JDK, falling back to worker threads for {}",
+						getPropertyPrefix());
+			}
+			Integer poolSize = propertiesUtil.getProperty(getPropertyPrefix() + WORKER_POOL_SIZE, Integer.class,
+					DEFAULT_WORKER_POOL_SIZE);
+			if (poolSize != null && poolSize > 0) {
+				Integer queueSize = propertiesUtil.getProperty(getPropertyPrefix() + WORKER_QUEUE_SIZE,
+						Integer.class, poolSize * 2);
+				stageWorkerExecutor = new StageWorkerExecutor(vertx, getPropertyPrefix() + "worker", poolSize,
+						queueSize, meterRegistry, this::pauseConsumption, this::resumeConsumption);
+			}
+		}
+		return stageWorkerExecutor;
+	}
+
+	private void pauseConsumption() {
+		if (mosipEventBus != null)
+			mosipEventBus.pauseConsumption();
+	}
+
+	private void resumeConsumption() {
+		if (mosipEventBus != null)
+			mosipEventBus.resumeConsumption();
+	}
+
 	public Integer getEventBusPort() {
 		return getIntegerPropertyForSuffix("eventbus.port");
 	}
@@ -357,11 +446,38 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 		return tagResponseDto != null ? tagResponseDto.getTags() : null;
 	}
 
-	private boolean isMessageExpired(MessageDTO messageDTO, long messageExpiryTimeLimit) {
+	/**
+	 * Checks the expiry of the event on the event loop before it is decoded or handed
+	 * to a worker, using the lastHopTimestamp header when the bus carries one and
+	 * otherwise reading only that field from the raw message. Expired events are
+	 * failed with MessageExpiredException, which the event bus skips and commits
+	 *
+	 * @return true if the event was expired and has been handled
+	 */
+	private boolean dropIfExpired(EventDTO msg, long messageExpiryTimeLimit,
+			Handler<AsyncResult<MessageDTO>> handler) {
+		if(messageExpiryTimeLimit <= 0)
+			return false;
+		String lastHopTimestamp = msg.getLastHopTimestamp();
+		try {
+			if(lastHopTimestamp == null)
+				lastHopTimestamp = MessageDTOCodec.readField(msg.getRawBody(), "lastHopTimestamp");
+		} catch(DecodeException e) {
+			// left to the full decode to report the invalid message
+			return false;
+		}
+		if(!isMessageExpired(lastHopTimestamp, messageExpiryTimeLimit))
+			return false;
+		handler.handle(Future.failedFuture(new MessageExpiredException("rid: " +
+			MessageDTOCodec.readField(msg.getRawBody(), "rid") + " lastHopTimestamp " + lastHopTimestamp)));
+		return true;
+	}
+
+	private boolean isMessageExpired(String lastHopTimestamp, long messageExpiryTimeLimit) {
 		if(messageExpiryTimeLimit <= 0)
 			return false;
 		try {
-			LocalDateTime lastHopDateTime = DateUtils.parseUTCToLocalDateTime(messageDTO.getLastHopTimestamp());
+			LocalDateTime lastHopDateTime = DateUtils.parseUTCToLocalDateTime(lastHopTimestamp);
 			LocalDateTime nowDateTime = LocalDateTime.now();
 			if(ChronoUnit.SECONDS.between(lastHopDateTime, nowDateTime) <= messageExpiryTimeLimit)
 				return false;
@@ -0,0 +1,17 @@
+package io.mosip.registration.processor.core.abstractverticle;
+
+/**
+ * Bean notified by the stages before a message received from the event bus is
+ * processed, so that the state kept for a packet between messages can be scoped
+ * to the workflow instance and iteration of the message.
+ */
+public interface StageMessageListener {
+
+	/**
+	 * Called on the worker thread before the message is processed by the stage
+	 *
+	 * @param message
+	 *            the received message
+	 */
+	void beforeProcess(MessageDTO message);
+}
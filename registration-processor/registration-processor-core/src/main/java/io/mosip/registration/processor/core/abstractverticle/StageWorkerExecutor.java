@@ -0,0 +1,202 @@
+package io.mosip.registration.processor.core.abstractverticle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+/**
+ * Named worker pool dedicated to one stage, so that stages deployed together in
+ * a stage group do not compete for the shared vertx worker threads. Once the
+ * events queued or running on the pool reach the queue size, the saturation
+ * handler is called and the drain handler is called back when the queue comes
+ * down to half of it.
+ * 
+ * The pool can instead run each event on its own virtual thread when the JDK
+ * supports it, with the number of events processed at a time limited by a
+ * semaphore, so that stages blocking on remote calls can keep many more packets
+ * in flight than worker threads
+ */
+public class StageWorkerExecutor {
+
+	private static final String QUEUE_DEPTH_METRIC = "mosip.regproc.stage.worker.queue.depth";
+
+	private static final String WAIT_TIME_METRIC = "mosip.regproc.stage.worker.wait.time";
+
+	/** The logger. */
+	private Logger logger = RegProcessorLogger.getLogger(StageWorkerExecutor.class);
+
+	private final String name;
+
+	private final Vertx vertx;
+
+	private final WorkerExecutor workerExecutor;
+
+	private final ExecutorService virtualThreadExecutor;
+
+	private final Semaphore concurrencyLimit;
+
+	private final int queueSize;
+
+	private final AtomicInteger queueDepth = new AtomicInteger();
+
+	private final AtomicBoolean saturated = new AtomicBoolean();
+
+	private final Timer waitTimer;
+
+	private final Runnable saturationHandler;
+
+	private final Runnable drainHandler;
+
+	/**
+	 * Instantiates a new stage worker executor.
+	 *
+	 * @param vertx             the vertx instance
+	 * @param name              the name of the pool, also used as stage tag of the metrics
+	 * @param poolSize          the number of worker threads
+	 * @param queueSize         the number of events queued or running after which the pool
+	 *                          is considered saturated
+	 * @param meterRegistry     registry to publish queue depth and wait time
+	 * @param saturationHandler called once when the pool gets saturated
+	 * @param drainHandler      called once when a saturated pool drains to half the queue size
+	 */
+	public StageWorkerExecutor(Vertx vertx, String name, int poolSize, int queueSize,
+			MeterRegistry meterRegistry, Runnable saturationHandler, Runnable drainHandler) {
+		this(vertx, name, vertx.createSharedWorkerExecutor(name, poolSize), null, poolSize, queueSize,
+				meterRegistry, saturationHandler, drainHandler);
+	}
+
+	/**
+	 * Instantiates a new stage worker executor running the events on virtual
+	 * threads.
+	 *
+	 * @param vertx                 the vertx instance
+	 * @param name                  the name of the pool, also used as stage tag of the metrics
+	 * @param virtualThreadExecutor the executor creating a virtual thread per task, see
+	 *                              {@link #createVirtualThreadExecutor()}
+	 * @param maxConcurrency        the number of events processed at a time
+	 * @param queueSize             the number of events queued or running after which the pool
+	 *                              is considered saturated
+	 * @param meterRegistry         registry to publish queue depth and wait time
+	 * @param saturationHandler     called once when the pool gets saturated
+	 * @param drainHandler          called once when a saturated pool drains to half the queue size
+	 */
+	public StageWorkerExecutor(Vertx vertx, String name, ExecutorService virtualThreadExecutor,
+			int maxConcurrency, int queueSize, MeterRegistry meterRegistry, Runnable saturationHandler,
+			Runnable drainHandler) {
+		this(vertx, name, null, virtualThreadExecutor, maxConcurrency, queueSize, meterRegistry,
+				saturationHandler, drainHandler);
+	}
+
+	private StageWorkerExecutor(Vertx vertx, String name, WorkerExecutor workerExecutor,
+			ExecutorService virtualThreadExecutor, int concurrency, int queueSize, MeterRegistry meterRegistry,
+			Runnable saturationHandler, Runnable drainHandler) {
+		this.vertx = vertx;
+		this.name = name;
+		this.workerExecutor = workerExecutor;
+		this.virtualThreadExecutor = virtualThreadExecutor;
+		this.concurrencyLimit = new Semaphore(concurrency);
+		this.queueSize = queueSize;
+		this.saturationHandler = saturationHandler;
+		this.drainHandler = drainHandler;
+		Gauge.builder(QUEUE_DEPTH_METRIC, queueDepth, AtomicInteger::get)
+				.tag("stage", name).register(meterRegistry);
+		this.waitTimer = Timer.builder(WAIT_TIME_METRIC).tag("stage", name).register(meterRegistry);
+		logger.info("Stage worker executor {} created with concurrency: {} queueSize: {} virtualThreads: {}",
+				name, concurrency, queueSize, virtualThreadExecutor != null);
+	}
+
+	/**
+	 * Creates an executor that starts a new virtual thread for each task
+	 *
+	 * @return the executor, null when the running JDK does not support virtual threads
+	 */
+	public static ExecutorService createVirtualThreadExecutor() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Runs the blocking code on the stage worker pool, calls are not ordered
+	 *
+	 * @param blockingCodeHandler the blocking code
+	 * @param resultHandler       the handler called with the result on the caller context
+	 */
+	public <T> void executeBlocking(Handler<Promise<T>> blockingCodeHandler,
+			Handler<AsyncResult<T>> resultHandler) {
+		long queuedTime = System.nanoTime();
+		if (queueDepth.incrementAndGet() >= queueSize && saturated.compareAndSet(false, true)) {
+			logger.warn("Stage worker executor {} saturated with queue depth {}", name, queueDepth.get());
+			saturationHandler.run();
+		}
+		Handler<AsyncResult<T>> completionHandler = result -> {
+			if (queueDepth.decrementAndGet() <= queueSize / 2 && saturated.compareAndSet(true, false)) {
+				logger.info("Stage worker executor {} drained to queue depth {}", name, queueDepth.get());
+				drainHandler.run();
+			}
+			resultHandler.handle(result);
+		};
+		if (virtualThreadExecutor != null) {
+			executeOnVirtualThread(blockingCodeHandler, completionHandler, queuedTime);
+			return;
+		}
+		workerExecutor.<T>executeBlocking(promise -> {
+			waitTimer.record(System.nanoTime() - queuedTime, TimeUnit.NANOSECONDS);
+			blockingCodeHandler.handle(promise);
+		}, false, completionHandler);
+	}
+
+	private <T> void executeOnVirtualThread(Handler<Promise<T>> blockingCodeHandler,
+			Handler<AsyncResult<T>> completionHandler, long queuedTime) {
+		Context context = vertx.getOrCreateContext();
+		Promise<T> promise = Promise.promise();
+		promise.future().onComplete(result -> context.runOnContext(v -> completionHandler.handle(result)));
+		virtualThreadExecutor.execute(() -> {
+			boolean acquired = false;
+			try {
+				concurrencyLimit.acquire();
+				acquired = true;
+				waitTimer.record(System.nanoTime() - queuedTime, TimeUnit.NANOSECONDS);
+				blockingCodeHandler.handle(promise);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				promise.tryFail(e);
+			} catch (Throwable e) {
+				promise.tryFail(e);
+			} finally {
+				if (acquired)
+					concurrencyLimit.release();
+			}
+		});
+	}
+
+	public int getQueueDepth() {
+		return queueDepth.get();
+	}
+
+	public void close() {
+		if (workerExecutor != null)
+			workerExecutor.close();
+		if (virtualThreadExecutor != null)
+			virtualThreadExecutor.shutdown();
+	}
+}
@@ -1,11 +1,14 @@
 package io.mosip.registration.processor.core.eventbus;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -32,13 +35,13 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.json.JsonObject;
 import io.vertx.kafka.client.common.TopicPartition;
 import io.vertx.kafka.client.consumer.KafkaConsumer;
 import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
 import io.vertx.kafka.client.consumer.KafkaConsumerRecords;
 import io.vertx.kafka.client.consumer.OffsetAndMetadata;
 import io.vertx.kafka.client.consumer.impl.KafkaConsumerRecordsImpl;
+import io.vertx.kafka.client.producer.KafkaHeader;
 import io.vertx.kafka.client.producer.KafkaProducer;
 import io.vertx.kafka.client.producer.KafkaProducerRecord;
 
@@ -52,6 +55,11 @@ public class KafkaMosipEventBus implements MosipEventBus {
 	/** The logger. */
 	private Logger logger = RegProcessorLogger.getLogger(KafkaMosipEventBus.class);
 
+	private static final int DEFAULT_MAX_IN_FLIGHT_PER_PARTITION = 100;
+
+	/** Header carrying the lastHopTimestamp of the message, to check expiry without decoding the value */
+	static final String LAST_HOP_TIMESTAMP_HEADER = "lastHopTimestamp";
+
 	/** The vertx instance that will be used by this event bus */
 	private Vertx vertx = null;
 
@@ -63,6 +71,26 @@ public class KafkaMosipEventBus implements MosipEventBus {
 
 	private int pollFrequency;
 
+	private int maxInFlightPerPartition;
+
+	private int keyOrderedLanesPerPartition;
+
+	private Map<TopicPartition, PartitionOffsetTracker> partitionOffsetTrackers = new ConcurrentHashMap<>();
+
+	private Map<TopicPartition, PartitionLanes> partitionLanes = new ConcurrentHashMap<>();
+
+	/** Partitions paused by the commit processing flow, not to be resumed by back pressure */
+	private Set<TopicPartition> flowPausedPartitions = ConcurrentHashMap.newKeySet();
+
+	/** Back pressure state requested by the stage */
+	private volatile boolean consumptionPaused;
+
+	/** Back pressure state applied on the kafka consumer */
+	private boolean consumptionPauseApplied;
+
+	/** Whether a partition resume was skipped because of back pressure */
+	private volatile boolean partitionResumeDeferred;
+
 	private EventTracingHandler eventTracingHandler;
 
 	/**
@@ -74,18 +102,51 @@ public class KafkaMosipEventBus implements MosipEventBus {
 	 * @param groupId          The group id that consumer should use to associate to
 	 *                         a consumer group
 	 * @param commitType       The commit type that should be used by kafka
-	 *                         consumer, supported types: auto, batch and single
+	 *                         consumer, supported types: auto, batch, single and pipelined
 	 * @param maxPollRecords   Maximum records that can be received in one poll to kafka
 	 * @param pollFrequency    Interval between each poll calls to kafka in milli sec
 	 * @param eventTracingHandler
 	 */
 	public KafkaMosipEventBus(Vertx vertx, String bootstrapServers, String groupId,
 			String commitType, String maxPollRecords, int pollFrequency, EventTracingHandler eventTracingHandler) {
+		this(vertx, bootstrapServers, groupId, commitType, maxPollRecords, pollFrequency,
+			DEFAULT_MAX_IN_FLIGHT_PER_PARTITION, 0, new HashMap<>(), eventTracingHandler);
+	}
+
+	/**
+	 * Instantiates a new kafka mosip event bus.
+	 *
+	 * @param vertx                   The vertx instance
+	 * @param bootstrapServers        Kafka cluster server, that producer and consumer
+	 *                                should connect to
+	 * @param groupId                 The group id that consumer should use to associate to
+	 *                                a consumer group
+	 * @param commitType              The commit type that should be used by kafka
+	 *                                consumer, supported types: auto, batch, single and pipelined
+	 * @param maxPollRecords          Maximum records that can be received in one poll to kafka
+	 * @param pollFrequency           Interval between each poll calls to kafka in milli sec
+	 * @param maxInFlightPerPartition Maximum uncommitted records per partition after which
+	 *                                the partition is paused, used only by pipelined commit type
+	 * @param keyOrderedLanesPerPartition Number of lanes the records of a partition are fanned
+	 *                                out to by record key, records with same key are processed
+	 *                                in order, 0 processes all records in parallel, used only by
+	 *                                pipelined commit type
+	 * @param producerConfigOverrides Kafka producer configurations like acks, linger.ms,
+	 *                                batch.size and compression.type to be applied over
+	 *                                the defaults
+	 * @param eventTracingHandler
+	 */
+	public KafkaMosipEventBus(Vertx vertx, String bootstrapServers, String groupId,
+			String commitType, String maxPollRecords, int pollFrequency, int maxInFlightPerPartition,
+			int keyOrderedLanesPerPartition, Map<String, String> producerConfigOverrides,
+			EventTracingHandler eventTracingHandler) {
 
 		validateCommitType(commitType);
 		this.vertx = vertx;
 		this.commitType = commitType;
 		this.pollFrequency = pollFrequency;
+		this.maxInFlightPerPartition = maxInFlightPerPartition;
+		this.keyOrderedLanesPerPartition = keyOrderedLanesPerPartition;
 		this.eventTracingHandler = eventTracingHandler;
 
 		Map<String, String> consumerConfig = new HashMap<>();
@@ -102,6 +163,8 @@ public class KafkaMosipEventBus implements MosipEventBus {
 		else
 			consumerConfig.put("enable.auto.commit", "false");
 		this.kafkaConsumer = KafkaConsumer.create(vertx, consumerConfig);
+		if (commitType.equals("pipelined"))
+			this.kafkaConsumer.partitionsRevokedHandler(this::clearPartitionOffsetTrackers);
 
 		Map<String, String> producerConfig = new HashMap<>();
 		producerConfig.put("bootstrap.servers", bootstrapServers);
@@ -110,10 +173,11 @@ public class KafkaMosipEventBus implements MosipEventBus {
 		producerConfig.put("value.serializer", 
 			"org.apache.kafka.common.serialization.StringSerializer");
 		producerConfig.put("acks", "1");
+		producerConfig.putAll(producerConfigOverrides);
 		this.kafkaProducer = KafkaProducer.create(vertx, producerConfig);
 
-		logger.info("KafkaMosipEventBus loaded with configuration: bootstrapServers: {} groupId: {} commitType: {}",
-				bootstrapServers , groupId , commitType);
+		logger.info("KafkaMosipEventBus loaded with configuration: bootstrapServers: {} groupId: {} commitType: {} producerConfigOverrides: {}",
+				bootstrapServers , groupId , commitType, producerConfigOverrides);
 	}
 
 	/*
@@ -165,12 +229,13 @@ public class KafkaMosipEventBus implements MosipEventBus {
 	public void send(MessageBusAddress toAddress, MessageDTO message) {
 		MessageBusAddress messageBusAddress = 
 			new MessageBusAddress(toAddress, message.getReg_type());
-		JsonObject jsonObject = JsonObject.mapFrom(message);
-		logger.info("send called with toAddress {}, for message {}", toAddress.getAddress(), jsonObject);
+		String encodedMessage = MessageDTOCodec.encode(message);
+		logger.info("send called with toAddress {}, for message {}", toAddress.getAddress(), encodedMessage);
 		KafkaProducerRecord<String, String> producerRecord = 
 			KafkaProducerRecord.create(messageBusAddress.getAddress(), message.getRid(), 
-				jsonObject.toString());
+				encodedMessage);
 		this.eventTracingHandler.writeHeaderOnKafkaProduce(producerRecord);
+		addLastHopTimestampHeader(producerRecord, message);
 		Map<String, String> mdc = MDC.getCopyOfContextMap();
   		kafkaProducer.write(producerRecord, handler -> {
 			MDC.setContextMap(mdc);
@@ -182,8 +247,65 @@ public class KafkaMosipEventBus implements MosipEventBus {
 		});
 	}
 
+	@Override
+	public void pauseConsumption() {
+		consumptionPaused = true;
+	}
+
+	@Override
+	public void resumeConsumption() {
+		consumptionPaused = false;
+	}
+
 	private void poll(MessageBusAddress toAddress,
 			EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler) {
+		boolean pause = consumptionPaused;
+		if(pause != consumptionPauseApplied || (!pause && partitionResumeDeferred)) {
+			applyConsumptionPause(pause).onComplete(result -> {
+				if(result.succeeded())
+					consumptionPauseApplied = pause;
+				else
+					logger.error("Applying consumption pause {} failed {}", pause, result.cause());
+				pollRecords(toAddress, eventHandler);
+			});
+			return;
+		}
+		pollRecords(toAddress, eventHandler);
+	}
+
+	/**
+	 * Pauses or resumes all the assigned partitions as requested by the stage, the
+	 * partitions paused by the commit processing flow are left paused
+	 */
+	private Future<Void> applyConsumptionPause(boolean pause) {
+		Promise<Void> promise = Promise.promise();
+		kafkaConsumer.assignment(assignmentResult -> {
+			if(assignmentResult.failed()) {
+				promise.fail(assignmentResult.cause());
+				return;
+			}
+			Set<TopicPartition> topicPartitions = new HashSet<>(assignmentResult.result());
+			Handler<AsyncResult<Void>> resultHandler = result -> {
+				logger.info("Consumption pause: {} applied for partitions {} status: {}", 
+					pause, topicPartitions, result.succeeded());
+				if(result.succeeded())
+					promise.complete();
+				else
+					promise.fail(result.cause());
+			};
+			if(pause) {
+				kafkaConsumer.pause(topicPartitions, resultHandler);
+			} else {
+				partitionResumeDeferred = false;
+				topicPartitions.removeAll(flowPausedPartitions);
+				kafkaConsumer.resume(topicPartitions, resultHandler);
+			}
+		});
+		return promise.future();
+	}
+
+	private void pollRecords(MessageBusAddress toAddress,
+			EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler) {
 		this.kafkaConsumer.poll(100, pollResult -> {
 			KafkaConsumerRecords<String, String> kafkaConsumerRecords = pollResult.result();
 			logger.debug("Records size is {}", kafkaConsumerRecords.size());
@@ -205,6 +327,9 @@ public class KafkaMosipEventBus implements MosipEventBus {
 				else if(this.commitType.equals("auto"))
 					processingFuture = setupAutoCommitProcessing(consumerRecords, 
 						toAddress, eventHandler);
+				else if(this.commitType.equals("pipelined"))
+					processingFuture = setupPipelinedCommitProcessing(consumerRecords, 
+						toAddress, eventHandler);
 
 				processingFuture.onSuccess(any -> {
 					logger.debug("{} messages processed for partition: {}", consumerRecords.size(),
@@ -304,6 +429,82 @@ public class KafkaMosipEventBus implements MosipEventBus {
 		return promise.future();
 	}
 
+	/**
+	 * Processes all the records of the partition concurrently without waiting for
+	 * the previous poll batch to finish. Offsets are committed as soon as the
+	 * highest contiguous completed offset moves and the partition is paused only
+	 * while the uncommitted records reach maxInFlightPerPartition. When key ordered
+	 * lanes are configured, records with the same key (RID) are processed in order
+	 */
+	Future<Void> setupPipelinedCommitProcessing(
+			KafkaConsumerRecords<String, String> consumerRecords,
+			MessageBusAddress toAddress, 
+			EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler) {
+
+		TopicPartition vertxTopicPartition = new TopicPartition(
+				consumerRecords.recordAt(0).topic(), consumerRecords.recordAt(0).partition());
+		PartitionOffsetTracker partitionOffsetTracker = partitionOffsetTrackers
+			.computeIfAbsent(vertxTopicPartition, topicPartition -> new PartitionOffsetTracker());
+
+		//All offsets are tracked before processing starts, so that a record completing
+		//early can not move the watermark past an offset that is yet to be handed out
+		IntStream.range(0, consumerRecords.size())
+			.forEach(index -> partitionOffsetTracker.track(consumerRecords.recordAt(index).offset()));
+		if(partitionOffsetTracker.getInFlightCount() >= maxInFlightPerPartition
+				&& !partitionOffsetTracker.isPaused()) {
+			partitionOffsetTracker.setPaused(true);
+			pausePartition(vertxTopicPartition, Promise.promise());
+		}
+
+		PartitionLanes lanes = keyOrderedLanesPerPartition > 0 ? partitionLanes
+			.computeIfAbsent(vertxTopicPartition, topicPartition -> 
+				new PartitionLanes(keyOrderedLanesPerPartition)) : null;
+
+		//A failed record is completed as well, the same as in auto commit, so that it
+		//does not hold back the committed offset and keep the partition paused
+		List<Future<Void>> futures = IntStream.range(0, consumerRecords.size())
+			.mapToObj(consumerRecords::recordAt)
+			.map(record -> (lanes != null ? 
+					lanes.submit(record.key(), () -> processRecord(toAddress, eventHandler, record, false)) :
+					processRecord(toAddress, eventHandler, record, false))
+				.compose(any -> completePipelinedRecord(vertxTopicPartition, 
+						partitionOffsetTracker, record.offset()),
+					cause -> completePipelinedRecord(vertxTopicPartition, 
+						partitionOffsetTracker, record.offset())
+						.compose(any -> Future.<Void>failedFuture(cause))))
+			.collect(Collectors.toList());
+
+		return CompositeFuture.all(new ArrayList<>(futures)).mapEmpty();
+	}
+
+	private Future<Void> completePipelinedRecord(TopicPartition topicPartition,
+			PartitionOffsetTracker partitionOffsetTracker, long offset) {
+		long committableOffset = partitionOffsetTracker.complete(offset);
+		if(partitionOffsetTracker.isPaused() 
+				&& partitionOffsetTracker.getInFlightCount() < maxInFlightPerPartition) {
+			partitionOffsetTracker.setPaused(false);
+			resumePartition(topicPartition, Promise.promise());
+		}
+		if(committableOffset < 0)
+			return Future.succeededFuture();
+		Promise<Void> commitPromise = Promise.promise();
+		commitOffset(topicPartition.getTopic(), topicPartition.getPartition(), 
+			committableOffset, commitPromise);
+		return commitPromise.future();
+	}
+
+	private void clearPartitionOffsetTrackers(Set<TopicPartition> topicPartitions) {
+		logger.info("Partitions revoked {}, clearing in flight offsets", topicPartitions);
+		topicPartitions.forEach(topicPartition -> {
+			partitionLanes.remove(topicPartition);
+			flowPausedPartitions.remove(topicPartition);
+			PartitionOffsetTracker partitionOffsetTracker = 
+				partitionOffsetTrackers.remove(topicPartition);
+			if(partitionOffsetTracker != null)
+				partitionOffsetTracker.clear();
+		});
+	}
+
 	Future<Void> processRecord(MessageBusAddress toAddress,
 			EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler,
 		KafkaConsumerRecord<String, String> record, boolean commitRecord) {
@@ -311,7 +512,8 @@ public class KafkaMosipEventBus implements MosipEventBus {
 		logger.debug("Processing key={},value={},partition={},offset={}",
 				record.key(), record.value(), record.partition(), record.offset());
 		EventDTO eventDTO = new EventDTO();
-		eventDTO.setBody((JsonObject) new JsonObject(record.value()));
+		eventDTO.setRawBody(record.value());
+		eventDTO.setLastHopTimestamp(getLastHopTimestampHeader(record));
 		Promise<Void> promise = Promise.promise();
 		Map<String,String> mdc = MDC.getCopyOfContextMap();
 		eventHandler.handle(eventDTO, res -> {
@@ -330,31 +532,56 @@ public class KafkaMosipEventBus implements MosipEventBus {
 					MessageDTO messageDTO = res.result();
 					MessageBusAddress messageBusToAddress = 
 						new MessageBusAddress(toAddress, messageDTO.getReg_type());
-					JsonObject jsonObject = JsonObject.mapFrom(messageDTO);
 					KafkaProducerRecord<String, String> producerRecord = 
 						KafkaProducerRecord.create(messageBusToAddress.getAddress(), 
-							messageDTO.getRid(), jsonObject.toString());
+							messageDTO.getRid(), MessageDTOCodec.encode(messageDTO));
 					this.eventTracingHandler.writeHeaderOnKafkaProduce(producerRecord, span);
+					addLastHopTimestampHeader(producerRecord, messageDTO);
+					//Input record is completed only after the output write is acknowledged, so
+					//the offset is never committed for a message that is not handed over
 					kafkaProducer.write(producerRecord, handler -> {
 						MDC.setContextMap(mdc);
-						if(handler.failed())
+						if(handler.failed()) {
 							logger.error("Failed kafkaProducer.write {} ", handler.result(), handler.cause());
-						else
+							promise.fail(handler.cause());
+						} else {
 							logger.info("Success kafkaProducer.write {} ", handler.result());
+							completeRecord(record, commitRecord, promise);
+						}
 						MDC.clear();
 					});
-				}
-				if(commitRecord)
-					commitOffset(record.topic(), record.partition(), 
-						record.offset(), promise);
-				else					
-					promise.complete();
+				} else
+					completeRecord(record, commitRecord, promise);
 			}
 			this.eventTracingHandler.closeSpan(span);
 		});
 		return promise.future();
 	}
 
+	private void addLastHopTimestampHeader(KafkaProducerRecord<String, String> producerRecord,
+			MessageDTO messageDTO) {
+		if(messageDTO.getLastHopTimestamp() != null)
+			producerRecord.addHeader(LAST_HOP_TIMESTAMP_HEADER, messageDTO.getLastHopTimestamp());
+	}
+
+	private String getLastHopTimestampHeader(KafkaConsumerRecord<String, String> record) {
+		String lastHopTimestamp = null;
+		for (KafkaHeader header : record.headers()) {
+			if(LAST_HOP_TIMESTAMP_HEADER.equals(header.key()))
+				lastHopTimestamp = header.value().toString(StandardCharsets.UTF_8);
+		}
+		return lastHopTimestamp;
+	}
+
+	private void completeRecord(KafkaConsumerRecord<String, String> record, boolean commitRecord,
+			Promise<Void> promise) {
+		if(commitRecord)
+			commitOffset(record.topic(), record.partition(), 
+				record.offset(), promise);
+		else					
+			promise.complete();
+	}
+
 	private void commitOffset(String topic, int partition, long offset, 
 			Promise<Void> promise) {
 		
@@ -406,13 +633,14 @@ public class KafkaMosipEventBus implements MosipEventBus {
 	}
 
 	private void validateCommitType(String commitType) {
-		String[] supportedCommitTyes = {"auto", "batch", "single"};
+		String[] supportedCommitTyes = {"auto", "batch", "single", "pipelined"};
 		if(!Arrays.asList(supportedCommitTyes).contains(commitType))
 			throw new ConfigurationServerFailureException(
 				"Commit type configuration not supported for "+ commitType);
 	}
 
 	private void pausePartition(TopicPartition topicPartition, Promise<Void> promise) {
+		flowPausedPartitions.add(topicPartition);
 		kafkaConsumer.pause(topicPartition, result -> {
 			logger.debug("Partition is paused {} {}", topicPartition.getPartition(), result.succeeded());
 			if (result.succeeded())
@@ -423,6 +651,14 @@ public class KafkaMosipEventBus implements MosipEventBus {
 		});
 	}
 	private void resumePartition(TopicPartition topicPartition, Promise<Void> promise) {
+		flowPausedPartitions.remove(topicPartition);
+		if(consumptionPaused) {
+			//Left paused, resumed along with the other partitions once back pressure is released
+			logger.debug("Partition resume deferred due to consumption pause {}", topicPartition.getPartition());
+			partitionResumeDeferred = true;
+			promise.complete();
+			return;
+		}
 		kafkaConsumer.resume(topicPartition, resumeResult -> {
 			logger.debug("Partition is resumed {} {}", topicPartition.getPartition(), resumeResult.succeeded());
 			if (resumeResult.succeeded())
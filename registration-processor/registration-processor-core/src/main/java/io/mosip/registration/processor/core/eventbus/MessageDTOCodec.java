@@ -0,0 +1,106 @@
+package io.mosip.registration.processor.core.eventbus;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+
+/**
+ * Codec used by the event bus implementations to convert the raw message on the
+ * bus directly to {@link MessageDTO} and back, without going through the
+ * intermediate JsonObject, map and string representations
+ */
+public final class MessageDTOCodec {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+			.registerModule(new AfterburnerModule())
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+			.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+	private static final ObjectReader MESSAGE_DTO_READER = OBJECT_MAPPER.readerFor(MessageDTO.class);
+
+	private MessageDTOCodec() {
+	}
+
+	/**
+	 * Encodes the message along with the fields of its runtime type
+	 *
+	 * @param messageDTO the message
+	 * @return the json string to be put on the bus
+	 * @throws EncodeException when the message can not be encoded
+	 */
+	public static String encode(MessageDTO messageDTO) {
+		try {
+			return OBJECT_MAPPER.writeValueAsString(messageDTO);
+		} catch (IOException e) {
+			throw new EncodeException("Failed to encode message: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Decodes the json string received from the bus to message
+	 *
+	 * @param message the json string
+	 * @return the message
+	 * @throws DecodeException when the message is not a valid json
+	 */
+	public static MessageDTO decode(String message) {
+		try {
+			return MESSAGE_DTO_READER.readValue(message);
+		} catch (IOException e) {
+			throw new DecodeException("Failed to decode message: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Decodes the json string received from the bus to the given message type
+	 *
+	 * @param message the json string
+	 * @param clazz   the message type
+	 * @return the message
+	 * @throws DecodeException when the message is not a valid json
+	 */
+	public static <T extends MessageDTO> T decode(String message, Class<T> clazz) {
+		try {
+			return OBJECT_MAPPER.readValue(message, clazz);
+		} catch (IOException e) {
+			throw new DecodeException("Failed to decode message: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Reads a single top level text field of the json string by streaming over it,
+	 * without building the message. Nested objects are skipped and parsing stops
+	 * at the field
+	 *
+	 * @param message   the json string
+	 * @param fieldName the name of the field
+	 * @return the field value, null when the field is not present or not a text
+	 * @throws DecodeException when the message is not a valid json
+	 */
+	public static String readField(String message, String fieldName) {
+		try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(message)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT)
+				return null;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String currentName = parser.getCurrentName();
+				JsonToken valueToken = parser.nextToken();
+				if (fieldName.equals(currentName))
+					return valueToken == JsonToken.VALUE_STRING ? parser.getText() : null;
+				parser.skipChildren();
+			}
+			return null;
+		} catch (IOException e) {
+			throw new DecodeException("Failed to decode message: " + e.getMessage());
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package io.mosip.registration.processor.core.eventbus;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +29,20 @@ public class MosipEventBusFactory {
 
 	private static final String EVENTBUS_KAFKA_COMMIT_TYPE = "eventbus.kafka.commit.type";
 
+	private static final String EVENTBUS_KAFKA_MAX_INFLIGHT_PER_PARTITION = "eventbus.kafka.max.inflight.per.partition";
+
+	private static final int DEFAULT_MAX_INFLIGHT_PER_PARTITION = 100;
+
+	private static final String EVENTBUS_KAFKA_KEY_ORDERED_LANES_PER_PARTITION = "eventbus.kafka.key.ordered.lanes.per.partition";
+
+	private static final String EVENTBUS_KAFKA_PRODUCER_ACKS = "eventbus.kafka.producer.acks";
+
+	private static final String EVENTBUS_KAFKA_PRODUCER_LINGER_MS = "eventbus.kafka.producer.linger.ms";
+
+	private static final String EVENTBUS_KAFKA_PRODUCER_BATCH_SIZE = "eventbus.kafka.producer.batch.size";
+
+	private static final String EVENTBUS_KAFKA_PRODUCER_COMPRESSION_TYPE = "eventbus.kafka.producer.compression.type";
+
 	private static final String MOSIP_REGPROC_EVENTBUS_KAFKA_BOOTSTRAP_SERVERS = "mosip.regproc.eventbus.kafka.bootstrap.servers";
 
 	@Autowired
@@ -54,6 +71,9 @@ public class MosipEventBusFactory {
                 		getKafkaCommitType(propertyPrefix), 
                 		getMaxPollRecords(propertyPrefix), 
                 		getPollFrequency(propertyPrefix), 
+                		getMaxInFlightPerPartition(propertyPrefix), 
+                		getKeyOrderedLanesPerPartition(propertyPrefix), 
+                		getProducerConfigOverrides(propertyPrefix), 
                 		eventTracingHandler);
             /*case "amqp":
                 return new AmqpMosipEventBus(vertx);*/
@@ -89,4 +109,26 @@ public class MosipEventBusFactory {
 	public int getPollFrequency(String propertyPrefix) {
 		return propertiesUtil.getProperty(propertyPrefix + EVENTBUS_KAFKA_POLL_FREQUENCY, Integer.class, 0);
 	}
+
+	public int getMaxInFlightPerPartition(String propertyPrefix) {
+		return propertiesUtil.getProperty(propertyPrefix + EVENTBUS_KAFKA_MAX_INFLIGHT_PER_PARTITION, Integer.class,
+				DEFAULT_MAX_INFLIGHT_PER_PARTITION);
+	}
+
+	public int getKeyOrderedLanesPerPartition(String propertyPrefix) {
+		return propertiesUtil.getProperty(propertyPrefix + EVENTBUS_KAFKA_KEY_ORDERED_LANES_PER_PARTITION, Integer.class, 0);
+	}
+
+	public Map<String, String> getProducerConfigOverrides(String propertyPrefix) {
+		Map<String, String> producerConfig = new HashMap<>();
+		producerConfig.put("acks", 
+				propertiesUtil.getProperty(propertyPrefix + EVENTBUS_KAFKA_PRODUCER_ACKS, String.class, "1"));
+		producerConfig.put("linger.ms", 
+				propertiesUtil.getProperty(propertyPrefix + EVENTBUS_KAFKA_PRODUCER_LINGER_MS, String.class, "0"));
+		producerConfig.put("batch.size", 
+				propertiesUtil.getProperty(propertyPrefix + EVENTBUS_KAFKA_PRODUCER_BATCH_SIZE, String.class, "16384"));
+		producerConfig.put("compression.type", 
+				propertiesUtil.getProperty(propertyPrefix + EVENTBUS_KAFKA_PRODUCER_COMPRESSION_TYPE, String.class, "none"));
+		return producerConfig;
+	}
 }
@@ -0,0 +1,48 @@
+package io.mosip.registration.processor.core.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+/**
+ * Fans out the records of a single kafka partition to a fixed number of lanes
+ * based on the record key. Records of different lanes are processed in
+ * parallel, while records sharing the same key always land on the same lane and
+ * are processed one after the other in offset order
+ */
+public class PartitionLanes {
+
+	/** Completion of the last record handed to each lane */
+	private final List<Future<Void>> laneTails;
+
+	public PartitionLanes(int laneCount) {
+		laneTails = new ArrayList<>(laneCount);
+		for (int i = 0; i < laneCount; i++)
+			laneTails.add(Future.succeededFuture());
+	}
+
+	/**
+	 * Queues the task behind the previous task of the lane the key maps to, the
+	 * task runs irrespective of the outcome of the previous task
+	 *
+	 * @param key  the record key, RID for the stage messages
+	 * @param task the processing to be done for the record
+	 * @return future completed with the outcome of the task
+	 */
+	public synchronized Future<Void> submit(String key, Supplier<Future<Void>> task) {
+		int lane = getLane(key);
+		Promise<Void> promise = Promise.promise();
+		laneTails.get(lane).onComplete(previous -> task.get().onComplete(promise::handle));
+		laneTails.set(lane, promise.future());
+		return promise.future();
+	}
+
+	int getLane(String key) {
+		if (key == null)
+			return 0;
+		return Math.floorMod(key.hashCode(), laneTails.size());
+	}
+}
@@ -0,0 +1,74 @@
+package io.mosip.registration.processor.core.eventbus;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tracks the offsets of a single kafka partition that are in flight, so that
+ * records can be processed out of order while the committed offset only moves
+ * up to the highest contiguous completed offset
+ */
+public class PartitionOffsetTracker {
+
+	/** Offsets handed out for processing, mapped to their completion status */
+	private final TreeMap<Long, Boolean> inFlightOffsets = new TreeMap<>();
+
+	/** Whether the partition is currently paused because the window is full */
+	private boolean paused;
+
+	/**
+	 * Registers an offset as in flight, has to be called in offset order before
+	 * the record is handed out for processing
+	 *
+	 * @param offset the record offset
+	 */
+	public synchronized void track(long offset) {
+		inFlightOffsets.putIfAbsent(offset, false);
+	}
+
+	/**
+	 * Marks an offset as completed and returns the highest offset up to which all
+	 * the tracked offsets are completed
+	 *
+	 * @param offset the record offset
+	 * @return the new offset that can be committed, -1 if the watermark did not move
+	 */
+	public synchronized long complete(long offset) {
+		if (!inFlightOffsets.containsKey(offset))
+			return -1;
+		inFlightOffsets.put(offset, true);
+		long committableOffset = -1;
+		Map.Entry<Long, Boolean> firstEntry = inFlightOffsets.firstEntry();
+		while (firstEntry != null && firstEntry.getValue()) {
+			committableOffset = inFlightOffsets.pollFirstEntry().getKey();
+			firstEntry = inFlightOffsets.firstEntry();
+		}
+		return committableOffset;
+	}
+
+	/**
+	 * Number of offsets that are tracked and not yet committable
+	 *
+	 * @return the in flight count
+	 */
+	public synchronized int getInFlightCount() {
+		return inFlightOffsets.size();
+	}
+
+	public synchronized boolean isPaused() {
+		return paused;
+	}
+
+	public synchronized void setPaused(boolean paused) {
+		this.paused = paused;
+	}
+
+	/**
+	 * Drops all the tracked offsets, used when the partition is revoked from this
+	 * consumer
+	 */
+	public synchronized void clear() {
+		inFlightOffsets.clear();
+		paused = false;
+	}
+}
@@ -1,5 +1,8 @@
 package io.mosip.registration.processor.core.eventbus;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.processor.core.abstractverticle.EventDTO;
 import io.mosip.registration.processor.core.abstractverticle.HealthCheckDTO;
@@ -15,7 +18,7 @@ import io.mosip.registration.processor.core.tracing.MDCHelper;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
-import io.vertx.core.json.JsonObject;
+import io.vertx.core.eventbus.MessageConsumer;
 
 
 
@@ -34,6 +37,9 @@ public class VertxMosipEventBus implements MosipEventBus {
 
 	private EventTracingHandler eventTracingHandler;
 
+	/** The consumers registered by this event bus, paused and resumed for back pressure */
+	private List<MessageConsumer<Object>> messageConsumers = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Instantiates a new vertx mosip event bus.
 	 *
@@ -67,9 +73,9 @@ public class VertxMosipEventBus implements MosipEventBus {
 	@Override
 	public void consume(MessageBusAddress fromAddress,
 			EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler) {
-		vertx.eventBus().consumer(fromAddress.getAddress(), msg -> {
+		messageConsumers.add(vertx.eventBus().consumer(fromAddress.getAddress(), msg -> {
 			EventDTO eventDTO = new EventDTO();
-			eventDTO.setBody(new JsonObject((String)msg.body()));
+			eventDTO.setRawBody((String) msg.body());
 			eventHandler.handle(eventDTO, res -> {
 				if (!res.succeeded() && res.cause() instanceof MessageExpiredException) {
 					logger.warn("Event handling failed {}", res.cause().getMessage());
@@ -78,7 +84,7 @@ public class VertxMosipEventBus implements MosipEventBus {
 				}
 				MDCHelper.clearMDC();
 			});
-		});
+		}));
 	}
 
 	/*
@@ -90,9 +96,9 @@ public class VertxMosipEventBus implements MosipEventBus {
 	@Override
 	public void consumeAndSend(MessageBusAddress fromAddress, MessageBusAddress toAddress, 
 			EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler) {
-		vertx.eventBus().consumer(fromAddress.getAddress(), msg -> {
+		messageConsumers.add(vertx.eventBus().consumer(fromAddress.getAddress(), msg -> {
 			EventDTO eventDTO = new EventDTO();
-			eventDTO.setBody(new JsonObject((String) msg.body()));
+			eventDTO.setRawBody((String) msg.body());
 			eventHandler.handle(eventDTO, res -> {
 				if (!res.succeeded() && res.cause() instanceof MessageExpiredException) {
 					logger.warn("Event handling failed {}", res.cause().getMessage());
@@ -101,12 +107,11 @@ public class VertxMosipEventBus implements MosipEventBus {
 				} else {
 					MessageDTO messageDTO = res.result();
 					MessageBusAddress messageBusToAddress = new MessageBusAddress(toAddress, messageDTO.getReg_type());
-					JsonObject jsonObject = JsonObject.mapFrom(messageDTO);
-					vertx.eventBus().send(messageBusToAddress.getAddress(), jsonObject.toString());
+					vertx.eventBus().send(messageBusToAddress.getAddress(), MessageDTOCodec.encode(messageDTO));
 				}
 				MDCHelper.clearMDC();
 			});
-		});
+		}));
 	}
 
 	/*
@@ -118,9 +123,19 @@ public class VertxMosipEventBus implements MosipEventBus {
 	@Override
 	public void send(MessageBusAddress toAddress, MessageDTO message) {
 		MessageBusAddress messageBusAddress = new MessageBusAddress(toAddress, message.getReg_type());
-		JsonObject jsonObject = JsonObject.mapFrom(message);
-		logger.debug("send called with toAddress {} for message {}",messageBusAddress.getAddress(), jsonObject.toString());
-		this.vertx.eventBus().send(messageBusAddress.getAddress(), jsonObject.toString());
+		String encodedMessage = MessageDTOCodec.encode(message);
+		logger.debug("send called with toAddress {} for message {}",messageBusAddress.getAddress(), encodedMessage);
+		this.vertx.eventBus().send(messageBusAddress.getAddress(), encodedMessage);
+	}
+
+	@Override
+	public void pauseConsumption() {
+		messageConsumers.forEach(MessageConsumer::pause);
+	}
+
+	@Override
+	public void resumeConsumption() {
+		messageConsumers.forEach(MessageConsumer::resume);
 	}
 
 	@Override
@@ -1343,6 +1343,9 @@ public enum PlatformErrorMessages {
 
 	RPR_WAA_VALIDATION_SUCCESS(PlatformConstants.RPR_WORKFLOW_ACTION_API + "005", "Workflow id validated successfully"),
 
+	RPR_WAA_BULK_ACTION_NOT_FOUND(PlatformConstants.RPR_WORKFLOW_ACTION_API + "006",
+			"Bulk workflow action %s not found"),
+
 	RPR_WORKFLOW_ACTION_JOB_FAILED(PlatformConstants.RPR_WORKFLOW_ACTION_JOB, "Workflow action job  failed"),
 
 	/** The external stage failed. */
@@ -14,6 +14,7 @@ import io.mosip.registration.processor.core.queue.impl.exception.QueueConnection
 import io.mosip.registration.processor.core.spi.queue.MosipQueueManager;
 import org.apache.activemq.ActiveMQConnection;
 import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.ActiveMQSession;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -108,7 +109,7 @@ public class MosipActiveMqImpl implements MosipQueueManager<MosipQueue, byte[]>
      * lang.Object, java.lang.Object, java.lang.String, long)
      */
     @Override
-    public Boolean send(MosipQueue mosipQueue, byte[] message, String address, int messageTTL) {
+    public synchronized Boolean send(MosipQueue mosipQueue, byte[] message, String address, int messageTTL) {
         regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
                 "", "MosipActiveMqImpl::send()::entry");
 
@@ -144,7 +145,7 @@ public class MosipActiveMqImpl implements MosipQueueManager<MosipQueue, byte[]>
     }
 
     @Override
-    public Boolean send(MosipQueue mosipQueue, String message, String address, int messageTTL) {
+    public synchronized Boolean send(MosipQueue mosipQueue, String message, String address, int messageTTL) {
         boolean flag = false;
         initialSetup(mosipQueue);
         try {
@@ -230,6 +231,41 @@ public class MosipActiveMqImpl implements MosipQueueManager<MosipQueue, byte[]>
         return null;
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * io.mosip.registration.processor.core.spi.queue.MosipQueueManager#consume(java
+     * .lang.Object, java.lang.String, int)
+     */
+    @Override
+    public synchronized byte[] consume(MosipQueue mosipQueue, String address, QueueListener object, int consumerCount) {
+        regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+                "", "MosipActiveMqImpl::consume()::entry");
+
+        initialSetup(mosipQueue);
+        try {
+            for (int i = 0; i < Math.max(consumerCount, 1); i++) {
+                // each consumer gets its own session so that listeners are not serialized on one session thread
+                Session consumerSession = connection.createSession(false, ActiveMQSession.INDIVIDUAL_ACKNOWLEDGE);
+                MessageConsumer consumer = consumerSession.createConsumer(consumerSession.createQueue(address));
+                consumer.setMessageListener(QueueListenerFactory.getListener(mosipQueue.getQueueName(), object));
+            }
+        } catch (JMSException e) {
+            regProcLogger.error("*******CONSUME EXCEPTION *****", "*******CONSUME EXCEPTION *****",
+                    "*******CONSUME EXCEPTION *****", ExceptionUtils.getFullStackTrace(e));
+            regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+                    "", "MosipActiveMqImpl::consume():: error with error message "
+                            + PlatformErrorMessages.RPR_MQI_UNABLE_TO_CONSUME_FROM_QUEUE.getMessage());
+            throw new ConnectionUnavailableException(
+                    PlatformErrorMessages.RPR_MQI_UNABLE_TO_CONSUME_FROM_QUEUE.getMessage());
+        }
+        regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+                "", "MosipActiveMqImpl::consume()::exit");
+
+        return null;
+    }
+
     private void initialSetup(MosipQueue mosipQueue) {
         regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
                 "", "MosipActiveMqImpl::send()::entry");
@@ -61,4 +61,21 @@ public interface MosipQueueManager<T, V>{
 	 */
 	public V consume(T mosipQueue, String address, QueueListener object);
 
+	/**
+	 * This method consumes messages from a given address on the given number of
+	 * consumers, each with its own session, so that the listener can be invoked
+	 * concurrently. A message is acknowledged only when the listener calls
+	 * {@link javax.jms.Message#acknowledge()}, so it can be acknowledged after it is
+	 * processed. Implementations that do not support it consume as
+	 * {@link #consume(Object, String, QueueListener)}.
+	 * 
+	 * @param mosipQueue    The mosipQueue instance
+	 * @param address       The address
+	 * @param consumerCount The number of consumers
+	 * @return the original message
+	 */
+	public default V consume(T mosipQueue, String address, QueueListener object, int consumerCount) {
+		return consume(mosipQueue, address, object);
+	}
+
 }
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -20,6 +21,9 @@ public class ContextualData {
 
     private static final Logger logger = LoggerFactory.getLogger(ContextualData.class);
 
+    /** Data of a task run on a non Vert.x thread by {@link #callWith(Map, Callable)} */
+    private static final ThreadLocal<ConcurrentMap<String, Object>> threadData = new ThreadLocal<>();
+
     /**
      * Put a value in the contextual data map.
      *
@@ -30,7 +34,9 @@ public class ContextualData {
         Objects.requireNonNull(key);
         Objects.requireNonNull(value);
         ContextInternal ctx = (ContextInternal) Vertx.currentContext();
-        if (ctx == null) {
+        if (ctx == null && threadData.get() != null) {
+            threadData.get().put(key, value);
+        } else if (ctx == null) {
             if (logger.isTraceEnabled()) {
                 logger.warn("Attempt to set contextual data from a non Vert.x thread", new Exception());
             }
@@ -47,12 +53,7 @@ public class ContextualData {
      * @return the value or null if absent or the method is invoked on a non Vert.x thread
      */
     public static Object getOrDefault(String key) {
-        Objects.requireNonNull(key);
-        ContextInternal ctx = (ContextInternal) Vertx.currentContext();
-        if (ctx != null) {
-            return contextualDataMap(ctx).get(key);
-        }
-        return null;
+        return getOrDefault(key, null);
     }
 
     /**
@@ -69,6 +70,9 @@ public class ContextualData {
         if (ctx != null) {
             return contextualDataMap(ctx).getOrDefault(key, defaultValue);
         }
+        if (threadData.get() != null) {
+            return threadData.get().getOrDefault(key, defaultValue);
+        }
         return defaultValue;
     }
 
@@ -82,9 +86,39 @@ public class ContextualData {
         if (ctx != null) {
             return new HashMap<>(contextualDataMap(ctx));
         }
+        if (threadData.get() != null) {
+            return new HashMap<>(threadData.get());
+        }
         return null;
     }
 
+    /**
+     * Calls the task with the contextual data, so that a task handed by a Vert.x
+     * thread to the thread of another executor keeps its trace id and RID.
+     *
+     * @param data the values returned by {@link #getAll()} on the thread handing
+     *             the task, null if it has none
+     * @param task the task to call on the current thread
+     *
+     * @return the value returned by the task
+     */
+    public static <T> T callWith(Map<String, Object> data, Callable<T> task) throws Exception {
+        if (data == null || Vertx.currentContext() != null) {
+            return task.call();
+        }
+        ConcurrentMap<String, Object> previousData = threadData.get();
+        threadData.set(new ConcurrentHashMap<>(data));
+        try {
+            return task.call();
+        } finally {
+            if (previousData != null) {
+                threadData.set(previousData);
+            } else {
+                threadData.remove();
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static ConcurrentMap<String, Object> contextualDataMap(ContextInternal ctx) {
         Objects.requireNonNull(ctx);
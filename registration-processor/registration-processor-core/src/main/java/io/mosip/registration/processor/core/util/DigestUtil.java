@@ -0,0 +1,51 @@
+package io.mosip.registration.processor.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Computes the packet hashes from a stream, reading it in fixed size chunks so
+ * that the hash of a packet of any size is computed without holding it in memory.
+ * The hash is the same upper case hex SHA-256 as HMACUtils2#digestAsPlainText.
+ */
+public final class DigestUtil {
+
+	private static final String HASH_ALGORITHM_NAME = "SHA-256";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private DigestUtil() {
+	}
+
+	/**
+	 * Reads the stream till its end and returns its hash, the stream is not closed.
+	 *
+	 * @param inputStream the input stream
+	 * @return the hash as upper case hex
+	 */
+	public static String digestAsPlainText(InputStream inputStream) throws IOException, NoSuchAlgorithmException {
+		MessageDigest messageDigest = newMessageDigest();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1)
+			messageDigest.update(buffer, 0, read);
+		return encodeBytesToHex(messageDigest.digest());
+	}
+
+	public static MessageDigest newMessageDigest() throws NoSuchAlgorithmException {
+		return MessageDigest.getInstance(HASH_ALGORITHM_NAME);
+	}
+
+	public static String encodeBytesToHex(byte[] bytes) {
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+			hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+		}
+		return new String(hex);
+	}
+}
@@ -15,6 +15,8 @@ public class PageResponseDTO<T> {
 	private long fromRecord;
 	private long toRecord;
 	private long totalRecord;
+	/** The cursor of the next page, null on the last page */
+	private String nextCursor;
 	@Valid
 	private List<T> data;
 }
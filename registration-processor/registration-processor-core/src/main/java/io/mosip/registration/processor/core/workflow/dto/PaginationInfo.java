@@ -20,4 +20,18 @@ public class PaginationInfo {
 
 	private int pageFetch = 10;
 
+	/**
+	 * The nextCursor of the previous page, the page then starts after the last
+	 * record of the previous page instead of at pageStart
+	 */
+	private String cursor;
+
+	/** Returns an estimate of the total number of records, without counting them */
+	private boolean estimateCount;
+
+	public PaginationInfo(int pageStart, int pageFetch) {
+		this.pageStart = pageStart;
+		this.pageFetch = pageFetch;
+	}
+
 }
@@ -1,11 +1,20 @@
 package io.mosip.registration.processor.core.workflow.dto;
 
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Data;
 
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ResponseDTO {
 
 	private String statusMessage;
 
+	/** The id of the bulk workflow action processing the request */
+	private String jobId;
+
+	private List<String> failedWorkflowIds;
+
 }
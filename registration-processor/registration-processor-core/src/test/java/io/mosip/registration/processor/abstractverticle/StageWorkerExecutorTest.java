@@ -0,0 +1,119 @@
+package io.mosip.registration.processor.abstractverticle;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.registration.processor.core.abstractverticle.StageWorkerExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+
+@RunWith(VertxUnitRunner.class)
+public class StageWorkerExecutorTest {
+
+	private Vertx vertx;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@After
+	public void tearDown(TestContext testContext) {
+		vertx.close(testContext.asyncAssertSuccess());
+	}
+
+	@Test
+	public void testSaturationAndDrain(TestContext testContext) throws InterruptedException {
+		AtomicInteger saturatedCount = new AtomicInteger();
+		AtomicInteger drainedCount = new AtomicInteger();
+		StageWorkerExecutor stageWorkerExecutor = new StageWorkerExecutor(vertx, "test-stage-worker", 1, 2,
+				meterRegistry, saturatedCount::incrementAndGet, drainedCount::incrementAndGet);
+		CountDownLatch latch = new CountDownLatch(1);
+		Async async = testContext.async(2);
+
+		for (int i = 0; i < 2; i++) {
+			int value = i;
+			stageWorkerExecutor.<Integer>executeBlocking(promise -> {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				promise.complete(value);
+			}, result -> {
+				testContext.assertTrue(result.succeeded());
+				testContext.assertEquals(value, result.result());
+				async.countDown();
+			});
+		}
+
+		testContext.assertEquals(1, saturatedCount.get());
+		testContext.assertEquals(2, stageWorkerExecutor.getQueueDepth());
+		testContext.assertEquals(2.0, meterRegistry.get("mosip.regproc.stage.worker.queue.depth")
+				.tag("stage", "test-stage-worker").gauge().value());
+		latch.countDown();
+		async.await();
+
+		testContext.assertEquals(1, drainedCount.get());
+		testContext.assertEquals(0, stageWorkerExecutor.getQueueDepth());
+		testContext.assertEquals(2L, meterRegistry.get("mosip.regproc.stage.worker.wait.time")
+				.tag("stage", "test-stage-worker").timer().count());
+	}
+
+	@Test
+	public void testFailureIsPropagated(TestContext testContext) {
+		StageWorkerExecutor stageWorkerExecutor = new StageWorkerExecutor(vertx, "failing-stage-worker", 1, 10,
+				meterRegistry, () -> {}, () -> {});
+		Async async = testContext.async();
+		stageWorkerExecutor.<Void>executeBlocking(promise -> {
+			throw new IllegalStateException("processing failed");
+		}, result -> {
+			testContext.assertTrue(result.failed());
+			testContext.assertEquals(0, stageWorkerExecutor.getQueueDepth());
+			async.complete();
+		});
+	}
+
+	@Test
+	public void testConcurrencyLimitOnTaskPerThreadExecutor(TestContext testContext) {
+		// a cached pool stands in for the virtual thread executor on JDKs without them
+		StageWorkerExecutor stageWorkerExecutor = new StageWorkerExecutor(vertx, "virtual-stage-worker",
+				Executors.newCachedThreadPool(), 2, 10, meterRegistry, () -> {}, () -> {});
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		Async async = testContext.async(6);
+
+		for (int i = 0; i < 6; i++) {
+			stageWorkerExecutor.<Void>executeBlocking(promise -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				running.decrementAndGet();
+				promise.complete();
+			}, result -> {
+				testContext.assertTrue(result.succeeded());
+				async.countDown();
+			});
+		}
+		async.await();
+
+		testContext.assertTrue(maxRunning.get() <= 2);
+		testContext.assertEquals(0, stageWorkerExecutor.getQueueDepth());
+		stageWorkerExecutor.close();
+	}
+}
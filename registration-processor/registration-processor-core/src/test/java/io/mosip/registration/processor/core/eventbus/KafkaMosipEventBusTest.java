@@ -59,6 +59,7 @@ import io.vertx.kafka.client.consumer.OffsetAndMetadata;
 import io.vertx.kafka.client.consumer.impl.KafkaConsumerRecordsImpl;
 import io.vertx.kafka.client.producer.KafkaProducer;
 import io.vertx.kafka.client.producer.KafkaProducerRecord;
+import io.vertx.kafka.client.producer.RecordMetadata;
 
 @RunWith(PowerMockRunner.class)
 @PowerMockRunnerDelegate(VertxUnitRunner.class)
@@ -194,6 +195,8 @@ public class KafkaMosipEventBusTest {
             return null;
 		}).when(kafkaConsumer).commit(anyMap(), any());
 
+		mockProducerWrite(true);
+
 		EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler = 
 			Mockito.mock(EventHandler.class);
 
@@ -259,6 +262,8 @@ public class KafkaMosipEventBusTest {
             return null;
 		}).when(kafkaConsumer).commit(anyMap(), any());
 
+		mockProducerWrite(true);
+
 		EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler = 
 			Mockito.mock(EventHandler.class);
 
@@ -302,6 +307,156 @@ public class KafkaMosipEventBusTest {
 		verify(kafkaProducer, times(testDataCount)).write(any(), any());
 	}
 
+	@Test
+	public void testConsumeAndSendWithPipelinedCommitType(TestContext testContext) {
+		int testDataCount = 20;
+		kafkaMosipEventBus = new KafkaMosipEventBus(Vertx.vertx(), "localhost:9091", "group_1", 
+			"pipelined", "100", 60000, 10, 0, new HashMap<>(), eventTracingHandler);
+		final Async async = testContext.async();
+			
+		AsyncResult<KafkaConsumerRecords<String, String>> asyncResult = 
+			Mockito.mock(AsyncResult.class);
+  		Mockito.when(asyncResult.succeeded()).thenReturn(true);
+  		Mockito.when(asyncResult.result()).thenReturn(prepareKafkaConsumerRecords(testDataCount));
+		doAnswer((Answer<AsyncResult<KafkaConsumerRecords<String, String>>>) arguments -> {
+			((Handler<AsyncResult<KafkaConsumerRecords<String, String>>>) arguments.getArgument(1))
+				.handle(asyncResult);
+            return null;
+		}).when(kafkaConsumer).poll(anyLong(), any());
+
+		AsyncResult<Void> voidAsyncResult = Mockito.mock(AsyncResult.class);
+		Mockito.when(voidAsyncResult.succeeded()).thenReturn(true);
+		  
+		doAnswer((Answer<AsyncResult<Void>>) arguments -> {
+            ((Handler<AsyncResult<Void>>) arguments.getArgument(1)).handle(voidAsyncResult);
+            return null;
+		}).when(kafkaConsumer).pause(any(io.vertx.kafka.client.common.TopicPartition.class), any());
+
+		doAnswer((Answer<AsyncResult<Void>>) arguments -> {
+            ((Handler<AsyncResult<Void>>) arguments.getArgument(1)).handle(voidAsyncResult);
+            return null;
+		}).when(kafkaConsumer).resume(any(io.vertx.kafka.client.common.TopicPartition.class), any());
+
+		doAnswer((Answer<AsyncResult<Void>>) arguments -> {
+            ((Handler<AsyncResult<Void>>) arguments.getArgument(1)).handle(voidAsyncResult);
+            return null;
+		}).when(kafkaConsumer).commit(anyMap(), any());
+
+		mockProducerWrite(true);
+
+		EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler = 
+			Mockito.mock(EventHandler.class);
+
+		doAnswer((Answer<AsyncResult<MessageDTO>>) arguments -> {
+			AsyncResult<MessageDTO> asyncResultForMessageDTO = Mockito.mock(AsyncResult.class);
+			Mockito.when(asyncResultForMessageDTO.succeeded()).thenReturn(true);
+			JsonObject jsonObject = (JsonObject) ((EventDTO) arguments.getArgument(0)).getBody();
+			MessageDTO messageDTO = jsonObject.mapTo(MessageDTO.class);
+			Mockito.when(asyncResultForMessageDTO.result()).thenReturn(messageDTO);
+			((Handler<AsyncResult<MessageDTO>>) arguments.getArgument(1))
+				.handle(asyncResultForMessageDTO);
+			if (!async.isCompleted())
+				async.complete();
+            return null;
+		}).when(eventHandler).handle(any(), any());
+		
+		kafkaMosipEventBus.consumeAndSend(MessageBusAddress.PACKET_VALIDATOR_BUS_IN, 
+			MessageBusAddress.PACKET_UPLOADER_OUT, eventHandler);
+		async.await();
+
+		verify(eventHandler, times(testDataCount)).handle(any(), any());
+
+		InOrder inOrder = Mockito.inOrder(kafkaConsumer);
+		inOrder.verify(kafkaConsumer, times(1)).pause(
+			any(io.vertx.kafka.client.common.TopicPartition.class), any());
+		inOrder.verify(kafkaConsumer, atLeastOnce()).commit(anyMap(), any());
+		inOrder.verify(kafkaConsumer, times(1)).resume(
+			any(io.vertx.kafka.client.common.TopicPartition.class), any());
+
+		ArgumentCaptor<Map<io.vertx.kafka.client.common.TopicPartition,OffsetAndMetadata>> argument = 
+			ArgumentCaptor.forClass(Map.class);
+		verify(kafkaConsumer, atLeastOnce()).commit(argument.capture(), any());
+		long previousOffset = 0;
+		for(Map<io.vertx.kafka.client.common.TopicPartition,OffsetAndMetadata> value : argument.getAllValues()) {
+			long offset = value.entrySet().iterator().next().getValue().getOffset();
+			assertTrue("Committed offset should only move forward", offset > previousOffset);
+			previousOffset = offset;
+		}
+		assertEquals(testDataCount, previousOffset);
+		verify(kafkaProducer, times(testDataCount)).write(any(), any());
+	}
+
+	@Test
+	public void testConsumeAndSendWithPipelinedCommitTypeAndFailedRecords(TestContext testContext) {
+		int testDataCount = 20;
+		kafkaMosipEventBus = new KafkaMosipEventBus(Vertx.vertx(), "localhost:9091", "group_1", 
+			"pipelined", "100", 60000, 10, 0, new HashMap<>(), eventTracingHandler);
+		final Async async = testContext.async();
+			
+		AsyncResult<KafkaConsumerRecords<String, String>> asyncResult = 
+			Mockito.mock(AsyncResult.class);
+  		Mockito.when(asyncResult.succeeded()).thenReturn(true);
+  		Mockito.when(asyncResult.result()).thenReturn(prepareKafkaConsumerRecords(testDataCount));
+		doAnswer((Answer<AsyncResult<KafkaConsumerRecords<String, String>>>) arguments -> {
+			((Handler<AsyncResult<KafkaConsumerRecords<String, String>>>) arguments.getArgument(1))
+				.handle(asyncResult);
+            return null;
+		}).when(kafkaConsumer).poll(anyLong(), any());
+
+		AsyncResult<Void> voidAsyncResult = Mockito.mock(AsyncResult.class);
+		Mockito.when(voidAsyncResult.succeeded()).thenReturn(true);
+		  
+		doAnswer((Answer<AsyncResult<Void>>) arguments -> {
+            ((Handler<AsyncResult<Void>>) arguments.getArgument(1)).handle(voidAsyncResult);
+            return null;
+		}).when(kafkaConsumer).pause(any(io.vertx.kafka.client.common.TopicPartition.class), any());
+
+		doAnswer((Answer<AsyncResult<Void>>) arguments -> {
+            ((Handler<AsyncResult<Void>>) arguments.getArgument(1)).handle(voidAsyncResult);
+            return null;
+		}).when(kafkaConsumer).resume(any(io.vertx.kafka.client.common.TopicPartition.class), any());
+
+		doAnswer((Answer<AsyncResult<Void>>) arguments -> {
+            ((Handler<AsyncResult<Void>>) arguments.getArgument(1)).handle(voidAsyncResult);
+            return null;
+		}).when(kafkaConsumer).commit(anyMap(), any());
+
+		EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler = 
+			Mockito.mock(EventHandler.class);
+
+		doAnswer((Answer<AsyncResult<MessageDTO>>) arguments -> {
+			AsyncResult<MessageDTO> asyncResultForMessageDTO = Mockito.mock(AsyncResult.class);
+			Mockito.when(asyncResultForMessageDTO.succeeded()).thenReturn(false);
+			Mockito.when(asyncResultForMessageDTO.cause()).thenReturn(new RuntimeException("processing failed"));
+			((Handler<AsyncResult<MessageDTO>>) arguments.getArgument(1))
+				.handle(asyncResultForMessageDTO);
+			if (!async.isCompleted())
+				async.complete();
+            return null;
+		}).when(eventHandler).handle(any(), any());
+		
+		kafkaMosipEventBus.consumeAndSend(MessageBusAddress.PACKET_VALIDATOR_BUS_IN, 
+			MessageBusAddress.PACKET_UPLOADER_OUT, eventHandler);
+		async.await();
+
+		verify(eventHandler, times(testDataCount)).handle(any(), any());
+
+		InOrder inOrder = Mockito.inOrder(kafkaConsumer);
+		inOrder.verify(kafkaConsumer, times(1)).pause(
+			any(io.vertx.kafka.client.common.TopicPartition.class), any());
+		inOrder.verify(kafkaConsumer, atLeastOnce()).commit(anyMap(), any());
+		inOrder.verify(kafkaConsumer, times(1)).resume(
+			any(io.vertx.kafka.client.common.TopicPartition.class), any());
+
+		ArgumentCaptor<Map<io.vertx.kafka.client.common.TopicPartition,OffsetAndMetadata>> argument = 
+			ArgumentCaptor.forClass(Map.class);
+		verify(kafkaConsumer, atLeastOnce()).commit(argument.capture(), any());
+		List<Map<io.vertx.kafka.client.common.TopicPartition,OffsetAndMetadata>> commits = argument.getAllValues();
+		assertEquals(testDataCount, commits.get(commits.size() - 1).entrySet().iterator().next().getValue()
+			.getOffset());
+		verify(kafkaProducer, times(0)).write(any(), any());
+	}
+
 	@Test
 	public void testConsumeWithAutoCommitType(TestContext testContext) {
 		int testDataCount = 20;
@@ -611,6 +766,70 @@ public class KafkaMosipEventBusTest {
 		verify(kafkaProducer, times(0)).write(any(), any());
 	}
 
+	@Test
+	public void testConsumeAndSendWithFailedProducerWrite(TestContext testContext) {
+		int testDataCount = 20;
+		kafkaMosipEventBus = new KafkaMosipEventBus(Vertx.vertx(), "localhost:9091", "group_1", 
+			"batch", "100", 60000, eventTracingHandler);
+		final Async async = testContext.async();
+			
+		AsyncResult<KafkaConsumerRecords<String, String>> asyncResult = 
+			Mockito.mock(AsyncResult.class);
+  		Mockito.when(asyncResult.succeeded()).thenReturn(true);
+  		Mockito.when(asyncResult.result()).thenReturn(prepareKafkaConsumerRecords(testDataCount));
+		doAnswer((Answer<AsyncResult<KafkaConsumerRecords<String, String>>>) arguments -> {
+			((Handler<AsyncResult<KafkaConsumerRecords<String, String>>>) arguments.getArgument(1))
+				.handle(asyncResult);
+            return null;
+		}).when(kafkaConsumer).poll(anyLong(), any());
+
+		AsyncResult<Void> voidAsyncResult = Mockito.mock(AsyncResult.class);
+		Mockito.when(voidAsyncResult.succeeded()).thenReturn(true);
+		  
+		doAnswer((Answer<AsyncResult<Void>>) arguments -> {
+            ((Handler<AsyncResult<Void>>) arguments.getArgument(1)).handle(voidAsyncResult);
+            return null;
+		}).when(kafkaConsumer).pause(any(io.vertx.kafka.client.common.TopicPartition.class), any());
+
+		mockProducerWrite(false);
+
+		EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler = 
+			Mockito.mock(EventHandler.class);
+
+		doAnswer((Answer<AsyncResult<MessageDTO>>) arguments -> {
+			AsyncResult<MessageDTO> asyncResultForMessageDTO = Mockito.mock(AsyncResult.class);
+			Mockito.when(asyncResultForMessageDTO.succeeded()).thenReturn(true);
+			JsonObject jsonObject = (JsonObject) ((EventDTO) arguments.getArgument(0)).getBody();
+			MessageDTO messageDTO = jsonObject.mapTo(MessageDTO.class);
+			Mockito.when(asyncResultForMessageDTO.result()).thenReturn(messageDTO);
+			((Handler<AsyncResult<MessageDTO>>) arguments.getArgument(1))
+				.handle(asyncResultForMessageDTO);
+			if (!async.isCompleted())
+				async.complete();
+            return null;
+		}).when(eventHandler).handle(any(), any());
+		
+		kafkaMosipEventBus.consumeAndSend(MessageBusAddress.PACKET_VALIDATOR_BUS_IN, 
+			MessageBusAddress.PACKET_UPLOADER_OUT, eventHandler);
+		async.await();
+
+		verify(eventHandler, times(testDataCount)).handle(any(), any());
+		verify(kafkaProducer, times(testDataCount)).write(any(), any());
+		verify(kafkaConsumer, times(0)).commit(anyMap(), any());
+	}
+
+	private void mockProducerWrite(boolean succeeded) {
+		AsyncResult<RecordMetadata> writeAsyncResult = Mockito.mock(AsyncResult.class);
+		Mockito.when(writeAsyncResult.succeeded()).thenReturn(succeeded);
+		Mockito.when(writeAsyncResult.failed()).thenReturn(!succeeded);
+		if(!succeeded)
+			Mockito.when(writeAsyncResult.cause()).thenReturn(new Exception("write failed"));
+		doAnswer((Answer<AsyncResult<RecordMetadata>>) arguments -> {
+            ((Handler<AsyncResult<RecordMetadata>>) arguments.getArgument(1)).handle(writeAsyncResult);
+            return null;
+		}).when(kafkaProducer).write(any(), any());
+	}
+
 	private KafkaConsumerRecords<String, String> prepareKafkaConsumerRecords(int recordCount) {
 		List<ConsumerRecord<String,String>> consumerRecordList = new ArrayList<>();
 		for(int i=0; i<recordCount; i++)
@@ -0,0 +1,101 @@
+package io.mosip.registration.processor.core.eventbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.registration.processor.core.abstractverticle.MessageBusAddress;
+import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
+import io.mosip.registration.processor.core.abstractverticle.WorkflowInternalActionDTO;
+import io.mosip.registration.processor.core.constant.RegistrationType;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+public class MessageDTOCodecTest {
+
+	private MessageDTO messageDTO;
+
+	@Before
+	public void setup() {
+		messageDTO = new MessageDTO();
+		messageDTO.setRid("10001");
+		messageDTO.setReg_type(RegistrationType.NEW.name());
+		messageDTO.setIsValid(true);
+		messageDTO.setInternalError(false);
+		messageDTO.setRetryCount(1);
+		messageDTO.setIteration(2);
+		messageDTO.setSource("REGISTRATION_CLIENT");
+		messageDTO.setMessageBusAddress(MessageBusAddress.PACKET_VALIDATOR_BUS_IN);
+		messageDTO.setLastHopTimestamp("2021-01-01T10:00:00.000Z");
+		Map<String, String> tags = new HashMap<>();
+		tags.put("AGE_GROUP", "ADULT");
+		messageDTO.setTags(tags);
+	}
+
+	@Test
+	public void testEncodeIsReadableAsJsonObject() {
+		MessageDTO decoded = new JsonObject(MessageDTOCodec.encode(messageDTO)).mapTo(MessageDTO.class);
+		assertMessageEquals(messageDTO, decoded);
+	}
+
+	@Test
+	public void testDecodeOfJsonObjectEncodedMessage() {
+		MessageDTO decoded = MessageDTOCodec.decode(JsonObject.mapFrom(messageDTO).toString());
+		assertMessageEquals(messageDTO, decoded);
+	}
+
+	@Test
+	public void testDecodeIgnoresUnknownFields() {
+		MessageDTO decoded = MessageDTOCodec.decode("{\"rid\":\"10001\",\"unknown\":\"value\"}");
+		assertEquals("10001", decoded.getRid());
+	}
+
+	@Test
+	public void testEncodeKeepsSubclassFields() {
+		WorkflowInternalActionDTO workflowInternalActionDTO = new WorkflowInternalActionDTO();
+		workflowInternalActionDTO.setRid("10001");
+		workflowInternalActionDTO.setActionCode("MARK_AS_PAUSED");
+		String encoded = MessageDTOCodec.encode(workflowInternalActionDTO);
+		assertTrue(encoded.contains("MARK_AS_PAUSED"));
+		WorkflowInternalActionDTO decoded = MessageDTOCodec.decode(encoded, WorkflowInternalActionDTO.class);
+		assertEquals("MARK_AS_PAUSED", decoded.getActionCode());
+	}
+
+	@Test(expected = DecodeException.class)
+	public void testDecodeInvalidMessage() {
+		MessageDTOCodec.decode("{\"rid\":");
+	}
+
+	@Test
+	public void testReadFieldSkipsNestedObjects() {
+		String message = "{\"rid\":\"10001\",\"messageBusAddress\":{\"address\":\"lastHopTimestamp\"},"
+				+ "\"tags\":{\"lastHopTimestamp\":\"nested\"},\"lastHopTimestamp\":\"2021-10-18T10:15:30.000Z\"}";
+		assertEquals("2021-10-18T10:15:30.000Z", MessageDTOCodec.readField(message, "lastHopTimestamp"));
+		assertEquals("10001", MessageDTOCodec.readField(message, "rid"));
+		assertNull(MessageDTOCodec.readField(message, "source"));
+	}
+
+	@Test(expected = DecodeException.class)
+	public void testReadFieldInvalidMessage() {
+		MessageDTOCodec.readField("{\"rid\":", "lastHopTimestamp");
+	}
+
+	private void assertMessageEquals(MessageDTO expected, MessageDTO actual) {
+		assertEquals(expected.getRid(), actual.getRid());
+		assertEquals(expected.getReg_type(), actual.getReg_type());
+		assertEquals(expected.getIsValid(), actual.getIsValid());
+		assertEquals(expected.getInternalError(), actual.getInternalError());
+		assertEquals(expected.getRetryCount(), actual.getRetryCount());
+		assertEquals(expected.getIteration(), actual.getIteration());
+		assertEquals(expected.getSource(), actual.getSource());
+		assertEquals(expected.getMessageBusAddress().getAddress(), actual.getMessageBusAddress().getAddress());
+		assertEquals(expected.getLastHopTimestamp(), actual.getLastHopTimestamp());
+		assertEquals(expected.getTags(), actual.getTags());
+	}
+}
@@ -0,0 +1,63 @@
+package io.mosip.registration.processor.core.eventbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+public class PartitionLanesTest {
+
+	@Test
+	public void testSameKeyIsProcessedInOrder() {
+		PartitionLanes partitionLanes = new PartitionLanes(4);
+		List<String> processed = new ArrayList<>();
+		Promise<Void> firstPromise = Promise.promise();
+
+		partitionLanes.submit("10001", () -> {
+			processed.add("first");
+			return firstPromise.future();
+		});
+		Future<Void> secondFuture = partitionLanes.submit("10001", () -> {
+			processed.add("second");
+			return Future.succeededFuture();
+		});
+
+		assertEquals(1, processed.size());
+		assertFalse(secondFuture.isComplete());
+		firstPromise.complete();
+		assertEquals(2, processed.size());
+		assertEquals("second", processed.get(1));
+		assertTrue(secondFuture.succeeded());
+	}
+
+	@Test
+	public void testDifferentLanesAreNotBlocked() {
+		PartitionLanes partitionLanes = new PartitionLanes(2);
+		String firstKey = "10001";
+		String secondKey = "10002";
+		assertTrue(partitionLanes.getLane(firstKey) != partitionLanes.getLane(secondKey));
+
+		partitionLanes.submit(firstKey, () -> Promise.<Void>promise().future());
+		Future<Void> otherLaneFuture = partitionLanes.submit(secondKey, () -> Future.succeededFuture());
+
+		assertTrue(otherLaneFuture.succeeded());
+	}
+
+	@Test
+	public void testLaneContinuesAfterFailure() {
+		PartitionLanes partitionLanes = new PartitionLanes(1);
+		Future<Void> failedFuture = partitionLanes.submit("10001", 
+			() -> Future.failedFuture("processing failed"));
+		Future<Void> nextFuture = partitionLanes.submit("10001", () -> Future.succeededFuture());
+
+		assertTrue(failedFuture.failed());
+		assertTrue(nextFuture.succeeded());
+	}
+}
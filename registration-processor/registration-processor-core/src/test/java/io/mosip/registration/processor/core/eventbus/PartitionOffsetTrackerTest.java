@@ -0,0 +1,50 @@
+package io.mosip.registration.processor.core.eventbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+public class PartitionOffsetTrackerTest {
+
+	@Test
+	public void testCompleteInOrder() {
+		PartitionOffsetTracker partitionOffsetTracker = new PartitionOffsetTracker();
+		partitionOffsetTracker.track(0);
+		partitionOffsetTracker.track(1);
+		assertEquals(0, partitionOffsetTracker.complete(0));
+		assertEquals(1, partitionOffsetTracker.complete(1));
+		assertEquals(0, partitionOffsetTracker.getInFlightCount());
+	}
+
+	@Test
+	public void testCompleteOutOfOrder() {
+		PartitionOffsetTracker partitionOffsetTracker = new PartitionOffsetTracker();
+		partitionOffsetTracker.track(5);
+		partitionOffsetTracker.track(6);
+		partitionOffsetTracker.track(7);
+		assertEquals(-1, partitionOffsetTracker.complete(7));
+		assertEquals(-1, partitionOffsetTracker.complete(6));
+		assertEquals(3, partitionOffsetTracker.getInFlightCount());
+		assertEquals(7, partitionOffsetTracker.complete(5));
+		assertEquals(0, partitionOffsetTracker.getInFlightCount());
+	}
+
+	@Test
+	public void testCompleteUntrackedOffset() {
+		PartitionOffsetTracker partitionOffsetTracker = new PartitionOffsetTracker();
+		partitionOffsetTracker.track(1);
+		assertEquals(-1, partitionOffsetTracker.complete(2));
+		assertEquals(1, partitionOffsetTracker.getInFlightCount());
+	}
+
+	@Test
+	public void testClear() {
+		PartitionOffsetTracker partitionOffsetTracker = new PartitionOffsetTracker();
+		partitionOffsetTracker.track(1);
+		partitionOffsetTracker.setPaused(true);
+		partitionOffsetTracker.clear();
+		assertEquals(0, partitionOffsetTracker.getInFlightCount());
+		assertFalse(partitionOffsetTracker.isPaused());
+	}
+}
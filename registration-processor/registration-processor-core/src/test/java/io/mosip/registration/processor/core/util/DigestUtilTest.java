@@ -0,0 +1,28 @@
+package io.mosip.registration.processor.core.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class DigestUtilTest {
+
+	@Test
+	public void testDigestAsPlainText() throws IOException, NoSuchAlgorithmException {
+		assertEquals("BA7816BF8F01CFEA414140DE5DAE2223B00361A396177A9CB410FF61F20015AD",
+				DigestUtil.digestAsPlainText(new ByteArrayInputStream("abc".getBytes())));
+	}
+
+	@Test
+	public void testDigestOfStreamLargerThanBuffer() throws IOException, NoSuchAlgorithmException {
+		byte[] packet = new byte[200 * 1024 + 7];
+		Arrays.fill(packet, (byte) 'a');
+
+		assertEquals(DigestUtil.encodeBytesToHex(DigestUtil.newMessageDigest().digest(packet)),
+				DigestUtil.digestAsPlainText(new ByteArrayInputStream(packet)));
+	}
+}
@@ -73,6 +73,9 @@ public class PacketInfoDao {
 	/** The Constant AND. */
 	private static final String AND = " AND ";
 
+	/** The Constant OR. */
+	private static final String OR = " OR ";
+
 	/** The Constant IS_NOT_NULL. */
 	private static final String IS_NOT_NULL = " IS NOT NULL ";
 
@@ -234,6 +237,47 @@ public class PacketInfoDao {
 		return demographicInfoDtos;
 	}
 
+	/**
+	 * Gets the demographic info dtos matching the name, gender, dob and lang code of
+	 * any of the given demographics, with one query for all of them instead of one
+	 * per language.
+	 *
+	 * @param demographicInfoDtos
+	 *            the demographics to match
+	 * @return the matching demographic info dtos
+	 */
+	public List<DemographicInfoDto> getAllDemographicInfoDtos(List<DemographicInfoDto> demographicInfoDtos) {
+		if (demographicInfoDtos.isEmpty())
+			return new ArrayList<>();
+		Map<String, Object> params = new HashMap<>();
+		String className = IndividualDemographicDedupeEntity.class.getSimpleName();
+		String alias = IndividualDemographicDedupeEntity.class.getName().toLowerCase().substring(0, 1);
+		StringBuilder query = new StringBuilder();
+		query.append(SELECT + alias + FROM + className + EMPTY_STRING + alias + WHERE + "(");
+		for (int i = 0; i < demographicInfoDtos.size(); i++) {
+			DemographicInfoDto demoDto = demographicInfoDtos.get(i);
+			query.append(i == 0 ? "(" : OR + "(");
+			if (demoDto.getName() != null) {
+				query.append(alias + ".name=:name" + i).append(AND);
+				params.put("name" + i, demoDto.getName());
+			}
+			if (demoDto.getGenderCode() != null) {
+				query.append(alias + ".gender=:gender" + i).append(AND);
+				params.put("gender" + i, demoDto.getGenderCode());
+			}
+			if (demoDto.getDob() != null) {
+				query.append(alias + ".dob=:dob" + i).append(AND);
+				params.put("dob" + i, demoDto.getDob());
+			}
+			query.append(alias + ".id.langCode=:langCode" + i).append(")");
+			params.put("langCode" + i, demoDto.getLangCode());
+		}
+		query.append(")").append(AND);
+		query.append(alias + ".isActive=:isActive");
+		params.put("isActive", IS_ACTIVE_TRUE);
+		return convertEntityToDemographicDto(demographicDedupeRepository.createQuerySelect(query.toString(), params));
+	}
+
 	/**
 	 * Gets the reg id by UIN.
 	 *
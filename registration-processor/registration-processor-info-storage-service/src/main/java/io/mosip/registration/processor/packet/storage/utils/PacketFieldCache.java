@@ -0,0 +1,195 @@
+package io.mosip.registration.processor.packet.storage.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of the values read from the packet manager, kept per RID so that
+ * all the entries of a packet can be dropped at once when its tags or iteration
+ * change. The values of a RID are dropped once they are older than the configured
+ * time to live, and the least recently read RID is evicted when the number of RIDs
+ * exceeds the configured limit.
+ */
+public class PacketFieldCache {
+
+	private static final Object NULL_VALUE = new Object();
+
+	private final boolean enabled;
+
+	private final long ttlMillis;
+
+	private final Map<String, RidEntry> entries;
+
+	private final LongSupplier clock;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	public PacketFieldCache(int maxRids, long ttlMillis) {
+		this(maxRids, ttlMillis, System::currentTimeMillis);
+	}
+
+	PacketFieldCache(int maxRids, long ttlMillis, LongSupplier clock) {
+		this.enabled = maxRids > 0 && ttlMillis > 0;
+		this.ttlMillis = ttlMillis;
+		this.clock = clock;
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<String, RidEntry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, RidEntry> eldest) {
+				return size() > maxRids;
+			}
+		});
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the cached values of the given names for the RID, process and source.
+	 * Names that are not cached are left out of the returned map, so a name mapped to
+	 * null is a cached null value.
+	 */
+	public Map<String, Object> getAll(String rid, String process, String source, Iterable<String> names) {
+		Map<String, Object> found = new HashMap<>();
+		RidEntry ridEntry = enabled ? getRidEntry(rid) : null;
+		for (String name : names) {
+			Object value = ridEntry != null ? ridEntry.values.get(new Key(process, source, name)) : null;
+			if (value == null) {
+				misses.incrementAndGet();
+			} else {
+				hits.incrementAndGet();
+				found.put(name, value == NULL_VALUE ? null : value);
+			}
+		}
+		return found;
+	}
+
+	public void put(String rid, String process, String source, String name, Object value) {
+		if (!enabled)
+			return;
+		RidEntry ridEntry;
+		synchronized (entries) {
+			ridEntry = getRidEntry(rid);
+			if (ridEntry == null) {
+				ridEntry = new RidEntry(clock.getAsLong(), null);
+				entries.put(rid, ridEntry);
+			}
+		}
+		ridEntry.values.put(new Key(process, source, name), value == null ? NULL_VALUE : value);
+	}
+
+	public void putAll(String rid, String process, String source, Map<String, ?> values) {
+		if (values != null)
+			values.forEach((name, value) -> put(rid, process, source, name, value));
+	}
+
+	/**
+	 * Scopes the values cached for the RID to the given iteration of the packet. The
+	 * values cached for another iteration, or before any iteration was set, are
+	 * dropped.
+	 */
+	public void beginIteration(String rid, String iteration) {
+		if (!enabled || rid == null)
+			return;
+		synchronized (entries) {
+			RidEntry ridEntry = getRidEntry(rid);
+			if (ridEntry == null || !Objects.equals(ridEntry.iteration, iteration))
+				entries.put(rid, new RidEntry(clock.getAsLong(), iteration));
+		}
+	}
+
+	/**
+	 * Drops every value cached for the RID.
+	 */
+	public void invalidate(String rid) {
+		if (rid != null)
+			entries.remove(rid);
+	}
+
+	public void invalidateAll() {
+		entries.clear();
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	public double getHitRatio() {
+		long total = hits.get() + misses.get();
+		return total == 0 ? 0 : (double) hits.get() / total;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private RidEntry getRidEntry(String rid) {
+		synchronized (entries) {
+			RidEntry ridEntry = entries.get(rid);
+			if (ridEntry != null && clock.getAsLong() - ridEntry.createdTime >= ttlMillis) {
+				entries.remove(rid);
+				return null;
+			}
+			return ridEntry;
+		}
+	}
+
+	private static class RidEntry {
+
+		private final long createdTime;
+
+		private final String iteration;
+
+		private final Map<Key, Object> values = new ConcurrentHashMap<>();
+
+		RidEntry(long createdTime, String iteration) {
+			this.createdTime = createdTime;
+			this.iteration = iteration;
+		}
+	}
+
+	private static class Key {
+
+		private final String process;
+
+		private final String source;
+
+		private final String name;
+
+		Key(String process, String source, String name) {
+			this.process = process;
+			this.source = source;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (!(o instanceof Key))
+				return false;
+			Key key = (Key) o;
+			return Objects.equals(process, key.process) && Objects.equals(source, key.source)
+					&& Objects.equals(name, key.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(process, source, name);
+		}
+	}
+}
@@ -2,6 +2,7 @@ package io.mosip.registration.processor.packet.storage.utils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +15,7 @@ import io.mosip.registration.processor.packet.storage.exception.ObjectDoesnotExi
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -24,6 +26,12 @@ import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.core.util.JsonUtils;
 import io.mosip.kernel.core.util.exception.JsonProcessingException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
+import io.mosip.registration.processor.core.abstractverticle.StageMessageListener;
 import io.mosip.registration.processor.core.code.ApiName;
 import io.mosip.registration.processor.core.common.rest.dto.ErrorDTO;
 import io.mosip.registration.processor.core.constant.LoggerFileConstant;
@@ -46,14 +54,17 @@ import io.mosip.registration.processor.packet.storage.dto.InfoRequestDto;
 import io.mosip.registration.processor.packet.storage.dto.InfoResponseDto;
 import io.mosip.registration.processor.packet.storage.dto.UpdateTagRequestDto;
 import io.mosip.registration.processor.packet.storage.dto.ValidatePacketResponse;
+import io.vertx.micrometer.backends.BackendRegistries;
 
 @Component
-public class PacketManagerService extends PriorityBasedPacketManagerService {
+public class PacketManagerService extends PriorityBasedPacketManagerService implements StageMessageListener {
 
     private static Logger regProcLogger = RegProcessorLogger.getLogger(PacketManagerService.class);
     private static final String ID = "mosip.commmons.packetmanager";
     private static final String VERSION = "v1";
     private static final String OBJECT_DOESNOT_EXISTS_ERROR_CODE = "KER-PUT-027";
+    private static final String METAINFO_CACHE_KEY = "#metaInfo";
+    private static final String INFO_CACHE_KEY = "#info";
 
     @Autowired
     private RegistrationProcessorRestClientService<Object> restApi;
@@ -64,12 +75,68 @@ public class PacketManagerService extends PriorityBasedPacketManagerService {
     @Autowired
     private Utilities utilities;
 
+    @Value("${packetmanager.cache.max-rids:0}")
+    private int cacheMaxRids;
+
+    @Value("${packetmanager.cache.ttl-seconds:120}")
+    private long cacheTtlSeconds;
+
+    private PacketFieldCache fieldCache;
+
+    private volatile boolean fieldCacheMetricsRegistered;
+
     @PostConstruct
     private void setObjectMapper() {
         objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
     }
 
+    @PostConstruct
+    private void initFieldCache() {
+        fieldCache = new PacketFieldCache(cacheMaxRids, cacheTtlSeconds * 1000);
+    }
+
+    /**
+     * Cache of the fields, meta info and source info read for the packets recently
+     * processed by this service, dropped for a packet when its tags are changed or
+     * when a message of another workflow instance or iteration of it is received
+     */
+    public PacketFieldCache getFieldCache() {
+        if (!fieldCacheMetricsRegistered)
+            registerFieldCacheMetrics();
+        return fieldCache;
+    }
+
+    @Override
+    public void beforeProcess(MessageDTO message) {
+        fieldCache.beginIteration(message.getRid(), message.getWorkflowInstanceId() + "#" + message.getIteration());
+    }
+
+    private synchronized void registerFieldCacheMetrics() {
+        if (fieldCacheMetricsRegistered)
+            return;
+        fieldCacheMetricsRegistered = true;
+        MeterRegistry meterRegistry = BackendRegistries.getDefaultNow();
+        if (meterRegistry == null)
+            meterRegistry = Metrics.globalRegistry;
+        FunctionCounter.builder("packetmanager.cache.hits", fieldCache, PacketFieldCache::getHitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("packetmanager.cache.misses", fieldCache, PacketFieldCache::getMissCount)
+                .register(meterRegistry);
+        Gauge.builder("packetmanager.cache.hit.ratio", fieldCache, PacketFieldCache::getHitRatio)
+                .register(meterRegistry);
+        Gauge.builder("packetmanager.cache.rids", fieldCache, PacketFieldCache::size).register(meterRegistry);
+    }
+
     protected String getField(String id, String field, String source, String process) throws ApisResourceAccessException, PacketManagerException, JsonProcessingException, IOException {
+        Map<String, Object> cached = getFieldCache().getAll(id, process, source, List.of(field));
+        String responseField = cached.containsKey(field) ? (String) cached.get(field)
+                : fetchField(id, field, source, process);
+        if (StringUtils.isNotEmpty(responseField) && responseField.equalsIgnoreCase("null"))
+            responseField = null;
+        return responseField;
+    }
+
+    private String fetchField(String id, String field, String source, String process) throws ApisResourceAccessException, PacketManagerException, JsonProcessingException, IOException {
         FieldDto fieldDto = new FieldDto(id, field, source, process, false);
 
         RequestWrapper<FieldDto> request = new RequestWrapper<>();
@@ -91,12 +158,31 @@ public class PacketManagerService extends PriorityBasedPacketManagerService {
         FieldResponseDto fieldResponseDto = objectMapper.readValue(JsonUtils.javaObjectToJsonString(response.getResponse()), FieldResponseDto.class);
 
         String responseField = fieldResponseDto.getFields().get(field);
-        if (StringUtils.isNotEmpty(responseField) && responseField.equalsIgnoreCase("null"))
-            responseField = null;
+        fieldCache.put(id, process, source, field, responseField);
         return responseField;
     }
 
     protected Map<String, String> getFields(String id, List<String> fields, String source, String process) throws ApisResourceAccessException, PacketManagerException, JsonProcessingException, IOException {
+        Map<String, Object> cached = getFieldCache().getAll(id, process, source, fields);
+        if (cached.isEmpty())
+            return fetchFields(id, fields, source, process);
+
+        Map<String, String> fieldMap = new HashMap<>();
+        cached.forEach((field, value) -> fieldMap.put(field, (String) value));
+        List<String> missingFields = new ArrayList<>();
+        for (String field : fields) {
+            if (!cached.containsKey(field))
+                missingFields.add(field);
+        }
+        if (!missingFields.isEmpty()) {
+            Map<String, String> fetchedFields = fetchFields(id, missingFields, source, process);
+            if (fetchedFields != null)
+                fieldMap.putAll(fetchedFields);
+        }
+        return fieldMap;
+    }
+
+    private Map<String, String> fetchFields(String id, List<String> fields, String source, String process) throws ApisResourceAccessException, PacketManagerException, JsonProcessingException, IOException {
         FieldDtos fieldDto = new FieldDtos(id, fields, source, process, false);
 
         RequestWrapper<FieldDtos> request = new RequestWrapper<>();
@@ -117,6 +203,7 @@ public class PacketManagerService extends PriorityBasedPacketManagerService {
 
         FieldResponseDto fieldResponseDto = objectMapper.readValue(JsonUtils.javaObjectToJsonString(response.getResponse()), FieldResponseDto.class);
 
+        fieldCache.putAll(id, process, source, fieldResponseDto.getFields());
         return fieldResponseDto.getFields();
     }
 
@@ -227,7 +314,14 @@ public class PacketManagerService extends PriorityBasedPacketManagerService {
 
     }
 
+    @SuppressWarnings("unchecked")
     protected Map<String, String> getMetaInfo(String id, String source, String process) throws ApisResourceAccessException, PacketManagerException, JsonProcessingException, IOException {
+        Map<String, Object> cached = getFieldCache().getAll(id, process, source, List.of(METAINFO_CACHE_KEY));
+        if (cached.containsKey(METAINFO_CACHE_KEY)) {
+            Map<String, String> metaInfo = (Map<String, String>) cached.get(METAINFO_CACHE_KEY);
+            return metaInfo != null ? new HashMap<>(metaInfo) : null;
+        }
+
         InfoDto fieldDto = new InfoDto(id, source, process, false);
 
         RequestWrapper<InfoDto> request = new RequestWrapper<>();
@@ -249,10 +343,16 @@ public class PacketManagerService extends PriorityBasedPacketManagerService {
 
         FieldResponseDto fieldResponseDto = objectMapper.readValue(JsonUtils.javaObjectToJsonString(response.getResponse()), FieldResponseDto.class);
 
-        return fieldResponseDto.getFields();
+        Map<String, String> metaInfo = fieldResponseDto.getFields();
+        fieldCache.put(id, process, source, METAINFO_CACHE_KEY, metaInfo != null ? new HashMap<>(metaInfo) : null);
+        return metaInfo;
     }
 
     protected InfoResponseDto info(String id) throws ApisResourceAccessException, PacketManagerException, JsonProcessingException, IOException {
+        Map<String, Object> cached = getFieldCache().getAll(id, null, null, List.of(INFO_CACHE_KEY));
+        if (cached.containsKey(INFO_CACHE_KEY))
+            return objectMapper.readValue((String) cached.get(INFO_CACHE_KEY), InfoResponseDto.class);
+
         InfoRequestDto infoRequestDto = new InfoRequestDto(id);
 
         RequestWrapper<InfoRequestDto> request = new RequestWrapper<>();
@@ -271,8 +371,11 @@ public class PacketManagerService extends PriorityBasedPacketManagerService {
                 throw new PacketManagerException(errorDTO.getErrorCode(), errorDTO.getMessage());
         }
 
-        InfoResponseDto infoResponseDto = objectMapper.readValue(JsonUtils.javaObjectToJsonString(response.getResponse()), InfoResponseDto.class);
+        String info = JsonUtils.javaObjectToJsonString(response.getResponse());
+        InfoResponseDto infoResponseDto = objectMapper.readValue(info, InfoResponseDto.class);
 
+        // kept as json so that every caller gets its own copy of the source info
+        fieldCache.put(id, null, null, INFO_CACHE_KEY, info);
         return infoResponseDto;
     }
 
@@ -285,6 +388,7 @@ public class PacketManagerService extends PriorityBasedPacketManagerService {
         request.setRequesttime(DateUtils.getUTCCurrentDateTime());
         request.setRequest(updateTagRequestDto);
         ResponseWrapper<Void> response = (ResponseWrapper) restApi.postApi(ApiName.PACKETMANAGER_UPDATE_TAGS, "", "", request, ResponseWrapper.class);
+        fieldCache.invalidate(id);
 
         if (response.getErrors() != null && response.getErrors().size() > 0) {
             regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(), id, JsonUtils.javaObjectToJsonString(response));
@@ -308,6 +412,7 @@ public class PacketManagerService extends PriorityBasedPacketManagerService {
 		ResponseWrapper<DeleteTagResponseDTO> response = (ResponseWrapper<DeleteTagResponseDTO>) restApi
 				.postApi(ApiName.PACKETMANAGER_DELETE_TAGS, "", "",
 				request, ResponseWrapper.class);
+		fieldCache.invalidate(id);
 
 		if (response.getErrors() != null && response.getErrors().size() > 0) {
 			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
@@ -69,6 +69,37 @@ public class PriorityBasedPacketManagerService {
 
         return getField(id, field, process, stageName);
     }
+
+    /**
+     * Get fields of several mapping json Constant keys in one call, so a stage can
+     * read all the fields it needs from the packet manager at once.
+     *
+     * @param id
+     * @param keys
+     * @param process
+     * @param stageName
+     * @return field value by mapping json key
+     * @throws ApisResourceAccessException
+     * @throws PacketManagerException
+     * @throws JsonProcessingException
+     * @throws IOException
+     */
+    public Map<String, String> getFieldsByMappingJsonKeys(String id, List<String> keys, String process, ProviderStageName stageName) throws ApisResourceAccessException, PacketManagerException, JsonProcessingException, IOException {
+        JSONObject regProcessorIdentityJson = utilities.getRegistrationProcessorMappingJson(MappingJsonConstants.IDENTITY);
+        Map<String, String> fieldByKey = new HashMap<>();
+        for (String key : keys) {
+            fieldByKey.put(key, JsonUtil.getJSONValue(
+                    JsonUtil.getJSONObject(regProcessorIdentityJson, key),
+                    MappingJsonConstants.VALUE));
+        }
+        List<String> fields = fieldByKey.values().stream().filter(field -> field != null).distinct()
+                .collect(Collectors.toList());
+        Map<String, String> fieldMap = getFields(id, fields, process, stageName);
+
+        Map<String, String> valueByKey = new HashMap<>();
+        fieldByKey.forEach((key, field) -> valueByKey.put(key, fieldMap.get(field)));
+        return valueByKey;
+    }
     
     public Map<String, String> getAllFieldsByMappingJsonKeys(String id, String process, ProviderStageName stageName) throws ApisResourceAccessException, PacketManagerException, JsonProcessingException, IOException {
         JSONObject regProcessorIdentityJson = utilities.getRegistrationProcessorMappingJson(MappingJsonConstants.IDENTITY);
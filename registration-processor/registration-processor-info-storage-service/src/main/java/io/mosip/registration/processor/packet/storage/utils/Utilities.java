@@ -9,6 +9,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -250,10 +251,10 @@ public class Utilities {
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), id,
 				"Utilities::getApplicantAge()::entry");
 
-		String applicantDob = packetManagerService.getFieldByMappingJsonKey(id, MappingJsonConstants.DOB, process,
-				stageName);
-		String applicantAge = packetManagerService.getFieldByMappingJsonKey(id, MappingJsonConstants.AGE, process,
-				stageName);
+		Map<String, String> applicantDobAndAge = packetManagerService.getFieldsByMappingJsonKeys(id,
+				Arrays.asList(MappingJsonConstants.DOB, MappingJsonConstants.AGE), process, stageName);
+		String applicantDob = applicantDobAndAge.get(MappingJsonConstants.DOB);
+		String applicantAge = applicantDobAndAge.get(MappingJsonConstants.AGE);
 		if (applicantDob != null) {
 			return calculateAge(applicantDob);
 		} else if (applicantAge != null) {
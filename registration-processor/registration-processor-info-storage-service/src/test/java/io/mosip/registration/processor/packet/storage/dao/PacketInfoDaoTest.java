@@ -148,6 +148,28 @@ public class PacketInfoDaoTest {
 		assertEquals("2018782130000224092018121229", demographicDedupeDtoList.get(0).getRegId());
 	}
 
+	@Test
+	public void getAllDemographicInfoDtosOfAllLanguagesTest() {
+		List<IndividualDemographicDedupeEntity> demographicDedupeEntityList = new ArrayList<>();
+		demographicDedupeEntityList.add(dedupeEntity);
+		Mockito.when(demographicDedupeRepository.createQuerySelect(anyString(), any()))
+				.thenReturn(demographicDedupeEntityList);
+		DemographicInfoDto frenchDemo = new DemographicInfoDto();
+		frenchDemo.setName("Ibrahim");
+		frenchDemo.setLangCode("fr");
+		DemographicInfoDto arabicDemo = new DemographicInfoDto();
+		arabicDemo.setName("Ibrahim");
+		arabicDemo.setLangCode("ara");
+		List<DemographicInfoDto> demos = new ArrayList<>();
+		demos.add(frenchDemo);
+		demos.add(arabicDemo);
+
+		List<DemographicInfoDto> demographicDedupeDtoList = packetInfodao.getAllDemographicInfoDtos(demos);
+
+		assertEquals("2018782130000224092018121229", demographicDedupeDtoList.get(0).getRegId());
+		Mockito.verify(demographicDedupeRepository, Mockito.times(1)).createQuerySelect(anyString(), any());
+	}
+
 	@Test
 	public void testgetAbisRequestsByBioRefId() {
 		List<AbisRequestEntity> abisRequestEntityList = new ArrayList<>();
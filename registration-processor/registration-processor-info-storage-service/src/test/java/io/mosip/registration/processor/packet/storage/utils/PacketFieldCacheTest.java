@@ -0,0 +1,129 @@
+package io.mosip.registration.processor.packet.storage.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PacketFieldCacheTest {
+
+	private static final String RID = "10002100741000120201231071308";
+
+	private AtomicLong time;
+
+	private PacketFieldCache cache;
+
+	@Before
+	public void setup() {
+		time = new AtomicLong(1000);
+		cache = new PacketFieldCache(2, 60000, time::get);
+	}
+
+	@Test
+	public void testGetAllReturnsOnlyCachedFields() {
+		Map<String, String> fields = new HashMap<>();
+		fields.put("name", "John");
+		fields.put("email", null);
+		cache.putAll(RID, "NEW", "REGISTRATION_CLIENT", fields);
+
+		Map<String, Object> cached = cache.getAll(RID, "NEW", "REGISTRATION_CLIENT",
+				Arrays.asList("name", "email", "phone"));
+
+		assertEquals(2, cached.size());
+		assertEquals("John", cached.get("name"));
+		assertTrue(cached.containsKey("email"));
+		assertNull(cached.get("email"));
+		assertFalse(cached.containsKey("phone"));
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void testFieldsAreKeyedByProcessAndSource() {
+		cache.put(RID, "NEW", "REGISTRATION_CLIENT", "name", "John");
+
+		assertTrue(cache.getAll(RID, "UPDATE", "REGISTRATION_CLIENT", List.of("name")).isEmpty());
+		assertTrue(cache.getAll(RID, "NEW", "RESIDENT", List.of("name")).isEmpty());
+		assertEquals("John", cache.getAll(RID, "NEW", "REGISTRATION_CLIENT", List.of("name")).get("name"));
+	}
+
+	@Test
+	public void testInvalidateDropsAllFieldsOfRid() {
+		cache.put(RID, "NEW", "REGISTRATION_CLIENT", "name", "John");
+		cache.put(RID, "NEW", null, "email", "john@mosip.io");
+		cache.put("10002100741000120201231071309", "NEW", null, "name", "Jane");
+
+		cache.invalidate(RID);
+
+		assertTrue(cache.getAll(RID, "NEW", "REGISTRATION_CLIENT", List.of("name")).isEmpty());
+		assertTrue(cache.getAll(RID, "NEW", null, List.of("email")).isEmpty());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testNewIterationDropsFieldsOfPreviousIteration() {
+		cache.beginIteration(RID, "wf1#1");
+		cache.put(RID, "NEW", null, "name", "John");
+
+		cache.beginIteration(RID, "wf1#1");
+		assertEquals("John", cache.getAll(RID, "NEW", null, List.of("name")).get("name"));
+
+		cache.beginIteration(RID, "wf1#2");
+		assertTrue(cache.getAll(RID, "NEW", null, List.of("name")).isEmpty());
+
+		cache.put(RID, "NEW", null, "name", "Jane");
+		cache.beginIteration(RID, "wf2#1");
+		assertTrue(cache.getAll(RID, "NEW", null, List.of("name")).isEmpty());
+	}
+
+	@Test
+	public void testFieldsCachedWithoutIterationAreDroppedOnFirstIteration() {
+		cache.put(RID, "NEW", null, "name", "John");
+
+		cache.beginIteration(RID, "wf1#1");
+
+		assertTrue(cache.getAll(RID, "NEW", null, List.of("name")).isEmpty());
+	}
+
+	@Test
+	public void testRidExpiresAfterTtl() {
+		cache.put(RID, "NEW", null, "name", "John");
+		time.addAndGet(59999);
+		assertEquals("John", cache.getAll(RID, "NEW", null, List.of("name")).get("name"));
+
+		time.addAndGet(1);
+		assertTrue(cache.getAll(RID, "NEW", null, List.of("name")).isEmpty());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testLeastRecentlyReadRidIsEvicted() {
+		cache.put("rid1", "NEW", null, "name", "John");
+		cache.put("rid2", "NEW", null, "name", "Jane");
+		cache.getAll("rid1", "NEW", null, List.of("name"));
+		cache.put("rid3", "NEW", null, "name", "Jack");
+
+		assertEquals(2, cache.size());
+		assertTrue(cache.getAll("rid2", "NEW", null, List.of("name")).isEmpty());
+		assertEquals("John", cache.getAll("rid1", "NEW", null, List.of("name")).get("name"));
+	}
+
+	@Test
+	public void testDisabledCacheKeepsNothing() {
+		PacketFieldCache disabledCache = new PacketFieldCache(0, 60000, time::get);
+		disabledCache.put(RID, "NEW", null, "name", "John");
+
+		assertFalse(disabledCache.isEnabled());
+		assertTrue(disabledCache.getAll(RID, "NEW", null, List.of("name")).isEmpty());
+		assertEquals(0.0, disabledCache.getHitRatio(), 0.0);
+	}
+}
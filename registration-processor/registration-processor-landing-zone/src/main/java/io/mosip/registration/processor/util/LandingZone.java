@@ -1,17 +1,19 @@
 package io.mosip.registration.processor.util;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +22,9 @@ import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.processor.core.constant.LandingZoneTypeConstant;
@@ -31,7 +36,9 @@ import io.mosip.registration.processor.packet.manager.dto.DirectoryPathDto;
 @Component
 class LandingZone {
 	private static Logger regProcLogger = RegProcessorLogger.getLogger(LandingZone.class);
-	private static final int MAX_NUMBER_OF_PACKETS = 100;
+	private static final String MANIFEST_FILE_NAME = ".objectstore-moved.manifest";
+	private static final String MOVE_TIME_METRIC = "mosip.regproc.landingzone.packet.move.time";
+	private static final String MOVE_SIZE_METRIC = "mosip.regproc.landingzone.packet.move.bytes";
 	@Value("${mosip.regproc.landing.zone.account.name}")
 	private String landingZoneAccount;
 
@@ -41,6 +48,19 @@ class LandingZone {
 	@Value("${registration.processor.packet.ext}")
 	private String extention;
 
+	/** Number of packets moved to the object store at the same time */
+	@Value("${mosip.regproc.landing.zone.mover.pool-size:4}")
+	private int moverPoolSize;
+
+	/** Checkpoint file of the mover, by default a file in the landing zone directory */
+	@Value("${mosip.regproc.landing.zone.mover.manifest:}")
+	private String manifestFile;
+
+	private final Timer moveTimer = Timer.builder(MOVE_TIME_METRIC).register(Metrics.globalRegistry);
+
+	private final DistributionSummary moveSize = DistributionSummary.builder(MOVE_SIZE_METRIC).baseUnit("bytes")
+			.register(Metrics.globalRegistry);
+
 	@Autowired
 	private FileManager<DirectoryPathDto, InputStream> fileManager;
 
@@ -63,27 +83,15 @@ class LandingZone {
 					"PacketUploaderServiceImpl::movePacketsToObjectStore()::entry");
 
 			try {
-
-				List<File> packetList = new ArrayList<>();
-				try(Stream<Path> PathStream=Files.list(Paths.get(env.getProperty(DirectoryPathDto.LANDING_ZONE.toString())))){
-					PathStream.map(Path::toFile)
-					.filter(File::isFile).filter(file -> file.getName().endsWith(extention)).forEach(file -> {
-						packetList.add(file);
-						if (packetList.size() >= MAX_NUMBER_OF_PACKETS) {
-							packetList.forEach(packet -> handlePacket(packet));
-							packetList.clear();
-						}
-					});
-				}
-
-				if (packetList.size() < MAX_NUMBER_OF_PACKETS) {
-					packetList.forEach(packet -> handlePacket(packet));
-					packetList.clear();
-				}
-
+				Path landingZonePath = Paths.get(env.getProperty(DirectoryPathDto.LANDING_ZONE.toString()));
+				movePackets(landingZonePath);
 			} catch (IOException e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "", e.getMessage());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
+						LoggerFileConstant.REGISTRATIONID.toString(), "", e.getMessage());
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "", e.getMessage());
@@ -94,23 +102,102 @@ class LandingZone {
 				"PacketUploaderServiceImpl::movePacketsToObjectStore()::exit");
 	}
 
-	private void handlePacket(File packet) {
+	/**
+	 * Lists the landing zone and moves the packets with a bounded pool of workers,
+	 * holding at most twice the pool size of listed packets in memory. The packets
+	 * already stored by an interrupted run are found in the manifest and are only
+	 * deleted from the landing zone.
+	 */
+	private void movePackets(Path landingZonePath) throws IOException, InterruptedException {
+		Path manifestPath = manifestFile == null || manifestFile.isEmpty()
+				? landingZonePath.resolve(MANIFEST_FILE_NAME)
+				: Paths.get(manifestFile);
+		int poolSize = Math.max(1, moverPoolSize);
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+			Thread thread = new Thread(runnable, "landing-zone-mover-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		Semaphore pending = new Semaphore(poolSize * 2);
+		AtomicInteger movedCount = new AtomicInteger();
+		AtomicLong movedBytes = new AtomicLong();
+		long startTime = System.nanoTime();
+		try (LandingZoneManifest manifest = LandingZoneManifest.open(manifestPath,
+				packetId -> Files.exists(landingZonePath.resolve(packetId + extention)));
+				Stream<Path> pathStream = Files.list(landingZonePath)) {
+			try {
+				pathStream.map(Path::toFile).filter(File::isFile).filter(file -> file.getName().endsWith(extention))
+						.forEach(file -> {
+							pending.acquireUninterruptibly();
+							try {
+								executor.execute(() -> {
+									try {
+										long size = handlePacket(file, manifest);
+										if (size >= 0) {
+											movedCount.incrementAndGet();
+											movedBytes.addAndGet(size);
+										}
+									} finally {
+										pending.release();
+									}
+								});
+							} catch (RejectedExecutionException e) {
+								pending.release();
+								throw e;
+							}
+						});
+			} finally {
+				executor.shutdown();
+				while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+					regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+							"", "LandingZone::movePackets()::waiting for packets being moved");
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+				"Moved " + movedCount.get() + " packets, " + movedBytes.get() + " bytes in " + elapsedMillis
+						+ " ms to landing zone object store");
+	}
+
+	/**
+	 * Stores the packet and deletes it from the landing zone.
+	 *
+	 * @return the size of the packet if it has been moved, -1 otherwise
+	 */
+	private long handlePacket(File packet, LandingZoneManifest manifest) {
 
 		String regId = packet.getName().split("-")[0];
 		String packetId = packet.getName().split("\\.")[0];
 		if (packet.exists()) {
 			boolean result;
 			try {
-				InputStream stream = new FileInputStream(packet);
-				result = objectStoreAdapter.putObject(landingZoneAccount, regId, null, null, packetId, stream);
-				stream.close();
+				long size = packet.length();
+				long startTime = System.nanoTime();
+				if (manifest.isMoved(packetId, size)) {
+					result = true;
+				} else {
+					try (InputStream stream = new FileInputStream(packet)) {
+						result = objectStoreAdapter.putObject(landingZoneAccount, regId, null, null, packetId, stream);
+					}
+					if (result)
+						manifest.markMoved(packetId, size);
+				}
 				if (!result) {
 					regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
 							regId, packetId + ":Packet store not accesible");
 				} else {
 					fileManager.deletePacket(DirectoryPathDto.LANDING_ZONE, packetId);
+					long elapsedNanos = System.nanoTime() - startTime;
+					moveTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+					moveSize.record(size);
 					regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
-							regId, packetId + ":Packet has been moved to landing zone object store ");
+							regId, packetId + ":Packet has been moved to landing zone object store, " + size
+									+ " bytes in " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms");
+					return size;
 				}
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
@@ -120,5 +207,6 @@ class LandingZone {
 			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), regId,
 					packetId + ":Packet not present in dmz server");
 		}
+		return -1;
 	}
 }
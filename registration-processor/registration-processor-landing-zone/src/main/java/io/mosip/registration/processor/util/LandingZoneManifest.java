@@ -0,0 +1,87 @@
+package io.mosip.registration.processor.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Checkpoint of the packets already stored in the object store by the landing zone
+ * mover, one "packetId size" line per packet. A run that is interrupted after
+ * storing a packet but before deleting it from the landing zone resumes without
+ * storing it again. Entries of packets no longer in the landing zone are dropped
+ * when the manifest is opened.
+ */
+class LandingZoneManifest implements Closeable {
+
+	private final Map<String, Long> movedPackets = new ConcurrentHashMap<>();
+
+	private final BufferedWriter writer;
+
+	private LandingZoneManifest(Path manifestFile, Predicate<String> isPending) throws IOException {
+		if (Files.exists(manifestFile)) {
+			List<String> lines = Files.readAllLines(manifestFile, StandardCharsets.UTF_8);
+			for (String line : lines) {
+				String[] entry = line.trim().split(" ");
+				if (entry.length == 2 && isPending.test(entry[0])) {
+					try {
+						movedPackets.put(entry[0], Long.parseLong(entry[1]));
+					} catch (NumberFormatException e) {
+						// a line cut short by an interrupted run
+					}
+				}
+			}
+		}
+		writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		for (Map.Entry<String, Long> entry : movedPackets.entrySet())
+			writeEntry(entry.getKey(), entry.getValue());
+		writer.flush();
+	}
+
+	/**
+	 * Opens the manifest, keeping only the entries of the packets for which
+	 * isPending is true.
+	 */
+	static LandingZoneManifest open(Path manifestFile, Predicate<String> isPending) throws IOException {
+		return new LandingZoneManifest(manifestFile, isPending);
+	}
+
+	/**
+	 * Returns true if the packet of this size has already been stored.
+	 */
+	boolean isMoved(String packetId, long size) {
+		Long movedSize = movedPackets.get(packetId);
+		return movedSize != null && movedSize == size;
+	}
+
+	/**
+	 * Records that the packet has been stored, the entry is flushed before returning.
+	 */
+	synchronized void markMoved(String packetId, long size) throws IOException {
+		movedPackets.put(packetId, size);
+		writeEntry(packetId, size);
+		writer.flush();
+	}
+
+	int size() {
+		return movedPackets.size();
+	}
+
+	private void writeEntry(String packetId, long size) throws IOException {
+		writer.write(packetId + " " + size);
+		writer.newLine();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		writer.close();
+	}
+}
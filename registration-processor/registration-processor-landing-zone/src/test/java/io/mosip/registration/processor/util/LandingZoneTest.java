@@ -1,10 +1,21 @@
 package io.mosip.registration.processor.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -21,7 +32,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
 import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
+import io.mosip.registration.processor.core.spi.filesystem.manager.FileManager;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+import io.mosip.registration.processor.packet.manager.dto.DirectoryPathDto;
 
 
 @RefreshScope
@@ -43,6 +56,11 @@ public class LandingZoneTest {
 
 	@Mock
 	 private RegistrationProcessorRestClientService<Object> registrationProcessorRestService;
+
+	@Mock
+	private FileManager<DirectoryPathDto, InputStream> fileManager;
+
+	private Path landingZonePath;
 	
 	@Before
 	public void setup() throws ApisResourceAccessException {
@@ -71,4 +89,32 @@ public class LandingZoneTest {
 		Mockito.when(objectStoreAdapter.putObject(any(), any(), any(), any(), any(), any())).thenReturn(false);		
 		landingZone.movePacketsToObjectStore();
 	};
+
+	@Test
+	public void movePacketsToObjectStoreResumeTest() throws IOException {
+		landingZonePath = Files.createTempDirectory("landing");
+		Files.write(landingZonePath.resolve("10001-1.zip"), new byte[3]);
+		Files.write(landingZonePath.resolve("10002-1.zip"), new byte[5]);
+		Mockito.when(env.getProperty(any())).thenReturn(landingZonePath.toString());
+		ReflectionTestUtils.setField(landingZone, "moverPoolSize", 2);
+		Mockito.doThrow(new IOException("not deleted")).when(fileManager).deletePacket(any(), anyString());
+
+		landingZone.movePacketsToObjectStore();
+		landingZone.movePacketsToObjectStore();
+
+		Mockito.verify(objectStoreAdapter).putObject(any(), anyString(), any(), any(), Mockito.eq("10001-1"), any());
+		Mockito.verify(objectStoreAdapter).putObject(any(), anyString(), any(), any(), Mockito.eq("10002-1"), any());
+		Mockito.verify(fileManager, Mockito.times(4)).deletePacket(any(), anyString());
+		List<String> manifest = Files.readAllLines(landingZonePath.resolve(".objectstore-moved.manifest"),
+				StandardCharsets.UTF_8);
+		Collections.sort(manifest);
+		assertEquals("10001-1 3", manifest.get(0));
+		assertEquals("10002-1 5", manifest.get(1));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (landingZonePath != null)
+			FileUtils.deleteDirectory(landingZonePath.toFile());
+	}
 }
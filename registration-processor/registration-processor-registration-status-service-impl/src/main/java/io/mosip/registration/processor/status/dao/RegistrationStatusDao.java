@@ -8,9 +8,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
@@ -19,8 +21,10 @@ import io.mosip.registration.processor.core.workflow.dto.FilterInfo;
 import io.mosip.registration.processor.core.workflow.dto.PaginationInfo;
 import io.mosip.registration.processor.core.workflow.dto.SortInfo;
 import io.mosip.registration.processor.status.code.RegistrationStatusCode;
+import io.mosip.registration.processor.status.dto.KeysetPage;
 import io.mosip.registration.processor.status.entity.RegistrationStatusEntity;
 import io.mosip.registration.processor.status.repositary.RegistrationRepositary;
+import io.mosip.registration.processor.status.utilities.SearchCursor;
 
 /**
  * The Class RegistrationStatusDao.
@@ -35,9 +39,15 @@ public class RegistrationStatusDao {
 	@Autowired
 	RegistrationRepositary<RegistrationStatusEntity, String> registrationStatusRepositary;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	/** The Constant AND. */
 	public static final String AND = "AND";
 
+	/** The maximum number of rids in one IN query. */
+	private static final int RID_QUERY_CHUNK_SIZE = 1000;
+
 	/** The Constant EMPTY_STRING. */
 	public static final String EMPTY_STRING = " ";
 
@@ -69,6 +79,16 @@ public class RegistrationStatusDao {
 
 	public static final String ORDER_BY = "order by ";
 
+	private static final String ASC = "asc";
+
+	private static final String DESC = "desc";
+
+	private static final String WORKFLOW_INSTANCE_ID = ".id.workflowInstanceId";
+
+	private static final String CURSOR_ID = "cursorId";
+
+	private static final String CURSOR_VALUE = "cursorValue";
+
 	public static final String CREATED_DATE_TIME = "createDateTime";
 
 	public static final String UPDATED_DATE_TIME = "updateDateTime";
@@ -97,6 +117,32 @@ public class RegistrationStatusDao {
 		return registrationStatusRepositary.save(registrationStatusEntity);
 	}
 
+	public List<RegistrationStatusEntity> saveAll(List<RegistrationStatusEntity> registrationStatusEntities) {
+
+		return registrationStatusRepositary.saveAll(registrationStatusEntities);
+	}
+
+	/**
+	 * Updates registrations read earlier in the current transaction. They are
+	 * already in the persistence context, so their state is copied without reading
+	 * them again and the updates are sent in JDBC batches at flush when
+	 * hibernate.jdbc.batch_size is set.
+	 *
+	 * @param registrationStatusEntities
+	 *            the registration status entities
+	 */
+	public void updateAll(List<RegistrationStatusEntity> registrationStatusEntities) {
+		for (RegistrationStatusEntity registrationStatusEntity : registrationStatusEntities)
+			entityManager.merge(registrationStatusEntity);
+	}
+
+	/**
+	 * Sends the pending writes of the current transaction to the database.
+	 */
+	public void flush() {
+		entityManager.flush();
+	}
+
 	/**
 	 * Find by id.
 	 *
@@ -114,6 +160,26 @@ public class RegistrationStatusDao {
 		return !registrationStatusEntityList.isEmpty() ? registrationStatusEntityList.get(0) : null;
 	}
 
+	/**
+	 * Finds the registrations of many packets in two reads, by workflow instance
+	 * id for the ones that have it and by registration id for the others, the
+	 * same way {@link #find(String, String, Integer, String)} looks up one packet.
+	 *
+	 * @param rids
+	 *            registration ids of the packets without workflow instance id
+	 * @param workflowInstanceIds
+	 *            workflow instance ids of the other packets
+	 * @return the registrations found
+	 */
+	public List<RegistrationStatusEntity> findAll(List<String> rids, List<String> workflowInstanceIds) {
+		List<RegistrationStatusEntity> registrationStatusEntityList = new ArrayList<>();
+		if (!workflowInstanceIds.isEmpty())
+			registrationStatusEntityList.addAll(registrationStatusRepositary.findByWorkflowInstanceIds(workflowInstanceIds));
+		if (!rids.isEmpty())
+			registrationStatusEntityList.addAll(registrationStatusRepositary.findByRegIds(rids));
+		return registrationStatusEntityList;
+	}
+
 	public List<RegistrationStatusEntity> findAll(String rid) {
 
 		return registrationStatusRepositary.findByRegId(rid);
@@ -131,6 +197,23 @@ public class RegistrationStatusDao {
 		return registrationStatusRepositary.findByStatusCode(status);
 	}
 
+	/**
+	 * Gets a page of the search results ordered by the sort field and then by the
+	 * workflow instance id, so that the order is stable. When the pagination has a
+	 * cursor the page starts after the record of the cursor, which is a range
+	 * condition on the indexed sort columns instead of an offset, and the next
+	 * cursor is returned with the page while there are more records. The total is
+	 * not counted; with estimateCount it is the estimate of the planner statistics
+	 * of the table when there are no filters.
+	 *
+	 * @param filters
+	 *            the filters
+	 * @param sort
+	 *            the sort, null to order by the workflow instance id only
+	 * @param pagination
+	 *            the pagination
+	 * @return the page, a {@link KeysetPage}
+	 */
 	public Page<RegistrationStatusEntity> getPagedSearchResults(List<FilterInfo> filters, SortInfo sort,
 			PaginationInfo pagination) {
 		Map<String, Object> params = new HashMap<>();
@@ -138,6 +221,8 @@ public class RegistrationStatusDao {
 		String queryStr=null;
 		long rows = 0;
 		String alias = RegistrationStatusEntity.class.getName().toLowerCase().substring(0, 1);
+		String sortField = sort == null ? null : SearchCursor.getSortField(sort.getSortField());
+		String sortType = sort != null && DESC.equalsIgnoreCase(sort.getSortType()) ? DESC : ASC;
 		params.put(ISDELETED, Boolean.FALSE);
 		queryStr = SELECT + alias + FROM + className + EMPTY_STRING + alias + WHERE + alias + ISDELETED_COLON
 				+ ISDELETED;
@@ -152,17 +237,77 @@ public class RegistrationStatusDao {
 
 			}
 		}
-		if (sort != null) {
-			sb.append(EMPTY_STRING + ORDER_BY + sort.getSortField() + EMPTY_STRING + sort.getSortType());
+		if (pagination.getCursor() != null) {
+			SearchCursor cursor = SearchCursor.decode(pagination.getCursor());
+			if ((sort != null && sortField == null) || !cursor.matches(sortField, sortType))
+				throw new IllegalArgumentException("Search cursor does not match the sort of the search");
+			appendKeysetCondition(sb, params, alias, sortField, sortType, cursor);
+		}
+		sb.append(EMPTY_STRING + ORDER_BY);
+		if (sortField != null) {
+			sb.append(alias + "." + sortField + EMPTY_STRING + sortType + ", ");
+		} else if (sort != null) {
+			sb.append(sort.getSortField() + EMPTY_STRING + sort.getSortType() + ", ");
 		}
+		sb.append(alias + WORKFLOW_INSTANCE_ID + EMPTY_STRING + sortType);
+		// one record more than the page tells if there is a next page
 		List<RegistrationStatusEntity> result = registrationStatusRepositary.createQuerySelect(sb.toString(), params,
-			pagination.getPageFetch());
+			pagination.getPageFetch() + 1);
+		String nextCursor = null;
+		if (result.size() > pagination.getPageFetch()) {
+			result = new ArrayList<>(result.subList(0, pagination.getPageFetch()));
+			if (sort == null || sortField != null)
+				nextCursor = getSearchCursor(result.get(result.size() - 1), sortField, sortType).encode();
+		}
 		rows = result.size();
+		if (pagination.isEstimateCount() && filters.isEmpty()) {
+			Long estimatedRows = registrationStatusRepositary.getEstimatedRowCount();
+			if (estimatedRows != null && estimatedRows > rows)
+				rows = estimatedRows;
+		}
 
-		return new PageImpl<>(result,
+		return new KeysetPage<>(result,
 				PageRequest.of(pagination.getPageStart(), pagination.getPageFetch()),
-				rows);
+				rows, nextCursor);
+
+	}
+
+	/**
+	 * Appends the condition that selects the records after the cursor in the order
+	 * of the search. Null values of the sort field come last in ascending order and
+	 * first in descending order.
+	 */
+	private void appendKeysetCondition(StringBuilder sb, Map<String, Object> params, String alias, String sortField,
+			String sortType, SearchCursor cursor) {
+		String comparison = ASC.equals(sortType) ? ">" : "<";
+		String idCondition = alias + WORKFLOW_INSTANCE_ID + comparison + ":" + CURSOR_ID;
+		params.put(CURSOR_ID, cursor.getWorkflowInstanceId());
+		if (sortField == null) {
+			sb.append(EMPTY_STRING + AND + EMPTY_STRING + idCondition);
+			return;
+		}
+		String field = alias + "." + sortField;
+		if (cursor.getSortValue() == null) {
+			sb.append(EMPTY_STRING + AND + " ((" + field + " IS NULL " + AND + EMPTY_STRING + idCondition + ")");
+			sb.append(ASC.equals(sortType) ? ")" : " OR " + field + " IS NOT NULL)");
+			return;
+		}
+		params.put(CURSOR_VALUE, cursor.getSortValue());
+		sb.append(EMPTY_STRING + AND + " (" + field + comparison + ":" + CURSOR_VALUE + " OR (" + field + "=:"
+				+ CURSOR_VALUE + EMPTY_STRING + AND + EMPTY_STRING + idCondition + ")");
+		sb.append(ASC.equals(sortType) ? " OR " + field + " IS NULL)" : ")");
+	}
 
+	private static SearchCursor getSearchCursor(RegistrationStatusEntity entity, String sortField,
+			String sortType) {
+		LocalDateTime sortValue = null;
+		if ("createDateTime".equals(sortField))
+			sortValue = entity.getCreateDateTime();
+		else if ("updateDateTime".equals(sortField))
+			sortValue = entity.getUpdateDateTime();
+		else if ("resumeTimeStamp".equals(sortField))
+			sortValue = entity.getResumeTimeStamp();
+		return new SearchCursor(sortField, sortType, sortValue, entity.getId().getWorkflowInstanceId());
 	}
 
 	/**
@@ -205,6 +350,48 @@ public class RegistrationStatusDao {
 			statusCodes, fetchSize, excludeStageNames);
 	}
 
+	/**
+	 * Gets the next page of un processed packets ordered by latest transaction
+	 * time and workflow instance id, starting after the given cursor.
+	 *
+	 * @param fetchSize
+	 *            the fetch size
+	 * @param elapseTime
+	 *            the elapse time
+	 * @param reprocessCount
+	 *            the reprocess count
+	 * @param status
+	 *            the status
+	 * @param excludeStageNames
+	 *            the exclude stage names
+	 * @param lastTransactionTimes
+	 *            latest transaction time of the last packet of the previous page,
+	 *            null to start from the beginning
+	 * @param lastWorkflowInstanceId
+	 *            workflow instance id of the last packet of the previous page
+	 * @return the un processed packets
+	 */
+	public List<RegistrationStatusEntity> getUnProcessedPackets(Integer fetchSize, long elapseTime,
+			Integer reprocessCount, List<String> status, List<String> excludeStageNames,
+			LocalDateTime lastTransactionTimes, String lastWorkflowInstanceId) {
+
+		LocalDateTime timeDifference = LocalDateTime.now().minusSeconds(elapseTime);
+		List<String> statusCodes=new ArrayList<>();
+		statusCodes.add(RegistrationStatusCode.PAUSED.toString());
+		statusCodes.add(RegistrationStatusCode.RESUMABLE.toString());
+		statusCodes.add(RegistrationStatusCode.PAUSED_FOR_ADDITIONAL_INFO.toString());
+		statusCodes.add(RegistrationStatusCode.REJECTED.toString());
+		statusCodes.add(RegistrationStatusCode.FAILED.toString());
+		statusCodes.add(RegistrationStatusCode.PROCESSED.toString());
+
+		if (lastTransactionTimes == null) {
+			lastTransactionTimes = LocalDateTime.of(1970, 1, 1, 0, 0);
+			lastWorkflowInstanceId = "";
+		}
+		return registrationStatusRepositary.getUnProcessedPacketsAfter(status, reprocessCount, timeDifference,
+			statusCodes, excludeStageNames, lastTransactionTimes, lastWorkflowInstanceId, fetchSize);
+	}
+
 	public Integer getUnProcessedPacketsCount(long elapseTime, Integer reprocessCount, List<String> status, 
 			List<String> excludeStageNames) {
 		LocalDateTime timeDifference = LocalDateTime.now().minusSeconds(elapseTime);
@@ -219,6 +406,25 @@ public class RegistrationStatusDao {
 
 	}
 
+	/**
+	 * Gets the rids, among the given ones, for which uin is available, reading them
+	 * in chunks of {@value #RID_QUERY_CHUNK_SIZE} rids per query.
+	 *
+	 * @param rids
+	 *            the rids
+	 * @return the rids with uin
+	 */
+	public List<String> getRidsWithUin(List<String> rids) {
+		List<String> ridsWithUin = new ArrayList<>();
+		List<String> statusCodes = new ArrayList<>();
+		statusCodes.add(RegistrationStatusCode.PROCESSED.toString());
+		for (int from = 0; from < rids.size(); from += RID_QUERY_CHUNK_SIZE) {
+			List<String> chunk = rids.subList(from, Math.min(from + RID_QUERY_CHUNK_SIZE, rids.size()));
+			ridsWithUin.addAll(registrationStatusRepositary.getProcessedOrProcessingRegIds(chunk, statusCodes));
+		}
+		return ridsWithUin;
+	}
+
 	/**
 	 * Gets the by ids.
 	 *
@@ -5,9 +5,14 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import io.mosip.registration.processor.core.workflow.dto.SortInfo;
@@ -32,6 +37,12 @@ public class SyncRegistrationDao {
 	@Autowired
 	SaltRepository saltRepository;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/** The maximum number of packet ids in one query of {@link #saveAllByPacketId(List)}. */
+	private static final int PACKET_ID_QUERY_SIZE = 1000;
+
 	/** The Constant AND. */
 	public static final String AND = "AND";
 
@@ -90,6 +101,49 @@ public class SyncRegistrationDao {
 		return syncRegistrationRepository.save(syncRegistrationEntity);
 	}
 
+	/**
+	 * Saves the entities in one transaction. The records already synced for their
+	 * packet ids are read with IN queries and updated in place, keeping their
+	 * workflow instance id and create time, the other entities are inserted. No
+	 * record is read again before it is written, so the statements are sent in
+	 * JDBC batches at flush when hibernate.jdbc.batch_size is set. A packet id
+	 * repeated in the list updates the record of its first entity.
+	 *
+	 * @param syncRegistrationEntities
+	 *            the sync registration entities, with a new workflow instance id
+	 * @return the number of entities that updated an existing record
+	 */
+	@Transactional
+	public int saveAllByPacketId(List<SyncRegistrationEntity> syncRegistrationEntities) {
+		List<String> packetIds = syncRegistrationEntities.stream().map(SyncRegistrationEntity::getPacketId)
+				.distinct().collect(Collectors.toList());
+		Map<String, SyncRegistrationEntity> syncedRegistrations = new HashMap<>();
+		for (int from = 0; from < packetIds.size(); from += PACKET_ID_QUERY_SIZE) {
+			List<String> chunk = packetIds.subList(from, Math.min(from + PACKET_ID_QUERY_SIZE, packetIds.size()));
+			for (SyncRegistrationEntity entity : syncRegistrationRepository.findByPacketIds(chunk))
+				syncedRegistrations.putIfAbsent(entity.getPacketId(), entity);
+		}
+
+		int updatedCount = 0;
+		for (SyncRegistrationEntity entity : syncRegistrationEntities) {
+			SyncRegistrationEntity syncedRegistration = syncedRegistrations.get(entity.getPacketId());
+			if (syncedRegistration == null) {
+				entityManager.persist(entity);
+				syncedRegistrations.put(entity.getPacketId(), entity);
+			} else {
+				entity.setWorkflowInstanceId(syncedRegistration.getWorkflowInstanceId());
+				entity.setCreateDateTime(syncedRegistration.getCreateDateTime());
+				if (entity.getCreateDateTime() != null)
+					entity.setRegistrationDate(entity.getCreateDateTime().toLocalDate());
+				// the record is managed by this transaction, its state is copied without reading it
+				entityManager.merge(entity);
+				updatedCount++;
+			}
+		}
+		entityManager.flush();
+		return updatedCount;
+	}
+
 	/**
 	 * Find by id.
 	 *
@@ -210,4 +264,13 @@ public class SyncRegistrationDao {
 		return saltEntity.getSalt();
 	}
 
+	/**
+	 * Gets the whole salt table.
+	 *
+	 * @return the salts
+	 */
+	public List<SaltEntity> getAllSalts() {
+		return saltRepository.findAll();
+	}
+
 }
\ No newline at end of file
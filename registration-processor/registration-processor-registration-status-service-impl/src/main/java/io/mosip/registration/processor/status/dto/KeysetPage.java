@@ -0,0 +1,30 @@
+package io.mosip.registration.processor.status.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A page of search results with the cursor that fetches the page after it.
+ *
+ * @param <T> the type of the records
+ */
+public class KeysetPage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String nextCursor;
+
+	public KeysetPage(List<T> content, Pageable pageable, long total, String nextCursor) {
+		super(content, pageable, total);
+		this.nextCursor = nextCursor;
+	}
+
+	/**
+	 * The cursor of the next page, null on the last page.
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+}
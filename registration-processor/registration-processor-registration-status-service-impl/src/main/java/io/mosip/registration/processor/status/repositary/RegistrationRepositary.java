@@ -49,10 +49,16 @@ public interface RegistrationRepositary<T extends BaseRegistrationEntity, E> ext
 	
 	@Query("SELECT registration FROM RegistrationStatusEntity registration WHERE registration.id.workflowInstanceId = :workflowInstanceId AND registration.isDeleted =false AND registration.isActive=true")
 	public List<RegistrationStatusEntity> findByWorkflowInstanceId(@Param("workflowInstanceId") String workflowInstanceId);
+
+	@Query("SELECT registration FROM RegistrationStatusEntity registration WHERE registration.id.workflowInstanceId IN :workflowInstanceIds AND registration.isDeleted =false AND registration.isActive=true")
+	public List<RegistrationStatusEntity> findByWorkflowInstanceIds(@Param("workflowInstanceIds") List<String> workflowInstanceIds);
 	
 	@Query(value ="SELECT * FROM registration r WHERE r.latest_trn_status_code IN :status AND r.reg_process_retry_count<=:reprocessCount AND r.latest_trn_dtimes <:timeDifference AND r.status_code NOT IN :statusCodes AND r.reg_stage_name NOT IN :excludeStageNames LIMIT :fetchSize ", nativeQuery = true)
 	public List<RegistrationStatusEntity> getUnProcessedPackets(@Param("status") List<String> status,@Param("reprocessCount") Integer reprocessCount,@Param("timeDifference") LocalDateTime timeDifference,@Param("statusCodes") List<String> statusCodes,@Param("fetchSize") Integer fetchSize,@Param("excludeStageNames") List<String> excludeStageNames);
 	
+	@Query(value ="SELECT * FROM registration r WHERE r.latest_trn_status_code IN :status AND r.reg_process_retry_count<=:reprocessCount AND r.latest_trn_dtimes <:timeDifference AND r.status_code NOT IN :statusCodes AND r.reg_stage_name NOT IN :excludeStageNames AND (r.latest_trn_dtimes, r.workflow_instance_id) > (:lastTransactionTimes, :lastWorkflowInstanceId) ORDER BY r.latest_trn_dtimes, r.workflow_instance_id LIMIT :fetchSize ", nativeQuery = true)
+	public List<RegistrationStatusEntity> getUnProcessedPacketsAfter(@Param("status") List<String> status,@Param("reprocessCount") Integer reprocessCount,@Param("timeDifference") LocalDateTime timeDifference,@Param("statusCodes") List<String> statusCodes,@Param("excludeStageNames") List<String> excludeStageNames,@Param("lastTransactionTimes") LocalDateTime lastTransactionTimes,@Param("lastWorkflowInstanceId") String lastWorkflowInstanceId,@Param("fetchSize") Integer fetchSize);
+	
 	@Query("SELECT COUNT(*) FROM RegistrationStatusEntity registration WHERE registration.latestTransactionStatusCode IN :status AND registration.regProcessRetryCount<=:reprocessCount AND registration.latestTransactionTimes<:timeDifference AND registration.statusCode  NOT IN :statusCodes AND registration.registrationStageName NOT IN :excludeStageNames")
 	public int getUnProcessedPacketsCount(@Param("status") List<String> status,@Param("reprocessCount") Integer reprocessCount,@Param("timeDifference") LocalDateTime timeDifference,@Param("statusCodes") List<String> statusCodes,@Param("excludeStageNames") List<String> excludeStageNames);
 	
@@ -61,5 +67,8 @@ public interface RegistrationRepositary<T extends BaseRegistrationEntity, E> ext
 
 	@Query(value ="SELECT * FROM registration r WHERE r.status_code =:statusCode  order by r.upd_dtimes LIMIT :fetchSize ", nativeQuery = true)
 	public List<RegistrationStatusEntity> getResumablePackets(@Param("statusCode") String statusCode,@Param("fetchSize") Integer fetchSize);
+
+	@Query(value ="SELECT CAST(c.reltuples AS bigint) FROM pg_class c WHERE c.oid = to_regclass('registration') ", nativeQuery = true)
+	public Long getEstimatedRowCount();
 }
 
@@ -1,5 +1,6 @@
 package io.mosip.registration.processor.status.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -77,6 +78,55 @@ public interface RegistrationStatusService<T, U, D> {
 	 */
 	public void updateRegistrationStatusForWorkflowEngine(U registrationStatusDto, String moduleId, String moduleName);
 
+	/**
+	 * Update the registration statuses of many packets in one transaction, with
+	 * one read of the current registrations and batched writes of the transactions
+	 * and the registrations. A status whose registration is not found is not
+	 * updated and is returned.
+	 *
+	 * @param registrationStatusDtos
+	 *            the registration status dtos
+	 * @param moduleId
+	 *            the module id
+	 * @param moduleName
+	 *            the module name
+	 * @return the registration status dtos whose registration was not found
+	 */
+	public List<U> updateRegistrationStatuses(List<U> registrationStatusDtos, String moduleId, String moduleName);
+
+	/**
+	 * Update the registration statuses of many packets for workflow Engine in one
+	 * transaction.
+	 *
+	 * @param registrationStatusDtos
+	 *            the registration status dtos
+	 * @param moduleId
+	 *            the module id
+	 * @param moduleName
+	 *            the module name
+	 * @return the registration status dtos whose registration was not found
+	 */
+	public List<U> updateRegistrationStatusesForWorkflowEngine(List<U> registrationStatusDtos, String moduleId,
+			String moduleName);
+
+	/**
+	 * Update the registration statuses of many packets for workflow Engine in one
+	 * transaction, without the audit of each registration when the caller audits
+	 * the whole batch.
+	 *
+	 * @param registrationStatusDtos
+	 *            the registration status dtos
+	 * @param moduleId
+	 *            the module id
+	 * @param moduleName
+	 *            the module name
+	 * @param isAuditRequired
+	 *            false to skip the audit of each registration
+	 * @return the registration status dtos whose registration was not found
+	 */
+	public List<U> updateRegistrationStatusesForWorkflowEngine(List<U> registrationStatusDtos, String moduleId,
+			String moduleName, boolean isAuditRequired);
+
 	/**
 	 * Gets the by status.
 	 *
@@ -122,6 +172,32 @@ public interface RegistrationStatusService<T, U, D> {
 	public List<U> getUnProcessedPackets(Integer fetchSize, long elapseTime, Integer reprocessCount,
 			List<String> status, List<String> excludeStageNames);
 
+	/**
+	 * Gets the next page of un processed packets ordered by latest transaction
+	 * time and workflow instance id, so that a scan can resume after the last packet
+	 * of the previous page instead of reading from the start again.
+	 *
+	 * @param fetchSize
+	 *            the fetch size
+	 * @param elapseTime
+	 *            the elapse time
+	 * @param reprocessCount
+	 *            the reprocess count
+	 * @param status
+	 *            the status
+	 * @param excludeStageNames
+	 *            the exclude stage names
+	 * @param lastTransactionTimes
+	 *            latest transaction time of the last packet of the previous page,
+	 *            null for the first page
+	 * @param lastWorkflowInstanceId
+	 *            workflow instance id of the last packet of the previous page
+	 * @return the un processed packets with their latest transaction time
+	 */
+	public List<U> getUnProcessedPackets(Integer fetchSize, long elapseTime, Integer reprocessCount,
+			List<String> status, List<String> excludeStageNames, LocalDateTime lastTransactionTimes,
+			String lastWorkflowInstanceId);
+
 	/**
 	 * Gets the un processed packets count.
 	 *
@@ -147,6 +223,16 @@ public interface RegistrationStatusService<T, U, D> {
 	 */
 	public Boolean checkUinAvailabilityForRid(String rid);
 
+	/**
+	 * Gets the rids, among the given ones, for which uin is available, with one
+	 * query per chunk of rids instead of one per rid.
+	 *
+	 * @param rids
+	 *            the rids
+	 * @return the rids with uin
+	 */
+	public List<String> getRidsWithUin(List<String> rids);
+
 	/**
 	 * Gets the by ids and timestamp.
 	 *
@@ -27,6 +27,16 @@ public interface TransactionService<U> {
 	 */
 	public TransactionEntity addRegistrationTransaction(U registrationStatusDto);
 
+	/**
+	 * Adds the registration transactions, inserted in JDBC batches at flush when
+	 * hibernate.jdbc.batch_size is set.
+	 *
+	 * @param registrationStatusDtos
+	 *            the registration status dtos
+	 * @return the transaction entities
+	 */
+	public List<TransactionEntity> addRegistrationTransactions(List<U> registrationStatusDtos);
+
 	/**
 	 * Gets the transaction by reg id and status code.
 	 *
@@ -4,20 +4,24 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import javax.persistence.PersistenceException;
+
 import io.mosip.registration.processor.core.code.RegistrationTransactionTypeCode;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -36,12 +40,14 @@ import io.mosip.registration.processor.status.code.RegistrationExternalStatusCod
 import io.mosip.registration.processor.status.code.RegistrationStatusCode;
 import io.mosip.registration.processor.status.dao.RegistrationStatusDao;
 import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
+import io.mosip.registration.processor.status.dto.KeysetPage;
 import io.mosip.registration.processor.status.dto.RegistrationStatusDto;
 import io.mosip.registration.processor.status.dto.RegistrationStatusSubRequestDto;
 import io.mosip.registration.processor.status.dto.TransactionDto;
 import io.mosip.registration.processor.status.entity.BaseRegistrationPKEntity;
 import io.mosip.registration.processor.status.entity.RegistrationStatusEntity;
 import io.mosip.registration.processor.status.exception.TablenotAccessibleException;
+import io.mosip.registration.processor.status.exception.TransactionTableNotAccessibleException;
 import io.mosip.registration.processor.status.service.RegistrationStatusService;
 import io.mosip.registration.processor.status.service.TransactionService;
 import io.mosip.registration.processor.status.utilities.RegistrationExternalStatusUtility;
@@ -183,10 +189,11 @@ public class RegistrationStatusServiceImpl
 				}
 
 			}
-			return new PageImpl<>(regList,
+			return new KeysetPage<>(regList,
 					PageRequest.of(searchInfo.getPagination().getPageStart(),
 							searchInfo.getPagination().getPageFetch()),
-					pageDto.getTotalElements());
+					pageDto.getTotalElements(),
+					pageDto instanceof KeysetPage ? ((KeysetPage<?>) pageDto).getNextCursor() : null);
 		} catch (DataAccessLayerException e) {
 			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 					"", e.getMessage() + ExceptionUtils.getStackTrace(e));
@@ -282,17 +289,8 @@ public class RegistrationStatusServiceImpl
 		String transactionId = generateId();
 		String latestTransactionId = getLatestTransactionId(registrationStatusDto.getRegistrationId(),
 				registrationStatusDto.getRegistrationType(), registrationStatusDto.getIteration(), registrationStatusDto.getWorkflowInstanceId());
-		TransactionDto transactionDto = new TransactionDto(transactionId, registrationStatusDto.getRegistrationId(),
-				latestTransactionId, registrationStatusDto.getLatestTransactionTypeCode(),
-				"updated registration status record", registrationStatusDto.getLatestTransactionStatusCode(),
-				registrationStatusDto.getStatusComment(), registrationStatusDto.getSubStatusCode());
-		if (registrationStatusDto.getRefId() == null) {
-			transactionDto.setReferenceId(registrationStatusDto.getRegistrationId());
-		} else {
-			transactionDto.setReferenceId(registrationStatusDto.getRefId());
-		}
-
-		transactionDto.setReferenceIdType("updated registration record");
+		TransactionDto transactionDto = createUpdateTransaction(registrationStatusDto, transactionId,
+				latestTransactionId);
 		transcationStatusService.addRegistrationTransaction(transactionDto);
 
 		registrationStatusDto.setLatestRegistrationTransactionId(transactionId);
@@ -336,6 +334,147 @@ public class RegistrationStatusServiceImpl
 				"RegistrationStatusServiceImpl::updateRegistrationStatus()::exit");
 	}
 
+	private TransactionDto createUpdateTransaction(InternalRegistrationStatusDto registrationStatusDto,
+			String transactionId, String latestTransactionId) {
+		TransactionDto transactionDto = new TransactionDto(transactionId, registrationStatusDto.getRegistrationId(),
+				latestTransactionId, registrationStatusDto.getLatestTransactionTypeCode(),
+				"updated registration status record", registrationStatusDto.getLatestTransactionStatusCode(),
+				registrationStatusDto.getStatusComment(), registrationStatusDto.getSubStatusCode());
+		if (registrationStatusDto.getRefId() == null) {
+			transactionDto.setReferenceId(registrationStatusDto.getRegistrationId());
+		} else {
+			transactionDto.setReferenceId(registrationStatusDto.getRefId());
+		}
+
+		transactionDto.setReferenceIdType("updated registration record");
+		return transactionDto;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.registration.processor.status.service.RegistrationStatusService#
+	 * updateRegistrationStatuses(java.util.List)
+	 */
+	@Override
+	@Transactional
+	public List<InternalRegistrationStatusDto> updateRegistrationStatuses(
+			List<InternalRegistrationStatusDto> registrationStatusDtos, String moduleId, String moduleName) {
+		return updateRegistrationStatuses(registrationStatusDtos, moduleId, moduleName, false, true);
+	}
+
+	@Override
+	@Transactional
+	public List<InternalRegistrationStatusDto> updateRegistrationStatusesForWorkflowEngine(
+			List<InternalRegistrationStatusDto> registrationStatusDtos, String moduleId, String moduleName) {
+		return updateRegistrationStatuses(registrationStatusDtos, moduleId, moduleName, true, true);
+	}
+
+	@Override
+	@Transactional
+	public List<InternalRegistrationStatusDto> updateRegistrationStatusesForWorkflowEngine(
+			List<InternalRegistrationStatusDto> registrationStatusDtos, String moduleId, String moduleName,
+			boolean isAuditRequired) {
+		return updateRegistrationStatuses(registrationStatusDtos, moduleId, moduleName, true, isAuditRequired);
+	}
+
+	private List<InternalRegistrationStatusDto> updateRegistrationStatuses(
+			List<InternalRegistrationStatusDto> registrationStatusDtos, String moduleId, String moduleName,
+			boolean updateStatusCode, boolean isAuditRequired) {
+		List<InternalRegistrationStatusDto> notFoundDtos = new ArrayList<>();
+		if (CollectionUtils.isEmpty(registrationStatusDtos))
+			return notFoundDtos;
+		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+				"RegistrationStatusServiceImpl::updateRegistrationStatuses()::entry");
+		boolean isTransactionSuccessful = false;
+		LogDescription description = new LogDescription();
+		List<InternalRegistrationStatusDto> updatedDtos = registrationStatusDtos;
+		try {
+			List<String> rids = new ArrayList<>();
+			List<String> workflowInstanceIds = new ArrayList<>();
+			for (InternalRegistrationStatusDto registrationStatusDto : registrationStatusDtos) {
+				if (registrationStatusDto.getWorkflowInstanceId() != null)
+					workflowInstanceIds.add(registrationStatusDto.getWorkflowInstanceId());
+				else
+					rids.add(registrationStatusDto.getRegistrationId());
+			}
+			Map<String, RegistrationStatusEntity> entitiesByWorkflowInstanceId = new HashMap<>();
+			Map<String, RegistrationStatusEntity> entitiesByRid = new HashMap<>();
+			for (RegistrationStatusEntity entity : registrationStatusDao.findAll(rids, workflowInstanceIds)) {
+				entitiesByWorkflowInstanceId.putIfAbsent(entity.getId().getWorkflowInstanceId(), entity);
+				entitiesByRid.putIfAbsent(entity.getRegId(), entity);
+			}
+
+			List<TransactionDto> transactionDtos = new ArrayList<>();
+			List<RegistrationStatusEntity> entities = new ArrayList<>();
+			updatedDtos = new ArrayList<>();
+			for (InternalRegistrationStatusDto registrationStatusDto : registrationStatusDtos) {
+				RegistrationStatusEntity existingEntity = registrationStatusDto.getWorkflowInstanceId() != null
+						? entitiesByWorkflowInstanceId.get(registrationStatusDto.getWorkflowInstanceId())
+						: entitiesByRid.get(registrationStatusDto.getRegistrationId());
+				if (existingEntity == null) {
+					notFoundDtos.add(registrationStatusDto);
+					continue;
+				}
+				String transactionId = generateId();
+				transactionDtos.add(createUpdateTransaction(registrationStatusDto, transactionId,
+						existingEntity.getLatestRegistrationTransactionId()));
+				registrationStatusDto.setLatestRegistrationTransactionId(transactionId);
+				RegistrationStatusEntity entity = convertDtoToEntity(registrationStatusDto,
+						existingEntity.getLastSuccessStageName(), updateStatusCode);
+				entity.setId(existingEntity.getId());
+				if (entity.getStatusCode() == null) {
+					entity.setStatusCode(existingEntity.getStatusCode());
+				}
+				entities.add(entity);
+				updatedDtos.add(registrationStatusDto);
+			}
+			if (!notFoundDtos.isEmpty())
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+						notFoundDtos.stream().map(InternalRegistrationStatusDto::getRegistrationId)
+								.collect(Collectors.joining(",")),
+						"RegistrationStatusServiceImpl::updateRegistrationStatuses()::registration not found, status not updated");
+			transcationStatusService.addRegistrationTransactions(transactionDtos);
+			registrationStatusDao.updateAll(entities);
+			// flushed here so that a failed write is reported before the success audit
+			registrationStatusDao.flush();
+			isTransactionSuccessful = true;
+			description.setMessage("Updated registration status successfully");
+		} catch (DataAccessException | DataAccessLayerException | PersistenceException
+				| TransactionTableNotAccessibleException e) {
+			description.setMessage("DataAccessLayerException while Updating registration statuses::" + e.getMessage());
+
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					"", e.getMessage() + ExceptionUtils.getStackTrace(e));
+			throw new TablenotAccessibleException(
+					PlatformErrorMessages.RPR_RGS_REGISTRATION_TABLE_NOT_ACCESSIBLE.getMessage(), e);
+		} finally {
+
+			String eventId = isTransactionSuccessful ? EventId.RPR_407.toString() : EventId.RPR_405.toString();
+			String eventName = eventId.equalsIgnoreCase(EventId.RPR_407.toString()) ? EventName.UPDATE.toString()
+					: EventName.EXCEPTION.toString();
+			String eventType = eventId.equalsIgnoreCase(EventId.RPR_407.toString()) ? EventType.BUSINESS.toString()
+					: EventType.SYSTEM.toString();
+
+			if (!disableAudit && isAuditRequired) {
+				for (InternalRegistrationStatusDto registrationStatusDto : updatedDtos)
+					auditLogRequestBuilder.createAuditRequestBuilder(description.getMessage(), eventId, eventName,
+						eventType, moduleId, moduleName, registrationStatusDto.getRegistrationId());
+				if (isTransactionSuccessful)
+					for (InternalRegistrationStatusDto registrationStatusDto : notFoundDtos)
+						auditLogRequestBuilder.createAuditRequestBuilder(
+								"Registration not found, status not updated", EventId.RPR_405.toString(),
+								EventName.EXCEPTION.toString(), EventType.SYSTEM.toString(), moduleId, moduleName,
+								registrationStatusDto.getRegistrationId());
+			}
+
+		}
+		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+				"RegistrationStatusServiceImpl::updateRegistrationStatuses()::exit");
+		return notFoundDtos;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -765,6 +904,38 @@ public class RegistrationStatusServiceImpl
 		}
 	}
 
+	@Override
+	public List<InternalRegistrationStatusDto> getUnProcessedPackets(Integer fetchSize, long elapseTime,
+			Integer reprocessCount, List<String> status, List<String> excludeStageNames,
+			LocalDateTime lastTransactionTimes, String lastWorkflowInstanceId) {
+
+		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+				"RegistrationStatusServiceImpl::getUnProcessedPackets()::entry");
+		try {
+			List<RegistrationStatusEntity> entityList = registrationStatusDao.getUnProcessedPackets(fetchSize,
+					elapseTime, reprocessCount, status, excludeStageNames, lastTransactionTimes, lastWorkflowInstanceId);
+			List<InternalRegistrationStatusDto> dtoList = new ArrayList<>();
+			for (RegistrationStatusEntity entity : entityList) {
+				InternalRegistrationStatusDto dto = convertEntityToDto(entity);
+				// carried for the caller to resume the scan after this packet
+				dto.setLatestTransactionTimes(entity.getLatestTransactionTimes());
+				dtoList.add(dto);
+			}
+
+			regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"RegistrationStatusServiceImpl::getUnProcessedPackets()::exit");
+
+			return dtoList;
+
+		} catch (DataAccessException | DataAccessLayerException e) {
+
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					"", e.getMessage() + ExceptionUtils.getStackTrace(e));
+			throw new TablenotAccessibleException(
+					PlatformErrorMessages.RPR_RGS_REGISTRATION_TABLE_NOT_ACCESSIBLE.getMessage(), e);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -829,6 +1000,18 @@ public class RegistrationStatusServiceImpl
 		return registrationStatusDao.checkUinAvailabilityForRid(rid);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.registration.processor.status.service.RegistrationStatusService#
+	 * getRidsWithUin(java.util.List)
+	 */
+	@Override
+	public List<String> getRidsWithUin(List<String> rids) {
+		return registrationStatusDao.getRidsWithUin(rids);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -16,12 +16,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.persistence.PersistenceException;
+
 import io.mosip.kernel.core.util.DateUtils;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -33,7 +36,6 @@ import io.mosip.kernel.core.idvalidator.exception.InvalidIDException;
 import io.mosip.kernel.core.idvalidator.spi.RidValidator;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.kernel.core.util.JsonUtils;
 import io.mosip.kernel.core.util.StringUtils;
 import io.mosip.kernel.core.util.exception.JsonMappingException;
@@ -85,6 +87,8 @@ import io.mosip.registration.processor.status.exception.TablenotAccessibleExcept
 import io.mosip.registration.processor.status.service.AnonymousProfileService;
 import io.mosip.registration.processor.status.service.SyncRegistrationService;
 import io.mosip.registration.processor.status.utilities.RegistrationUtility;
+import io.mosip.registration.processor.status.utilities.SaltCache;
+import io.mosip.registration.processor.status.utilities.SaltedHashUtil;
 
 /**
  * The Class SyncRegistrationServiceImpl.
@@ -111,6 +115,16 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 	@Value("${mosip.registration.processor.lostrid.iteration.max.count:10000}")
 	private int iteration;
 
+	/** Time after which the salt table is loaded again, 0 reads the salt of each value from the table */
+	@Value("${mosip.registration.processor.salt.cache.ttl-seconds:3600}")
+	private long saltCacheTtlSeconds;
+
+	private volatile SaltCache saltCache;
+
+	/** Minimum number of entries for a v2 sync request to be saved in bulk, 0 saves each entry separately */
+	@Value("${mosip.registration.processor.sync.bulk.min-size:100}")
+	private int bulkSyncMinSize;
+
 	@Value("${registration.processor.lostrid.max.registrationid:5}")
 	private int maxSearchResult;
 
@@ -242,16 +256,16 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 		LogDescription description = new LogDescription();
 		boolean isTransactionSuccessful = false;
 		try {
-			for (SyncRegistrationDto registrationDto : resgistrationDtos) {
-				if(registrationDto.getPacketId()!=null && !registrationDto.getPacketId().isBlank()){
-					syncResponseList = validateSyncV2(registrationDto, syncResponseList, referenceId, timeStamp);
-				}
-				else {
-					SyncResponseFailDto syncResponseFailureDto = new SyncResponseFailDto();
-					syncResponseFailureDto.setStatus(ResponseStatusCode.FAILURE.toString());
-					syncResponseFailureDto.setMessage("Missing Request Value -  packetId");
-					syncResponseFailureDto.setErrorCode(PlatformErrorMessages.RPR_RGS_MISSING_INPUT_PARAMETER.getCode());
-					syncResponseList.add(syncResponseFailureDto);
+			if (bulkSyncMinSize > 0 && resgistrationDtos.size() >= bulkSyncMinSize) {
+				syncResponseList = bulkSyncV2(resgistrationDtos, referenceId, timeStamp);
+			} else {
+				for (SyncRegistrationDto registrationDto : resgistrationDtos) {
+					if(registrationDto.getPacketId()!=null && !registrationDto.getPacketId().isBlank()){
+						syncResponseList.add(validateSyncV2(registrationDto, referenceId, timeStamp));
+					}
+					else {
+						syncResponseList.add(getMissingPacketIdResponse());
+					}
 				}
 			}
 			isTransactionSuccessful = true;
@@ -259,7 +273,7 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 
 			regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 					"", "");
-		} catch (DataAccessLayerException e) {
+		} catch (DataAccessLayerException | DataAccessException | PersistenceException e) {
 			description.setMessage(PlatformErrorMessages.RPR_RGS_DATA_ACCESS_EXCEPTION.getMessage());
 			description.setCode(PlatformErrorMessages.RPR_RGS_DATA_ACCESS_EXCEPTION.getCode());
 			description.setMessage("DataAccessLayerException while syncing Registartion Id's" + "::" + e.getMessage());
@@ -345,9 +359,14 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 	}
 
 
-	private List<SyncResponseDto> validateSyncV2(SyncRegistrationDto registrationDto,
-											   List<SyncResponseDto> syncResponseList, String referenceId,
-											   String timeStamp) {
+	/**
+	 * Validates and syncs one entry of a v2 request.
+	 *
+	 * @return the response of the entry, carrying its packet id
+	 */
+	private SyncResponseDto validateSyncV2(SyncRegistrationDto registrationDto, String referenceId,
+			String timeStamp) {
+		List<SyncResponseDto> syncResponseList = new ArrayList<>();
 		if (validateLanguageCode(registrationDto, syncResponseList)
 				&& validateRegistrationType(registrationDto, syncResponseList)
 				&& validateHashValue(registrationDto, syncResponseList)
@@ -356,28 +375,83 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 				syncResponseList = syncRegistrationRecord(registrationDto, syncResponseList, referenceId, timeStamp);
 			}
 		}
-		List<SyncResponseDto> syncResponseV2List=new ArrayList<>();
-		for(SyncResponseDto dto:syncResponseList) {
-			if(dto instanceof SyncResponseFailureDto) {
-				SyncResponseFailureV2Dto v2Dto=new SyncResponseFailureV2Dto(dto.getRegistrationId(),dto.getStatus(),
-						((SyncResponseFailureDto) dto).getErrorCode(),((SyncResponseFailureDto) dto).getMessage(),
-						registrationDto.getPacketId());
-				syncResponseV2List.add(v2Dto);
-			}
-			if(dto instanceof SyncResponseSuccessDto || dto instanceof SyncResponseDto) {
-				SyncResponseSuccessV2Dto v2Dto=new SyncResponseSuccessV2Dto(dto.getRegistrationId(),dto.getStatus(),
-						registrationDto.getPacketId());
-				syncResponseV2List.add(v2Dto);
+		return getSyncResponseV2(syncResponseList.get(0), registrationDto.getPacketId());
+	}
+
+	private SyncResponseDto getSyncResponseV2(SyncResponseDto dto, String packetId) {
+		if (dto instanceof SyncResponseFailureDto)
+			return new SyncResponseFailureV2Dto(dto.getRegistrationId(), dto.getStatus(),
+					((SyncResponseFailureDto) dto).getErrorCode(), ((SyncResponseFailureDto) dto).getMessage(),
+					packetId);
+		if (dto instanceof SyncResponseFailDto)
+			return new SyncResponseFailureV2Dto(dto.getRegistrationId(), dto.getStatus(),
+					((SyncResponseFailDto) dto).getErrorCode(), ((SyncResponseFailDto) dto).getMessage(), packetId);
+		return new SyncResponseSuccessV2Dto(dto.getRegistrationId(), dto.getStatus(), packetId);
+	}
+
+	/**
+	 * Syncs the entries of a large v2 request together. All the entries are validated
+	 * first and the records of the valid entries are saved in one transaction by
+	 * {@link SyncRegistrationDao#saveAllByPacketId(List)}. Each entry gets the same
+	 * response as a smaller request gives it.
+	 */
+	private List<SyncResponseDto> bulkSyncV2(List<SyncRegistrationDto> registrationDtos, String referenceId,
+			String timeStamp) {
+		SyncResponseDto[] syncResponses = new SyncResponseDto[registrationDtos.size()];
+		List<Integer> validIndexes = new ArrayList<>();
+		for (int i = 0; i < registrationDtos.size(); i++) {
+			SyncRegistrationDto registrationDto = registrationDtos.get(i);
+			if (registrationDto.getPacketId() == null || registrationDto.getPacketId().isBlank()) {
+				syncResponses[i] = getMissingPacketIdResponse();
+				continue;
 			}
-			if(dto instanceof SyncResponseFailDto) {
-				SyncResponseFailureV2Dto v2Dto=new SyncResponseFailureV2Dto(dto.getRegistrationId(),dto.getStatus(),
-						((SyncResponseFailDto) dto).getErrorCode(),((SyncResponseFailDto) dto).getMessage(),
-						registrationDto.getPacketId());
-				syncResponseV2List.add(v2Dto);
+			List<SyncResponseDto> failures = new ArrayList<>();
+			if (validateLanguageCode(registrationDto, failures)
+					&& validateRegistrationType(registrationDto, failures)
+					&& validateHashValue(registrationDto, failures)
+					&& validateSupervisorStatus(registrationDto, failures)
+					&& validateRegistrationID(registrationDto, failures)) {
+				validIndexes.add(i);
+			} else {
+				syncResponses[i] = getSyncResponseV2(failures.get(0), registrationDto.getPacketId());
 			}
 		}
-		
-		return syncResponseV2List;
+
+		List<SyncRegistrationEntity> syncRegistrations = new ArrayList<>(validIndexes.size());
+		for (int index : validIndexes) {
+			SyncRegistrationEntity syncRegistration = convertDtoToEntity(registrationDtos.get(index), referenceId,
+					timeStamp);
+			// replaced by the ones of the existing record when the packet id is already synced
+			syncRegistration.setCreateDateTime(LocalDateTime.now(ZoneId.of("UTC")));
+			syncRegistration.setRegistrationDate(syncRegistration.getCreateDateTime().toLocalDate());
+			syncRegistration.setWorkflowInstanceId(RegistrationUtility.generateId());
+			syncRegistrations.add(syncRegistration);
+		}
+		if (!syncRegistrations.isEmpty()) {
+			int updatedCount = syncRegistrationDao.saveAllByPacketId(syncRegistrations);
+			eventId = updatedCount > 0 ? EventId.RPR_402.toString() : EventId.RPR_407.toString();
+		}
+
+		for (int index : validIndexes) {
+			SyncRegistrationDto registrationDto = registrationDtos.get(index);
+			SyncResponseSuccessDto syncResponse = new SyncResponseSuccessDto();
+			syncResponse.setRegistrationId(registrationDto.getRegistrationId());
+			syncResponse.setStatus(ResponseStatusCode.SUCCESS.toString());
+			syncResponses[index] = getSyncResponseV2(syncResponse, registrationDto.getPacketId());
+			saveAnonymousProfile(registrationDto, referenceId, timeStamp);
+		}
+		regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(), "",
+				"SyncRegistrationServiceImpl::bulkSyncV2()::synced " + syncRegistrations.size() + " of "
+						+ registrationDtos.size() + " entries");
+		return new ArrayList<>(Arrays.asList(syncResponses));
+	}
+
+	private SyncResponseFailDto getMissingPacketIdResponse() {
+		SyncResponseFailDto syncResponseFailureDto = new SyncResponseFailDto();
+		syncResponseFailureDto.setStatus(ResponseStatusCode.FAILURE.toString());
+		syncResponseFailureDto.setMessage("Missing Request Value -  packetId");
+		syncResponseFailureDto.setErrorCode(PlatformErrorMessages.RPR_RGS_MISSING_INPUT_PARAMETER.getCode());
+		return syncResponseFailureDto;
 	}
 
 	/**
@@ -971,17 +1045,17 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 		}
 	}
 
-	private static byte[] getHMACHash(String value) throws java.security.NoSuchAlgorithmException {
-		if (value == null)
-			return null;
-		return HMACUtils2.generateHash(value.getBytes());
-	}
-
-	private static byte[] getHMACHashWithSalt(byte[] valueBytes, byte[] saltBytes)
-			throws java.security.NoSuchAlgorithmException {
-		if (valueBytes == null)
-			return null;
-		return HMACUtils2.digestAsPlainTextWithSalt(valueBytes, saltBytes).getBytes();
+	private byte[] getSalt(long saltIndex) {
+		if (saltCacheTtlSeconds <= 0)
+			return SaltCache.decode(syncRegistrationDao.getSaltValue(saltIndex));
+		SaltCache cache = saltCache;
+		long now = System.currentTimeMillis();
+		if (cache == null || cache.isExpired(now, saltCacheTtlSeconds * 1000)) {
+			cache = new SaltCache(syncRegistrationDao.getAllSalts(), now);
+			saltCache = cache;
+		}
+		byte[] salt = cache.get(saltIndex);
+		return salt != null ? salt : SaltCache.decode(syncRegistrationDao.getSaltValue(saltIndex));
 	}
 
 	private String getHashCode(String value) throws RegStatusAppException {
@@ -990,22 +1064,9 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 			return null;
 		}
 		try {
-			byte[] hashCode = getHMACHash(value);
-			byte[] nonce = Arrays.copyOfRange(hashCode, hashCode.length - 2, hashCode.length);
-			String result = convertBytesToHex(nonce);
-			Long hashValue = Long.parseLong(result, 16);
-			Long saltIndex = hashValue % 10000;
-			String salt = syncRegistrationDao.getSaltValue(saltIndex);
-			byte[] saltBytes=null;
-			try {
-				saltBytes= CryptoUtil.decodeURLSafeBase64(salt);
-			} catch (IllegalArgumentException exception) {
-				saltBytes = CryptoUtil.decodePlainBase64(salt);
-			}
-			byte[] hashBytes = value.getBytes();
-			for (int i = 0; i <= iteration; i++) {
-				hashBytes = getHMACHashWithSalt(hashBytes, saltBytes);
-			}
+			byte[] valueBytes = value.getBytes();
+			byte[] saltBytes = getSalt(SaltedHashUtil.getSaltIndex(valueBytes));
+			byte[] hashBytes = SaltedHashUtil.digestWithSalt(valueBytes, saltBytes, iteration + 1);
 			encodedHash = CryptoUtil.encodeToURLSafeBase64(hashBytes);
 		} catch (NoSuchAlgorithmException e) {
 			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
@@ -1015,12 +1076,4 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 		return encodedHash;
 	}
 
-	private static String convertBytesToHex(byte[] bytes) {
-		StringBuilder result = new StringBuilder();
-		for (byte temp : bytes) {
-			result.append(String.format("%02x", temp));
-		}
-		return result.toString();
-	}
-
 }
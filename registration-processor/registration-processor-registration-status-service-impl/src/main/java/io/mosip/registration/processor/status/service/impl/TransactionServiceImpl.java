@@ -5,6 +5,10 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceException;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -36,6 +40,9 @@ public class TransactionServiceImpl implements TransactionService<TransactionDto
 	@Autowired
 	TransactionRepository<TransactionEntity, String> transactionRepositary;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -60,6 +67,28 @@ public class TransactionServiceImpl implements TransactionService<TransactionDto
 
 	}
 
+	@Override
+	public List<TransactionEntity> addRegistrationTransactions(List<TransactionDto> transactionStatusDtos) {
+		try {
+			regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"TransactionServiceImpl::addRegistrationTransactions()::entry");
+			List<TransactionEntity> entities = new ArrayList<>();
+			// the transactions are new, persist inserts them without the read that
+			// saveAll does for entities with an assigned id
+			for (TransactionDto transactionStatusDto : transactionStatusDtos) {
+				TransactionEntity entity = convertDtoToEntity(transactionStatusDto);
+				entityManager.persist(entity);
+				entities.add(entity);
+			}
+			regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"TransactionServiceImpl::addRegistrationTransactions()::exit");
+			return entities;
+		} catch (DataAccessLayerException | PersistenceException e) {
+			throw new TransactionTableNotAccessibleException(
+					PlatformErrorMessages.RPR_RGS_TRANSACTION_TABLE_NOT_ACCESSIBLE.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Convert dto to entity.
 	 *
@@ -0,0 +1,49 @@
+package io.mosip.registration.processor.status.utilities;
+
+import java.util.List;
+
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.registration.processor.status.entity.SaltEntity;
+
+/**
+ * Immutable snapshot of the salt table, holding the decoded salt of each salt index
+ * so that hashing a value needs no query. A new snapshot is loaded to refresh it.
+ */
+public final class SaltCache {
+
+	private final byte[][] salts;
+
+	private final long loadedTime;
+
+	public SaltCache(List<SaltEntity> saltEntities, long loadedTime) {
+		this.salts = new byte[SaltedHashUtil.SALT_COUNT][];
+		this.loadedTime = loadedTime;
+		for (SaltEntity saltEntity : saltEntities) {
+			Long id = saltEntity.getId();
+			if (id != null && id >= 0 && id < salts.length && saltEntity.getSalt() != null)
+				salts[id.intValue()] = decode(saltEntity.getSalt());
+		}
+	}
+
+	/**
+	 * Returns the decoded salt of the index, null if it is not in the snapshot.
+	 */
+	public byte[] get(long saltIndex) {
+		return saltIndex >= 0 && saltIndex < salts.length ? salts[(int) saltIndex] : null;
+	}
+
+	public boolean isExpired(long now, long ttlMillis) {
+		return now - loadedTime >= ttlMillis;
+	}
+
+	/**
+	 * Decodes a salt stored as URL safe or plain base64.
+	 */
+	public static byte[] decode(String salt) {
+		try {
+			return CryptoUtil.decodeURLSafeBase64(salt);
+		} catch (IllegalArgumentException exception) {
+			return CryptoUtil.decodePlainBase64(salt);
+		}
+	}
+}
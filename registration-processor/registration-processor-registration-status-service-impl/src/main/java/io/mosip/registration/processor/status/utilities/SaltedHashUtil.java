@@ -0,0 +1,67 @@
+package io.mosip.registration.processor.status.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import io.mosip.registration.processor.core.util.DigestUtil;
+
+/**
+ * Computes the salted hashes of the demographic values stored with the sync
+ * records, the same as repeated rounds of HMACUtils2#digestAsPlainTextWithSalt.
+ * The digest is reused per thread and the upper case hex of each round is written
+ * into a byte buffer that is the input of the next round, without building strings.
+ */
+public final class SaltedHashUtil {
+
+	/** The number of salts in the salt table */
+	public static final int SALT_COUNT = 10000;
+
+	private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+	private static final ThreadLocal<MessageDigest> MESSAGE_DIGEST = new ThreadLocal<>();
+
+	private SaltedHashUtil() {
+	}
+
+	/**
+	 * Returns the index of the salt for the value, derived from the last two bytes
+	 * of its hash.
+	 */
+	public static int getSaltIndex(byte[] value) throws NoSuchAlgorithmException {
+		byte[] hash = getMessageDigest().digest(value);
+		int nonce = ((hash[hash.length - 2] & 0xFF) << 8) | (hash[hash.length - 1] & 0xFF);
+		return nonce % SALT_COUNT;
+	}
+
+	/**
+	 * Hashes the value with the salt for the given number of rounds.
+	 *
+	 * @return the upper case hex of the last round as bytes
+	 */
+	public static byte[] digestWithSalt(byte[] value, byte[] salt, int rounds) throws NoSuchAlgorithmException {
+		MessageDigest messageDigest = getMessageDigest();
+		byte[] hex = new byte[messageDigest.getDigestLength() * 2];
+		byte[] input = value;
+		for (int i = 0; i < rounds; i++) {
+			messageDigest.update(input);
+			messageDigest.update(salt);
+			byte[] hash = messageDigest.digest();
+			for (int j = 0; j < hash.length; j++) {
+				hex[j * 2] = HEX_DIGITS[(hash[j] >> 4) & 0xF];
+				hex[j * 2 + 1] = HEX_DIGITS[hash[j] & 0xF];
+			}
+			input = hex;
+		}
+		return input;
+	}
+
+	private static MessageDigest getMessageDigest() throws NoSuchAlgorithmException {
+		MessageDigest messageDigest = MESSAGE_DIGEST.get();
+		if (messageDigest == null) {
+			messageDigest = DigestUtil.newMessageDigest();
+			MESSAGE_DIGEST.set(messageDigest);
+		}
+		return messageDigest;
+	}
+}
@@ -0,0 +1,115 @@
+package io.mosip.registration.processor.status.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * The position of the last record of a search page, made of the sort of the
+ * search, the value of the sort field and the workflow instance id that breaks
+ * ties between equal values. It is passed to the client as an opaque url safe
+ * string, and can only be used to page a search with the same sort.
+ */
+public final class SearchCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private static final String ASC = "asc";
+
+	private static final String DESC = "desc";
+
+	private final String sortField;
+
+	private final String sortType;
+
+	private final LocalDateTime sortValue;
+
+	private final String workflowInstanceId;
+
+	public SearchCursor(String sortField, String sortType, LocalDateTime sortValue, String workflowInstanceId) {
+		this.sortField = sortField;
+		this.sortType = getSortType(sortType);
+		this.sortValue = sortValue;
+		this.workflowInstanceId = workflowInstanceId;
+	}
+
+	/**
+	 * The entity field the search is sorted on, null if the search is not sorted
+	 */
+	public String getSortField() {
+		return sortField;
+	}
+
+	public String getSortType() {
+		return sortType;
+	}
+
+	/**
+	 * The value of the sort field of the last record, null if the record has no
+	 * value or the search is not sorted
+	 */
+	public LocalDateTime getSortValue() {
+		return sortValue;
+	}
+
+	public String getWorkflowInstanceId() {
+		return workflowInstanceId;
+	}
+
+	/**
+	 * Tells if the cursor was returned by a search with the given sort.
+	 *
+	 * @param sortField
+	 *            the entity sort field of the search, null if it is not sorted
+	 * @param sortType
+	 *            the sort type of the search
+	 */
+	public boolean matches(String sortField, String sortType) {
+		return Objects.equals(this.sortField, sortField) && this.sortType.equals(getSortType(sortType));
+	}
+
+	public String encode() {
+		String value = (sortField == null ? "" : sortField) + SEPARATOR + sortType + SEPARATOR
+				+ (sortValue == null ? "" : sortValue.toString()) + SEPARATOR + workflowInstanceId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a cursor returned by {@link #encode()}.
+	 *
+	 * @throws IllegalArgumentException if the cursor is not valid
+	 */
+	public static SearchCursor decode(String cursor) {
+		String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+				.split("\\" + SEPARATOR, 4);
+		if (values.length != 4 || values[3].isEmpty() || !(ASC.equals(values[1]) || DESC.equals(values[1])))
+			throw new IllegalArgumentException("Invalid search cursor " + cursor);
+		String sortField = values[0].isEmpty() ? null : getSortField(values[0]);
+		if (sortField == null && !(values[0].isEmpty() && values[2].isEmpty()))
+			throw new IllegalArgumentException("Invalid search cursor " + cursor);
+		try {
+			LocalDateTime sortValue = values[2].isEmpty() ? null : LocalDateTime.parse(values[2]);
+			return new SearchCursor(sortField, values[1], sortValue, values[3]);
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("Invalid search cursor " + cursor, e);
+		}
+	}
+
+	/**
+	 * Gets the entity field of a search sort field, null if the search cannot be
+	 * paged with a cursor on the field.
+	 */
+	public static String getSortField(String sortField) {
+		if ("createDateTime".equals(sortField) || "updateDateTime".equals(sortField))
+			return sortField;
+		if ("resumeTimestamp".equals(sortField) || "resumeTimeStamp".equals(sortField))
+			return "resumeTimeStamp";
+		return null;
+	}
+
+	private static String getSortType(String sortType) {
+		return DESC.equalsIgnoreCase(sortType) ? DESC : ASC;
+	}
+}
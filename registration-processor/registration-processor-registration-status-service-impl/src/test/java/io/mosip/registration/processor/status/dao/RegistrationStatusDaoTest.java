@@ -1,13 +1,19 @@
 package io.mosip.registration.processor.status.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Matchers;
 import org.mockito.Mock;
@@ -19,8 +25,11 @@ import io.mosip.registration.processor.core.workflow.dto.FilterInfo;
 import io.mosip.registration.processor.core.workflow.dto.PaginationInfo;
 import io.mosip.registration.processor.core.workflow.dto.SortInfo;
 import io.mosip.registration.processor.status.code.RegistrationStatusCode;
+import io.mosip.registration.processor.status.dto.KeysetPage;
+import io.mosip.registration.processor.status.entity.BaseRegistrationPKEntity;
 import io.mosip.registration.processor.status.entity.RegistrationStatusEntity;
 import io.mosip.registration.processor.status.repositary.RegistrationRepositary;
+import io.mosip.registration.processor.status.utilities.SearchCursor;
 
 @SuppressWarnings("deprecation")
 @RunWith(MockitoJUnitRunner.class)
@@ -166,9 +175,88 @@ public class RegistrationStatusDaoTest {
 		assertEquals(registrationStatusEntity, rEntityList.getContent().get(0));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void getPagedSearchResultsWithCursorTest() {
+		LocalDateTime createDateTime = LocalDateTime.of(2021, 5, 10, 10, 30);
+		RegistrationStatusEntity first = createSearchResult("instance-2", createDateTime);
+		RegistrationStatusEntity second = createSearchResult("instance-1", createDateTime);
+		SortInfo sort = new SortInfo("createDateTime", "desc");
+		PaginationInfo pagination = new PaginationInfo(0, 1);
+		Mockito.when(registrationStatusRepositary.createQuerySelect(Matchers.anyString(), Matchers.anyMap(),
+				Matchers.anyInt())).thenReturn(Arrays.asList(first, second), Arrays.asList(second));
+
+		Page<RegistrationStatusEntity> firstPage = registrationStatusDao.getPagedSearchResults(new ArrayList<>(), sort,
+				pagination);
+		String nextCursor = ((KeysetPage<RegistrationStatusEntity>) firstPage).getNextCursor();
+		assertEquals(Arrays.asList(first), firstPage.getContent());
+		assertEquals("instance-2", SearchCursor.decode(nextCursor).getWorkflowInstanceId());
+
+		pagination.setCursor(nextCursor);
+		Page<RegistrationStatusEntity> secondPage = registrationStatusDao.getPagedSearchResults(new ArrayList<>(),
+				sort, pagination);
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+		Mockito.verify(registrationStatusRepositary, Mockito.times(2)).createQuerySelect(query.capture(),
+				params.capture(), Matchers.eq(2));
+		assertEquals(Arrays.asList(second), secondPage.getContent());
+		assertNull(((KeysetPage<RegistrationStatusEntity>) secondPage).getNextCursor());
+		assertTrue(query.getValue().contains("i.createDateTime<:cursorValue"));
+		assertTrue(query.getValue().endsWith("order by i.createDateTime desc, i.id.workflowInstanceId desc"));
+		assertEquals(createDateTime, params.getValue().get("cursorValue"));
+		assertEquals("instance-2", params.getValue().get("cursorId"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getPagedSearchResultsWithCursorOfOtherSortTest() {
+		PaginationInfo pagination = new PaginationInfo(0, 1);
+		pagination.setCursor(new SearchCursor("createDateTime", "desc", LocalDateTime.of(2021, 5, 10, 10, 30),
+				"instance-2").encode());
+
+		registrationStatusDao.getPagedSearchResults(new ArrayList<>(), new SortInfo("createDateTime", "asc"),
+				pagination);
+	}
+
+	@Test
+	public void getPagedSearchResultsEstimateCountTest() {
+		PaginationInfo pagination = new PaginationInfo(0, 5);
+		pagination.setEstimateCount(true);
+		Mockito.when(registrationStatusRepositary.createQuerySelect(Matchers.anyString(), Matchers.anyMap(),
+				Matchers.anyInt())).thenReturn(list);
+		Mockito.when(registrationStatusRepositary.getEstimatedRowCount()).thenReturn(50000000L);
+
+		Page<RegistrationStatusEntity> page = registrationStatusDao.getPagedSearchResults(new ArrayList<>(), null,
+				pagination);
+		assertEquals(50000000L, page.getTotalElements());
+	}
+
+	private RegistrationStatusEntity createSearchResult(String workflowInstanceId, LocalDateTime createDateTime) {
+		BaseRegistrationPKEntity id = new BaseRegistrationPKEntity();
+		id.setWorkflowInstanceId(workflowInstanceId);
+		RegistrationStatusEntity entity = new RegistrationStatusEntity();
+		entity.setId(id);
+		entity.setCreateDateTime(createDateTime);
+		return entity;
+	}
+
 	@Test
 	public void checkUinAvailabilityForRidTest() {
 		Boolean status = registrationStatusDao.checkUinAvailabilityForRid("1000");
 		assertEquals(true, status);
 	}
+
+	@Test
+	public void getRidsWithUinTest() {
+		List<String> rids = new ArrayList<>();
+		for (int i = 0; i < 1500; i++)
+			rids.add(String.valueOf(i));
+		Mockito.when(registrationStatusRepositary.getProcessedOrProcessingRegIds(Matchers.any(), Matchers.any()))
+				.thenReturn(Arrays.asList("1000"));
+
+		List<String> ridsWithUin = registrationStatusDao.getRidsWithUin(rids);
+
+		assertEquals(Arrays.asList("1000", "1000"), ridsWithUin);
+		Mockito.verify(registrationStatusRepositary, Mockito.times(2)).getProcessedOrProcessingRegIds(Matchers.any(),
+				Matchers.any());
+	}
 }
@@ -4,10 +4,14 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import javax.persistence.EntityManager;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -44,6 +48,9 @@ public class SyncRegistrationDaoTest {
 	@Mock
 	SaltRepository saltRepository;
 
+	@Mock
+	EntityManager entityManager;
+
 	/** The sync registration entity. */
 	private SyncRegistrationEntity syncRegistrationEntity;
 
@@ -209,6 +216,50 @@ public class SyncRegistrationDaoTest {
 		String salt = syncRegistrationDao.getSaltValue((long) 10);
 		assertEquals("qwfs", salt);
 	}
+
+	@Test
+	public void saveAllByPacketIdTest() {
+		SyncRegistrationEntity synced = new SyncRegistrationEntity();
+		synced.setPacketId("1001");
+		synced.setWorkflowInstanceId("0c326dc2-ac54-4c2a-98b4-b0c620f1661f");
+		synced.setCreateDateTime(LocalDateTime.of(2021, 1, 1, 10, 0));
+		SyncRegistrationEntity update = new SyncRegistrationEntity();
+		update.setPacketId("1001");
+		update.setWorkflowInstanceId("new-1");
+		SyncRegistrationEntity insert = new SyncRegistrationEntity();
+		insert.setPacketId("1002");
+		insert.setWorkflowInstanceId("new-2");
+		SyncRegistrationEntity repeated = new SyncRegistrationEntity();
+		repeated.setPacketId("1002");
+		repeated.setWorkflowInstanceId("new-3");
+		Mockito.when(syncRegistrationRepository.findByPacketIds(Arrays.asList("1001", "1002")))
+				.thenReturn(Arrays.asList(synced));
+
+		int updatedCount = syncRegistrationDao.saveAllByPacketId(Arrays.asList(update, insert, repeated));
+
+		assertEquals(2, updatedCount);
+		assertEquals("0c326dc2-ac54-4c2a-98b4-b0c620f1661f", update.getWorkflowInstanceId());
+		assertEquals(LocalDate.of(2021, 1, 1), update.getRegistrationDate());
+		assertEquals("new-2", repeated.getWorkflowInstanceId());
+		Mockito.verify(entityManager).persist(insert);
+		Mockito.verify(entityManager).merge(update);
+		Mockito.verify(entityManager).merge(repeated);
+		Mockito.verify(entityManager).flush();
+		Mockito.verify(syncRegistrationRepository, Mockito.never()).save(any());
+		Mockito.verify(syncRegistrationRepository, Mockito.never()).findById(any());
+	}
+
+	@Test
+	public void getAllSaltsTest() {
+		SaltEntity saltEntity = new SaltEntity();
+		saltEntity.setId(10L);
+		saltEntity.setSalt("qwfs");
+		List<SaltEntity> saltEntities = new ArrayList<>();
+		saltEntities.add(saltEntity);
+		Mockito.when(saltRepository.findAll()).thenReturn(saltEntities);
+		List<SaltEntity> salts = syncRegistrationDao.getAllSalts();
+		assertEquals("qwfs", salts.get(0).getSalt());
+	}
 	@Test
 	public void getSearchResultsTest() {
 		List<FilterInfo> filterInfos = new ArrayList<FilterInfo>();
@@ -1,11 +1,13 @@
 package io.mosip.registration.processor.status.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyString;
 
 import java.time.LocalDateTime;
@@ -13,6 +15,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import javax.persistence.PersistenceException;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -29,6 +33,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
 import io.mosip.kernel.dataaccess.hibernate.constant.HibernateErrorCode;
+import io.mosip.registration.processor.core.code.EventId;
 import io.mosip.registration.processor.core.code.RegistrationTransactionStatusCode;
 import io.mosip.registration.processor.core.logger.LogDescription;
 import io.mosip.registration.processor.core.workflow.dto.FilterInfo;
@@ -307,6 +312,73 @@ public class RegistrationStatusServiceTest {
 		registrationStatusService.updateRegistrationStatus(registrationStatusDto, "", "");
 	}
 
+	@Test
+	public void testUpdateRegistrationStatusesSuccess() {
+		registrationStatusDto.setRegistrationId("1000");
+		registrationStatusDto.setWorkflowInstanceId("WorkflowInstanceId");
+		InternalRegistrationStatusDto registrationStatusDto1 = new InternalRegistrationStatusDto();
+		registrationStatusDto1.setRegistrationId("1001");
+		Mockito.when(registrationStatusDao.findAll(anyList(), anyList())).thenReturn(entities);
+
+		List<InternalRegistrationStatusDto> notFoundDtos = registrationStatusService
+				.updateRegistrationStatusesForWorkflowEngine(Arrays.asList(registrationStatusDto, registrationStatusDto1),
+						"", "");
+
+		Mockito.verify(registrationStatusDao).findAll(Arrays.asList("1001"), Arrays.asList("WorkflowInstanceId"));
+		Mockito.verify(transcationStatusService).addRegistrationTransactions(Mockito.argThat(list -> list.size() == 1
+				&& "1000".equals(list.get(0).getRegistrationId())));
+		Mockito.verify(registrationStatusDao).updateAll(Mockito.argThat(list -> list.size() == 1
+				&& "PACKET_UPLOADED_TO_VIRUS_SCAN".equals(list.get(0).getStatusCode())));
+		Mockito.verify(registrationStatusDao).flush();
+		Mockito.verify(registrationStatusDao, Mockito.never()).saveAll(any());
+		Mockito.verify(registrationStatusDao, Mockito.never()).find(any(), any(), any(), any());
+		assertEquals(Arrays.asList(registrationStatusDto1), notFoundDtos);
+		Mockito.verify(auditLogRequestBuilder).createAuditRequestBuilder(any(), eq(EventId.RPR_407.toString()), any(),
+				any(), any(), any(), eq("1000"));
+		Mockito.verify(auditLogRequestBuilder).createAuditRequestBuilder(any(), eq(EventId.RPR_405.toString()), any(),
+				any(), any(), any(), eq("1001"));
+	}
+
+	@Test
+	public void testUpdateRegistrationStatusesWithoutAudit() {
+		registrationStatusDto.setRegistrationId("1000");
+		registrationStatusDto.setWorkflowInstanceId("WorkflowInstanceId");
+		Mockito.when(registrationStatusDao.findAll(anyList(), anyList())).thenReturn(entities);
+
+		registrationStatusService.updateRegistrationStatusesForWorkflowEngine(Arrays.asList(registrationStatusDto),
+				"", "", false);
+
+		Mockito.verify(registrationStatusDao).updateAll(anyList());
+		Mockito.verify(auditLogRequestBuilder, Mockito.never()).createAuditRequestBuilder(any(), any(), any(), any(),
+				any(), any(), any());
+	}
+
+	@Test(expected = TablenotAccessibleException.class)
+	public void updateRegistrationStatusesFailureTest() {
+		DataAccessLayerException exp = new DataAccessLayerException(HibernateErrorCode.ERR_DATABASE.getErrorCode(),
+				"errorMessage", new Exception());
+
+		Mockito.when(registrationStatusDao.findAll(anyList(), anyList())).thenReturn(entities);
+		Mockito.doThrow(exp).when(registrationStatusDao).updateAll(anyList());
+		registrationStatusService.updateRegistrationStatuses(Arrays.asList(registrationStatusDto), "", "");
+	}
+
+	@Test
+	public void updateRegistrationStatusesFlushFailureTest() {
+		registrationStatusDto.setRegistrationId("1000");
+		Mockito.when(registrationStatusDao.findAll(anyList(), anyList())).thenReturn(entities);
+		Mockito.doThrow(new PersistenceException("constraint violation")).when(registrationStatusDao).flush();
+		try {
+			registrationStatusService.updateRegistrationStatuses(Arrays.asList(registrationStatusDto), "", "");
+			fail();
+		} catch (TablenotAccessibleException e) {
+			Mockito.verify(auditLogRequestBuilder).createAuditRequestBuilder(any(), eq(EventId.RPR_405.toString()),
+					any(), any(), any(), any(), any());
+			Mockito.verify(auditLogRequestBuilder, Mockito.never()).createAuditRequestBuilder(any(),
+					eq(EventId.RPR_407.toString()), any(), any(), any(), any(), any());
+		}
+	}
+
 	@Test
 	public void testGetByStatusSuccess() {
 		Mockito.when(registrationStatusDao.getEnrolmentStatusByStatusCode(any())).thenReturn(entities);
@@ -1,6 +1,7 @@
 package io.mosip.registration.processor.status.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -18,6 +19,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -61,8 +63,10 @@ import io.mosip.registration.processor.status.dto.SyncResponseDto;
 import io.mosip.registration.processor.status.dto.SyncResponseFailDto;
 import io.mosip.registration.processor.status.dto.SyncResponseFailureV2Dto;
 import io.mosip.registration.processor.status.dto.SyncResponseSuccessDto;
+import io.mosip.registration.processor.status.dto.SyncResponseSuccessV2Dto;
 import io.mosip.registration.processor.status.dto.SyncTypeDto;
 import io.mosip.registration.processor.status.encryptor.Encryptor;
+import io.mosip.registration.processor.status.entity.SaltEntity;
 import io.mosip.registration.processor.status.entity.SyncRegistrationEntity;
 import io.mosip.registration.processor.status.exception.EncryptionFailureException;
 import io.mosip.registration.processor.status.exception.PacketDecryptionFailureException;
@@ -576,6 +580,68 @@ public class SyncRegistrationServiceTest {
 		syncRegistrationService.syncV2(request, "", "");
 	}
 
+	@Test
+	public void testSyncV2BulkSavesAllEntriesTogether() throws EncryptionFailureException, ApisResourceAccessException {
+		ReflectionTestUtils.setField(syncRegistrationService, "bulkSyncMinSize", 3);
+		List<SyncRegistrationDto> request = new ArrayList<>();
+		for (String packetId : Arrays.asList("1234", "1235", "1236")) {
+			SyncRegistrationDto dto = new SyncRegistrationDto();
+			dto.setRegistrationId("2784765736000252018120818305" + packetId.charAt(3));
+			dto.setLangCode("eng");
+			dto.setIsDeleted(false);
+			dto.setPacketId(packetId);
+			dto.setSyncType("NEW");
+			dto.setPacketHashValue("ab123");
+			dto.setSupervisorStatus("APPROVED");
+			request.add(dto);
+		}
+		request.get(2).setSyncType("NEW_REGISTRATION");
+		Mockito.when(encryptor.encrypt(anyString(), anyString(), anyString())).thenReturn("encryptedInfo".getBytes());
+		Mockito.when(syncRegistrationDao.saveAllByPacketId(any())).thenReturn(1);
+		ArgumentCaptor<List<SyncRegistrationEntity>> captor = ArgumentCaptor.forClass(List.class);
+
+		List<SyncResponseDto> syncResponse = syncRegistrationService.syncV2(request, "", "");
+
+		Mockito.verify(syncRegistrationDao).saveAllByPacketId(captor.capture());
+		Mockito.verify(syncRegistrationDao, Mockito.never()).findByPacketId(any());
+		Mockito.verify(syncRegistrationDao, Mockito.never()).save(any());
+		assertEquals(2, captor.getValue().size());
+		assertEquals("1235", captor.getValue().get(1).getPacketId());
+		assertNotNull(captor.getValue().get(1).getWorkflowInstanceId());
+		assertEquals(3, syncResponse.size());
+		assertEquals("1234", ((SyncResponseSuccessV2Dto) syncResponse.get(0)).getPacketId());
+		assertEquals("SUCCESS", syncResponse.get(1).getStatus());
+		assertEquals("Invalid Sync Type", ((SyncResponseFailureV2Dto) syncResponse.get(2)).getMessage());
+		assertEquals("1236", ((SyncResponseFailureV2Dto) syncResponse.get(2)).getPacketId());
+	}
+
+	@Test
+	public void testSyncV2ReturnsOneResponsePerEntry() throws EncryptionFailureException, ApisResourceAccessException {
+		List<SyncRegistrationDto> request = new ArrayList<>();
+		for (String packetId : Arrays.asList("1234", "1235", "1236")) {
+			SyncRegistrationDto dto = new SyncRegistrationDto();
+			dto.setRegistrationId("2784765736000252018120818305" + packetId.charAt(3));
+			dto.setLangCode("eng");
+			dto.setIsDeleted(false);
+			dto.setPacketId(packetId);
+			dto.setSyncType("NEW");
+			dto.setPacketHashValue("ab123");
+			dto.setSupervisorStatus("APPROVED");
+			request.add(dto);
+		}
+		request.get(1).setSyncType("NEW_REGISTRATION");
+		Mockito.when(encryptor.encrypt(anyString(), anyString(), anyString())).thenReturn("encryptedInfo".getBytes());
+		Mockito.when(syncRegistrationDao.save(any())).thenReturn(syncRegistrationEntity);
+
+		List<SyncResponseDto> syncResponse = syncRegistrationService.syncV2(request, "", "");
+
+		assertEquals(3, syncResponse.size());
+		assertEquals("1234", ((SyncResponseSuccessV2Dto) syncResponse.get(0)).getPacketId());
+		assertEquals("Invalid Sync Type", ((SyncResponseFailureV2Dto) syncResponse.get(1)).getMessage());
+		assertEquals("1235", ((SyncResponseFailureV2Dto) syncResponse.get(1)).getPacketId());
+		assertEquals("1236", ((SyncResponseSuccessV2Dto) syncResponse.get(2)).getPacketId());
+	}
+
 	/**
 	 * Gets the sync registration status failure test.
 	 *
@@ -887,6 +953,40 @@ public class SyncRegistrationServiceTest {
 		assertEquals(lostRidDtos.get(0).getRegistrationId(), testIdList.get(0));
 	}
 	
+	@Test
+	public void searchLostRidWithSaltCache() throws PacketDecryptionFailureException, ApisResourceAccessException {
+		ReflectionTestUtils.setField(syncRegistrationService, "maxSearchResult", 2);
+		ReflectionTestUtils.setField(syncRegistrationService, "saltCacheTtlSeconds", 3600L);
+		List<SaltEntity> salts = new ArrayList<>();
+		for (long id = 0; id < 10000; id++) {
+			SaltEntity salt = new SaltEntity();
+			salt.setId(id);
+			salt.setSalt("abc12");
+			salts.add(salt);
+		}
+		Mockito.when(syncRegistrationDao.getAllSalts()).thenReturn(salts);
+		Mockito.when(syncRegistrationDao.getSearchResults(any(),any())).thenReturn(syncRegistrationEntities);
+		Mockito.when(decryptor.decrypt(any(), any(), any())).thenReturn("{\"name\":\"mosip\"}");
+		SearchInfo searchInfo = new SearchInfo();
+		List<FilterInfo> filterInfos = new ArrayList<FilterInfo>();
+		FilterInfo filterInfo = new FilterInfo();
+		filterInfo.setColumnName("name");
+		filterInfo.setValue("mosip");
+		filterInfo.setType("equals");
+		FilterInfo filterInfo1 = new FilterInfo();
+		filterInfo1.setColumnName("email");
+		filterInfo1.setValue("mosip1@gmail.com");
+		filterInfo1.setType("equals");
+		filterInfos.add(filterInfo);
+		filterInfos.add(filterInfo1);
+		searchInfo.setFilters(filterInfos);
+		searchInfo.setSort(new ArrayList<SortInfo>());
+		List<LostRidDto> lostRidDtos = syncRegistrationService.searchLostRid(searchInfo);
+		assertEquals("27847657360002520181208183052", lostRidDtos.get(0).getRegistrationId());
+		Mockito.verify(syncRegistrationDao, Mockito.times(1)).getAllSalts();
+		Mockito.verify(syncRegistrationDao, Mockito.never()).getSaltValue(any());
+	}
+
 	@Test
 	public void getExternalStatusByIdsTest() {
 
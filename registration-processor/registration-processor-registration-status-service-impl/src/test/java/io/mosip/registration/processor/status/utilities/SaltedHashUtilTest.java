@@ -0,0 +1,55 @@
+package io.mosip.registration.processor.status.utilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.HMACUtils2;
+import io.mosip.registration.processor.status.entity.SaltEntity;
+
+public class SaltedHashUtilTest {
+
+	@Test
+	public void testSaltIndexIsDerivedFromHash() throws NoSuchAlgorithmException {
+		byte[] hash = HMACUtils2.generateHash("mosip1@gmail.com".getBytes());
+		String nonce = String.format("%02x%02x", hash[hash.length - 2], hash[hash.length - 1]);
+
+		assertEquals(Long.parseLong(nonce, 16) % 10000, SaltedHashUtil.getSaltIndex("mosip1@gmail.com".getBytes()));
+	}
+
+	@Test
+	public void testDigestWithSaltMatchesRepeatedRounds() throws NoSuchAlgorithmException {
+		byte[] salt = "AhMq3pd2bW1jZmQ2".getBytes();
+		byte[] expected = "mosip".getBytes();
+		for (int i = 0; i < 5; i++)
+			expected = HMACUtils2.digestAsPlainTextWithSalt(expected, salt).getBytes();
+
+		assertArrayEquals(expected, SaltedHashUtil.digestWithSalt("mosip".getBytes(), salt, 5));
+		assertArrayEquals(expected, SaltedHashUtil.digestWithSalt("mosip".getBytes(), salt, 5));
+	}
+
+	@Test
+	public void testSaltCacheDecodesSalts() {
+		SaltEntity urlSafe = new SaltEntity();
+		urlSafe.setId(10L);
+		urlSafe.setSalt(CryptoUtil.encodeToURLSafeBase64(new byte[] { -5, -17, 1 }));
+		SaltEntity outOfRange = new SaltEntity();
+		outOfRange.setId(10000L);
+		outOfRange.setSalt(CryptoUtil.encodeToURLSafeBase64(new byte[] { 1 }));
+		SaltCache saltCache = new SaltCache(Arrays.asList(urlSafe, outOfRange), 1000);
+
+		assertArrayEquals(new byte[] { -5, -17, 1 }, saltCache.get(10));
+		assertNull(saltCache.get(11));
+		assertNull(saltCache.get(10000));
+		assertFalse(saltCache.isExpired(1999, 1000));
+		assertTrue(saltCache.isExpired(2000, 1000));
+	}
+}
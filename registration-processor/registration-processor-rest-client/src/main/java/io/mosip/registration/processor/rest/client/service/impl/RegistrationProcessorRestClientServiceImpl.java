@@ -85,7 +85,7 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 
 				uriComponents = builder.build(false).encode();
 				regProcLogger.debug(uriComponents.toUri().toString(), "URI", "", "");
-				obj = restApiClient.getApi(uriComponents.toUri(), responseType);
+				obj = restApiClient.getApi(apiName, uriComponents.toUri(), responseType);
 
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
@@ -135,7 +135,7 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 
 				uriComponents = builder.build(false).encode();
 				regProcLogger.debug(uriComponents.toUri().toString(), "URI", "", "");
-				obj = restApiClient.getApi(uriComponents.toUri(), responseType);
+				obj = restApiClient.getApi(apiName, uriComponents.toUri(), responseType);
 
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
@@ -174,7 +174,7 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 			}
 
 			try {
-				obj = restApiClient.postApi(builder.toUriString(), mediaType, requestedData, responseType);
+				obj = restApiClient.postApi(apiName, builder.toUriString(), mediaType, requestedData, responseType);
 
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
@@ -245,7 +245,7 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 			}
 
 			try {
-				obj = restApiClient.postApi(builder.toUriString(), null, requestedData, responseType);
+				obj = restApiClient.postApi(apiName, builder.toUriString(), null, requestedData, responseType);
 
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
@@ -291,7 +291,7 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 			}
 
 			try {
-				obj = restApiClient.postApi(builder.toUriString(), mediaType, requestedData, responseType);
+				obj = restApiClient.postApi(apiName, builder.toUriString(), mediaType, requestedData, responseType);
 
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
@@ -346,7 +346,7 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 			}
 
 			try {
-				obj = restApiClient.patchApi(builder.toUriString(), requestedData, responseType);
+				obj = restApiClient.patchApi(apiName, builder.toUriString(), null, requestedData, responseType);
 
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
@@ -401,7 +401,7 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 			}
 
 			try {
-				obj = restApiClient.putApi(builder.toUriString(), requestedData, responseType, mediaType);
+				obj = restApiClient.putApi(apiName, builder.toUriString(), requestedData, responseType, mediaType);
 
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
@@ -504,7 +504,7 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 
 				uriComponents = builder.build(false).encode();
 				regProcLogger.debug(uriComponents.toUri().toString(), "URI", "", "");
-				obj = restApiClient.headApi(uriComponents.toUri());
+				obj = restApiClient.headApi(apiName, uriComponents.toUri());
 
 			} catch (Exception e) {
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
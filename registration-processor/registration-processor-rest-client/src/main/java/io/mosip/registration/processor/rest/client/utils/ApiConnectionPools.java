@@ -0,0 +1,285 @@
+package io.mosip.registration.processor.rest.client.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.registration.processor.core.code.ApiName;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+/**
+ * Keeps a separate connection pool for each dependency, so that a slow
+ * dependency can only use up the connections of its own APIs. The packet manager
+ * and id repository APIs have their own pools and the other APIs share the
+ * default pool, unless registration.processor.httpclient.&lt;API name&gt;.pool
+ * names another one. The rest template of a pool is built on the first call
+ * with the interceptors, message converters and error handler of the shared
+ * rest template, so the calls keep the same authentication.
+ * <p>
+ * The pool size, timeouts and keep alive are read from
+ * registration.processor.httpclient.&lt;pool name&gt;.&lt;key&gt; and default to
+ * registration.processor.httpclient.&lt;key&gt;. At most
+ * registration.processor.httpclient.connections.max connections are in use
+ * across all the pools at a time.
+ */
+public class ApiConnectionPools implements Closeable {
+
+	static final String PROPERTY_PREFIX = "registration.processor.httpclient.";
+
+	static final String PACKET_MANAGER_POOL = "packetmanager";
+	static final String ID_REPO_POOL = "idrepo";
+	static final String DEFAULT_POOL = "default";
+
+	private static final String LEASED_METRIC = "mosip.regproc.httpclient.pool.leased";
+	private static final String PENDING_METRIC = "mosip.regproc.httpclient.pool.pending";
+	private static final String MAX_METRIC = "mosip.regproc.httpclient.pool.max";
+	private static final String WAIT_TIME_METRIC = "mosip.regproc.httpclient.pool.wait.time";
+	private static final String REQUEST_TIME_METRIC = "mosip.regproc.httpclient.requests";
+
+	private final Environment environment;
+
+	private final RestTemplate defaultRestTemplate;
+
+	private final int defaultMaxConnections;
+
+	private final int totalMaxConnections;
+
+	/** Connections in use across all the pools */
+	private final Semaphore totalConnections;
+
+	private final Map<String, RestTemplate> restTemplates = new ConcurrentHashMap<>();
+
+	private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * @param defaultRestTemplate   the rest template whose interceptors, message
+	 *                              converters and error handler are used
+	 * @param defaultMaxConnections the pool size of a dependency that has none
+	 *                              configured
+	 * @param totalMaxConnections   the connections in use across all the pools at
+	 *                              a time
+	 */
+	public ApiConnectionPools(Environment environment, RestTemplate defaultRestTemplate, int defaultMaxConnections,
+			int totalMaxConnections) {
+		this(environment, defaultRestTemplate, defaultMaxConnections, totalMaxConnections, null);
+	}
+
+	ApiConnectionPools(Environment environment, RestTemplate defaultRestTemplate, int defaultMaxConnections,
+			int totalMaxConnections, MeterRegistry meterRegistry) {
+		this.environment = environment;
+		this.defaultRestTemplate = defaultRestTemplate;
+		this.defaultMaxConnections = defaultMaxConnections;
+		this.totalMaxConnections = totalMaxConnections;
+		this.totalConnections = new Semaphore(totalMaxConnections, true);
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Returns the rest template of the pool of the API, the shared rest template if
+	 * the API is null.
+	 */
+	public RestTemplate getRestTemplate(ApiName apiName) {
+		if (apiName == null)
+			return defaultRestTemplate;
+		return restTemplates.computeIfAbsent(getPoolName(apiName), this::createRestTemplate);
+	}
+
+	/**
+	 * Returns the name of the pool the calls of the API go through
+	 */
+	String getPoolName(ApiName apiName) {
+		String api = apiName.name();
+		String poolName = environment.getProperty(PROPERTY_PREFIX + api + ".pool");
+		if (poolName != null && !poolName.isEmpty())
+			return poolName;
+		if (api.startsWith("PACKETMANAGER_"))
+			return PACKET_MANAGER_POOL;
+		if (api.startsWith("IDREPO") || api.startsWith("RETRIEVEIDENTITY"))
+			return ID_REPO_POOL;
+		return DEFAULT_POOL;
+	}
+
+	private RestTemplate createRestTemplate(String pool) {
+		int maxConnections = Math.min(getProperty(pool, "pool-size", Integer.class, defaultMaxConnections),
+				totalMaxConnections);
+		long keepAliveMillis = getProperty(pool, "keep-alive-millis", Long.class, 60000L);
+		MeterRegistry registry = getMeterRegistry();
+
+		Timer waitTimer = Timer.builder(WAIT_TIME_METRIC).tag("pool", pool).register(registry);
+		PoolingHttpClientConnectionManager connectionManager = new TimedConnectionManager(waitTimer,
+				totalConnections);
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
+		connectionManager.setValidateAfterInactivity(2000);
+		Gauge.builder(LEASED_METRIC, connectionManager, manager -> manager.getTotalStats().getLeased())
+				.tag("pool", pool).register(registry);
+		Gauge.builder(PENDING_METRIC, connectionManager, manager -> manager.getTotalStats().getPending())
+				.tag("pool", pool).register(registry);
+		Gauge.builder(MAX_METRIC, connectionManager, manager -> manager.getTotalStats().getMax()).tag("pool", pool)
+				.register(registry);
+
+		RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectTimeout(getProperty(pool, "connect-timeout-millis", Integer.class, 10000))
+				.setSocketTimeout(getProperty(pool, "read-timeout-millis", Integer.class, 60000))
+				.setConnectionRequestTimeout(getProperty(pool, "pool-wait-timeout-millis", Integer.class, 30000))
+				.build();
+		CloseableHttpClient httpClient = HttpClientBuilder.create().setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.setKeepAliveStrategy((response, context) -> {
+					long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+							context);
+					return keepAlive > 0 ? Math.min(keepAlive, keepAliveMillis) : keepAliveMillis;
+				}).evictExpiredConnections().evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS)
+				.disableCookieManagement().build();
+		synchronized (httpClients) {
+			httpClients.add(httpClient);
+		}
+
+		RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+		restTemplate.setMessageConverters(defaultRestTemplate.getMessageConverters());
+		restTemplate.setErrorHandler(defaultRestTemplate.getErrorHandler());
+		restTemplate.setUriTemplateHandler(defaultRestTemplate.getUriTemplateHandler());
+		// built once for each method and status of the pool
+		Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+		List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+		interceptors.add((request, body, execution) -> {
+			long startTime = System.nanoTime();
+			String outcome = "IO_ERROR";
+			try {
+				ClientHttpResponse response = execution.execute(request, body);
+				outcome = String.valueOf(response.getRawStatusCode());
+				return response;
+			} finally {
+				String method = request.getMethodValue();
+				String status = outcome;
+				requestTimers.computeIfAbsent(method + " " + status,
+						key -> Timer.builder(REQUEST_TIME_METRIC).tags("pool", pool, "method", method, "status", status)
+								.publishPercentileHistogram().register(registry))
+						.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+			}
+		});
+		interceptors.addAll(defaultRestTemplate.getInterceptors());
+		restTemplate.setInterceptors(interceptors);
+		return restTemplate;
+	}
+
+	private <T> T getProperty(String pool, String key, Class<T> type, T defaultValue) {
+		T value = environment.getProperty(PROPERTY_PREFIX + pool + "." + key, type);
+		return value != null ? value : environment.getProperty(PROPERTY_PREFIX + key, type, defaultValue);
+	}
+
+	private MeterRegistry getMeterRegistry() {
+		if (meterRegistry == null) {
+			MeterRegistry registry = BackendRegistries.getDefaultNow();
+			meterRegistry = registry != null ? registry : Metrics.globalRegistry;
+		}
+		return meterRegistry;
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (httpClients) {
+			for (CloseableHttpClient httpClient : httpClients)
+				httpClient.close();
+			httpClients.clear();
+		}
+		restTemplates.clear();
+	}
+
+	/**
+	 * Connection manager recording the time spent waiting for a pooled connection
+	 * and holding a permit of the connections in use across all the pools for each
+	 * leased connection. The permit is only taken once a connection of the pool is
+	 * leased, so the calls queued on a saturated pool do not hold the permits the
+	 * other pools need.
+	 */
+	static class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+
+		private final Timer waitTimer;
+
+		private final Semaphore totalConnections;
+
+		TimedConnectionManager(Timer waitTimer, Semaphore totalConnections) {
+			this.waitTimer = waitTimer;
+			this.totalConnections = totalConnections;
+		}
+
+		@Override
+		public void releaseConnection(HttpClientConnection managedConn, Object state, long keepalive,
+				TimeUnit timeUnit) {
+			try {
+				super.releaseConnection(managedConn, state, keepalive, timeUnit);
+			} finally {
+				totalConnections.release();
+			}
+		}
+
+		@Override
+		public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+			ConnectionRequest connectionRequest = super.requestConnection(route, state);
+			return new ConnectionRequest() {
+
+				@Override
+				public boolean cancel() {
+					return connectionRequest.cancel();
+				}
+
+				@Override
+				public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+						throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+					long startTime = System.nanoTime();
+					try {
+						HttpClientConnection connection = connectionRequest.get(timeout, timeUnit);
+						boolean isAcquired = false;
+						try {
+							if (timeout <= 0) {
+								totalConnections.acquire();
+								isAcquired = true;
+							} else {
+								long remainingNanos = timeUnit.toNanos(timeout) - (System.nanoTime() - startTime);
+								isAcquired = totalConnections.tryAcquire(Math.max(remainingNanos, 0),
+										TimeUnit.NANOSECONDS);
+							}
+						} finally {
+							if (!isAcquired)
+								TimedConnectionManager.super.releaseConnection(connection, null, 0,
+										TimeUnit.MILLISECONDS);
+						}
+						if (!isAcquired)
+							throw new ConnectionPoolTimeoutException("Timeout waiting for connection from pool");
+						return connection;
+					} finally {
+						waitTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+					}
+				}
+			};
+		}
+	}
+}
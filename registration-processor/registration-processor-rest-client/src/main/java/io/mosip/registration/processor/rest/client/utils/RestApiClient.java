@@ -5,6 +5,9 @@ import java.net.URI;
 import java.util.Iterator;
 import java.util.List;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.directory.api.util.Strings;
 import org.apache.http.Header;
@@ -39,6 +42,7 @@ import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.core.util.StringUtils;
 import io.mosip.kernel.core.util.TokenHandlerUtil;
+import io.mosip.registration.processor.core.code.ApiName;
 import io.mosip.registration.processor.core.constant.LoggerFileConstant;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.mosip.registration.processor.core.tracing.ContextualData;
@@ -65,6 +69,12 @@ public class RestApiClient {
 	@Value("${registration.processor.httpclient.connections.max:100}")
 	private int totalMaxConnection;
 
+	/** Sends the calls of each api through its own connection pool */
+	@Value("${registration.processor.httpclient.api-pools.enabled:true}")
+	private boolean apiConnectionPoolsEnabled;
+
+	private ApiConnectionPools apiConnectionPools;
+
 	/** The builder. */
 	@Autowired
 	RestTemplateBuilder builder;
@@ -90,12 +100,26 @@ public class RestApiClient {
 	 * @return the api
 	 * @throws Exception
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> T getApi(URI uri, Class<?> responseType) throws Exception {
+		return getApi(null, uri, responseType);
+	}
+
+	/**
+	 * Gets the api through the connection pool of the api.
+	 *
+	 * @param <T>          the generic type
+	 * @param apiName      the api name, null to use the shared connection pool
+	 * @param uri          the get URI
+	 * @param responseType the response type
+	 * @return the api
+	 * @throws Exception
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getApi(ApiName apiName, URI uri, Class<?> responseType) throws Exception {
 		T result = null;
 
 		try {
-			result = (T) localRestTemplate.exchange(uri, HttpMethod.GET, setRequestHeader(null, null), responseType)
+			result = (T) getRestTemplate(apiName).exchange(uri, HttpMethod.GET, setRequestHeader(null, null), responseType)
 					.getBody();
 		} catch (Exception e) {
 			logger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.APPLICATIONID.toString(),
@@ -115,14 +139,29 @@ public class RestApiClient {
 	 * @param responseClass the response class
 	 * @return the t
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> T postApi(String uri, MediaType mediaType, Object requestType, Class<?> responseClass) throws Exception {
+		return postApi(null, uri, mediaType, requestType, responseClass);
+	}
+
+	/**
+	 * Post api through the connection pool of the api.
+	 *
+	 * @param <T>           the generic type
+	 * @param apiName       the api name, null to use the shared connection pool
+	 * @param uri           the uri
+	 * @param requestType   the request type
+	 * @param responseClass the response class
+	 * @return the t
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T postApi(ApiName apiName, String uri, MediaType mediaType, Object requestType, Class<?> responseClass)
+			throws Exception {
 
 		T result = null;
 		try {
 			logger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.APPLICATIONID.toString(),
 					LoggerFileConstant.APPLICATIONID.toString(), uri);
-			result = (T) localRestTemplate.postForObject(uri, setRequestHeader(requestType, mediaType), responseClass);
+			result = (T) getRestTemplate(apiName).postForObject(uri, setRequestHeader(requestType, mediaType), responseClass);
 
 		} catch (Exception e) {
 			logger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.APPLICATIONID.toString(),
@@ -142,15 +181,30 @@ public class RestApiClient {
 	 * @param responseClass the response class
 	 * @return the t
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> T patchApi(String uri, MediaType mediaType, Object requestType, Class<?> responseClass)
 			throws Exception {
+		return patchApi(null, uri, mediaType, requestType, responseClass);
+	}
+
+	/**
+	 * Patch api through the connection pool of the api.
+	 *
+	 * @param <T>           the generic type
+	 * @param apiName       the api name, null to use the shared connection pool
+	 * @param uri           the uri
+	 * @param requestType   the request type
+	 * @param responseClass the response class
+	 * @return the t
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T patchApi(ApiName apiName, String uri, MediaType mediaType, Object requestType,
+			Class<?> responseClass) throws Exception {
 
 		T result = null;
 		try {
 			logger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.APPLICATIONID.toString(),
 					LoggerFileConstant.APPLICATIONID.toString(), uri);
-			result = (T) localRestTemplate.patchForObject(uri, setRequestHeader(requestType, mediaType), responseClass);
+			result = (T) getRestTemplate(apiName).patchForObject(uri, setRequestHeader(requestType, mediaType), responseClass);
 
 		} catch (Exception e) {
 			logger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.APPLICATIONID.toString(),
@@ -176,8 +230,25 @@ public class RestApiClient {
 	 * @return the t
 	 * @throws Exception the exception
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> T putApi(String uri, Object requestType, Class<?> responseClass, MediaType mediaType) throws Exception {
+		return putApi(null, uri, requestType, responseClass, mediaType);
+	}
+
+	/**
+	 * Put api through the connection pool of the api.
+	 *
+	 * @param <T>           the generic type
+	 * @param apiName       the api name, null to use the shared connection pool
+	 * @param uri           the uri
+	 * @param requestType   the request type
+	 * @param responseClass the response class
+	 * @param mediaType
+	 * @return the t
+	 * @throws Exception the exception
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T putApi(ApiName apiName, String uri, Object requestType, Class<?> responseClass, MediaType mediaType)
+			throws Exception {
 
 		T result = null;
 		ResponseEntity<T> response = null;
@@ -185,7 +256,7 @@ public class RestApiClient {
 			logger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.APPLICATIONID.toString(),
 					LoggerFileConstant.APPLICATIONID.toString(), uri);
 
-			response = (ResponseEntity<T>) localRestTemplate.exchange(uri, HttpMethod.PUT,
+			response = (ResponseEntity<T>) getRestTemplate(apiName).exchange(uri, HttpMethod.PUT,
 					setRequestHeader(requestType, mediaType), responseClass);
 			result = response.getBody();
 		} catch (Exception e) {
@@ -198,8 +269,12 @@ public class RestApiClient {
 	}
 
 	public int headApi(URI uri) throws Exception {
+		return headApi(null, uri);
+	}
+
+	public int headApi(ApiName apiName, URI uri) throws Exception {
 		try {
-			HttpStatus httpStatus = localRestTemplate
+			HttpStatus httpStatus = getRestTemplate(apiName)
 					.exchange(uri, HttpMethod.HEAD, setRequestHeader(null, null), Object.class).getStatusCode();
 			return httpStatus.value();
 		} catch (Exception e) {
@@ -214,6 +289,27 @@ public class RestApiClient {
 		return localRestTemplate;
 	}
 
+	/**
+	 * Returns the rest template of the connection pool of the api, the shared rest
+	 * template if the api is null or the pools are disabled.
+	 */
+	public RestTemplate getRestTemplate(ApiName apiName) {
+		return apiConnectionPools != null ? apiConnectionPools.getRestTemplate(apiName) : localRestTemplate;
+	}
+
+	@PostConstruct
+	public void initApiConnectionPools() {
+		if (apiConnectionPoolsEnabled)
+			apiConnectionPools = new ApiConnectionPools(environment, localRestTemplate, maxConnectionPerRoute,
+					totalMaxConnection);
+	}
+
+	@PreDestroy
+	public void closeApiConnectionPools() throws IOException {
+		if (apiConnectionPools != null)
+			apiConnectionPools.close();
+	}
+
 	/**
 	 * this method sets token to header of the request
 	 *
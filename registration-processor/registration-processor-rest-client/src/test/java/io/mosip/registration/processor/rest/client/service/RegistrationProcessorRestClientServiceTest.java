@@ -52,7 +52,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void getObjecSuccessTest() throws Exception {
 
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
-		Mockito.when(restApiClient.getApi(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(auditResponseDto);
+		Mockito.when(restApiClient.getApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(auditResponseDto);
 		AuditResponseDto resultDto = (AuditResponseDto) registrationProcessorRestClientService.getApi(ApiName.AUDIT,
 				null, "query1", "12345", AuditResponseDto.class);
 		assertEquals(true, resultDto.isStatus());
@@ -62,7 +62,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void postObjecSuccessTest() throws Exception {
 		AuditRequestDto auditRequestDto = new AuditRequestDto();
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
-		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenReturn(auditResponseDto);
 		AuditResponseDto resultDto = (AuditResponseDto) registrationProcessorRestClientService.postApi(ApiName.AUDIT,
 				"query1", "12345", auditRequestDto, AuditResponseDto.class);
@@ -73,7 +73,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void getObjecTestFailureTest() throws Exception {
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
 		ResourceAccessException exp = new ResourceAccessException("errorMessage");
-		Mockito.when(restApiClient.getApi(ArgumentMatchers.any(), ArgumentMatchers.any())).thenThrow(exp);
+		Mockito.when(restApiClient.getApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenThrow(exp);
 
 		registrationProcessorRestClientService.getApi(ApiName.AUDIT, Arrays.asList("abc", "def"), "query1", "12345",
 				AuditResponseDto.class);
@@ -84,7 +84,7 @@ public class RegistrationProcessorRestClientServiceTest {
 		AuditRequestDto auditRequestDto = new AuditRequestDto();
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
 		ResourceAccessException exp = new ResourceAccessException("errorMessage");
-		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenThrow(exp);
 		registrationProcessorRestClientService.postApi(ApiName.AUDIT, "query1", "12345", auditRequestDto,
 				AuditResponseDto.class);
@@ -94,7 +94,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void getObjectForArgListSuccessTest() throws Exception {
 
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
-		Mockito.when(restApiClient.getApi(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(auditResponseDto);
+		Mockito.when(restApiClient.getApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(auditResponseDto);
 		AuditResponseDto resultDto = (AuditResponseDto) registrationProcessorRestClientService.getApi(ApiName.AUDIT,
 				null, Arrays.asList("query1"), Arrays.asList("12345"), AuditResponseDto.class);
 		assertEquals(true, resultDto.isStatus());
@@ -104,7 +104,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void getObjectForArgListTestFailureTest() throws Exception {
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
 		ResourceAccessException exp = new ResourceAccessException("errorMessage");
-		Mockito.when(restApiClient.getApi(ArgumentMatchers.any(), ArgumentMatchers.any())).thenThrow(exp);
+		Mockito.when(restApiClient.getApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenThrow(exp);
 
 		registrationProcessorRestClientService.getApi(ApiName.AUDIT, Arrays.asList("abc", "def"),
 				Arrays.asList("query1"), Arrays.asList("12345"), AuditResponseDto.class);
@@ -114,7 +114,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void postObjectSuccessTest() throws Exception {
 		AuditRequestDto auditRequestDto = new AuditRequestDto();
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
-		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenReturn(auditResponseDto);
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
@@ -130,7 +130,7 @@ public class RegistrationProcessorRestClientServiceTest {
 		ResourceAccessException exp = new ResourceAccessException("errorMessage");
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
-		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenThrow(exp);
 		registrationProcessorRestClientService.postApi(ApiName.AUDIT, pathSegments, "query1", "12345", auditRequestDto,
 				AuditResponseDto.class);
@@ -140,7 +140,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void postObjectForArgListSuccessTest() throws Exception {
 		AuditRequestDto auditRequestDto = new AuditRequestDto();
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
-		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenReturn(auditResponseDto);
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
@@ -157,7 +157,7 @@ public class RegistrationProcessorRestClientServiceTest {
 		ResourceAccessException exp = new ResourceAccessException("errorMessage");
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
-		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.postApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenThrow(exp);
 		registrationProcessorRestClientService.postApi(ApiName.AUDIT, null, pathSegments, Arrays.asList("query1"),
 				Arrays.asList("12345"), auditRequestDto, AuditResponseDto.class);
@@ -167,7 +167,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void patchObjectSuccessTest() throws Exception {
 		AuditRequestDto auditRequestDto = new AuditRequestDto();
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
-		Mockito.when(restApiClient.patchApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.patchApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenReturn(auditResponseDto);
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
@@ -183,7 +183,7 @@ public class RegistrationProcessorRestClientServiceTest {
 		ResourceAccessException exp = new ResourceAccessException("errorMessage");
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
-		Mockito.when(restApiClient.patchApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.patchApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenThrow(exp);
 		registrationProcessorRestClientService.patchApi(ApiName.AUDIT, pathSegments, "query1", "12345", auditRequestDto,
 				AuditResponseDto.class);
@@ -193,7 +193,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	public void putObjectSuccessTest() throws Exception {
 		AuditRequestDto auditRequestDto = new AuditRequestDto();
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
-		Mockito.when(restApiClient.putApi(ArgumentMatchers.any(),ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.putApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenReturn(auditResponseDto);
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
@@ -209,7 +209,7 @@ public class RegistrationProcessorRestClientServiceTest {
 		ResourceAccessException exp = new ResourceAccessException("errorMessage");
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
-		Mockito.when(restApiClient.putApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+		Mockito.when(restApiClient.putApi(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenThrow(exp);
 		registrationProcessorRestClientService.putApi(ApiName.AUDIT, pathSegments, "query1", "12345", auditRequestDto,
 				AuditResponseDto.class,null);
@@ -243,7 +243,7 @@ public class RegistrationProcessorRestClientServiceTest {
 	@Test
 	public void headObjectSuccessTest() throws Exception {
 		Mockito.when(env.getProperty(ArgumentMatchers.any())).thenReturn("AUDIT");
-		Mockito.when(restApiClient.headApi(ArgumentMatchers.any()))
+		Mockito.when(restApiClient.headApi(ArgumentMatchers.any(), ArgumentMatchers.any()))
 				.thenReturn(1);
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
@@ -257,7 +257,7 @@ public class RegistrationProcessorRestClientServiceTest {
 		ResourceAccessException exp = new ResourceAccessException("errorMessage");
 		List<String> pathSegments = new ArrayList<>();
 		pathSegments.add("test");
-		Mockito.when(restApiClient.headApi(ArgumentMatchers.any())).thenThrow(exp);
+		Mockito.when(restApiClient.headApi(ArgumentMatchers.any(), ArgumentMatchers.any())).thenThrow(exp);
 		registrationProcessorRestClientService.headApi(ApiName.AUDIT, pathSegments, Arrays.asList("query1"), Arrays.asList("12345"));
 	}
 
@@ -0,0 +1,171 @@
+package io.mosip.registration.processor.rest.client.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.registration.processor.core.code.ApiName;
+
+public class ApiConnectionPoolsTest {
+
+	private RestTemplate defaultRestTemplate;
+
+	private ClientHttpRequestInterceptor tokenInterceptor;
+
+	private ApiConnectionPools apiConnectionPools;
+
+	private MeterRegistry meterRegistry;
+
+	@Before
+	public void setup() {
+		defaultRestTemplate = new RestTemplate();
+		tokenInterceptor = (request, body, execution) -> execution.execute(request, body);
+		defaultRestTemplate.setInterceptors(Collections.singletonList(tokenInterceptor));
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("registration.processor.httpclient.pool-size", "10");
+		environment.setProperty("registration.processor.httpclient.packetmanager.pool-size", "40");
+		environment.setProperty("registration.processor.httpclient.AUDIT.pool", "audit");
+		environment.setProperty("registration.processor.httpclient.audit.pool-size", "2");
+		meterRegistry = new SimpleMeterRegistry();
+		apiConnectionPools = new ApiConnectionPools(environment, defaultRestTemplate, 20, 30, meterRegistry);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		apiConnectionPools.close();
+	}
+
+	@Test
+	public void testEachDependencyHasItsOwnRestTemplate() {
+		RestTemplate audit = apiConnectionPools.getRestTemplate(ApiName.AUDIT);
+		RestTemplate packetManager = apiConnectionPools.getRestTemplate(ApiName.PACKETMANAGER_SEARCH_FIELD);
+
+		assertSame(audit, apiConnectionPools.getRestTemplate(ApiName.AUDIT));
+		assertNotSame(audit, packetManager);
+		assertSame(packetManager, apiConnectionPools.getRestTemplate(ApiName.PACKETMANAGER_SEARCH_BIOMETRICS));
+		assertSame(apiConnectionPools.getRestTemplate(ApiName.IDREPOGETIDBYUIN),
+				apiConnectionPools.getRestTemplate(ApiName.RETRIEVEIDENTITY));
+		assertSame(apiConnectionPools.getRestTemplate(ApiName.MASTER),
+				apiConnectionPools.getRestTemplate(ApiName.CREATEVID));
+		assertSame(defaultRestTemplate, apiConnectionPools.getRestTemplate(null));
+		assertTrue(audit.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory);
+		assertTrue(audit.getInterceptors().contains(tokenInterceptor));
+		assertSame(defaultRestTemplate.getErrorHandler(), audit.getErrorHandler());
+	}
+
+	@Test
+	public void testPoolSizeIsConfiguredPerPool() {
+		apiConnectionPools.getRestTemplate(ApiName.AUDIT);
+		apiConnectionPools.getRestTemplate(ApiName.PACKETMANAGER_SEARCH_FIELD);
+		apiConnectionPools.getRestTemplate(ApiName.MASTER);
+
+		assertEquals(2.0,
+				meterRegistry.get("mosip.regproc.httpclient.pool.max").tag("pool", "audit").gauge().value(), 0);
+		assertEquals(30.0, meterRegistry.get("mosip.regproc.httpclient.pool.max").tag("pool", "packetmanager")
+				.gauge().value(), 0);
+		assertEquals(10.0,
+				meterRegistry.get("mosip.regproc.httpclient.pool.max").tag("pool", "default").gauge().value(), 0);
+	}
+
+	@Test
+	public void testConnectionsInUseAreLimitedAcrossPools() throws Exception {
+		Semaphore totalConnections = new Semaphore(1);
+		Timer waitTimer = Timer.builder("wait").register(meterRegistry);
+		ApiConnectionPools.TimedConnectionManager packetManager = new ApiConnectionPools.TimedConnectionManager(
+				waitTimer, totalConnections);
+		ApiConnectionPools.TimedConnectionManager idRepo = new ApiConnectionPools.TimedConnectionManager(waitTimer,
+				totalConnections);
+		HttpRoute route = new HttpRoute(new HttpHost("localhost", 8080));
+		try {
+			HttpClientConnection connection = packetManager.requestConnection(route, null).get(100,
+					TimeUnit.MILLISECONDS);
+			try {
+				idRepo.requestConnection(route, null).get(100, TimeUnit.MILLISECONDS);
+				fail();
+			} catch (ConnectionPoolTimeoutException e) {
+				assertEquals(0, idRepo.getTotalStats().getLeased());
+			}
+
+			packetManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+			HttpClientConnection idRepoConnection = idRepo.requestConnection(route, null).get(100,
+					TimeUnit.MILLISECONDS);
+			assertEquals(0, totalConnections.availablePermits());
+			idRepo.releaseConnection(idRepoConnection, null, 0, TimeUnit.MILLISECONDS);
+			assertEquals(1, totalConnections.availablePermits());
+		} finally {
+			packetManager.shutdown();
+			idRepo.shutdown();
+		}
+	}
+
+	@Test
+	public void testSaturatedPoolDoesNotHoldConnectionsOfOtherPools() throws Exception {
+		Semaphore totalConnections = new Semaphore(2);
+		Timer waitTimer = Timer.builder("wait").register(meterRegistry);
+		ApiConnectionPools.TimedConnectionManager packetManager = new ApiConnectionPools.TimedConnectionManager(
+				waitTimer, totalConnections);
+		packetManager.setMaxTotal(1);
+		packetManager.setDefaultMaxPerRoute(1);
+		ApiConnectionPools.TimedConnectionManager idRepo = new ApiConnectionPools.TimedConnectionManager(waitTimer,
+				totalConnections);
+		HttpRoute route = new HttpRoute(new HttpHost("localhost", 8080));
+		try {
+			HttpClientConnection connection = packetManager.requestConnection(route, null).get(100,
+					TimeUnit.MILLISECONDS);
+			try {
+				packetManager.requestConnection(route, null).get(100, TimeUnit.MILLISECONDS);
+				fail();
+			} catch (ConnectionPoolTimeoutException e) {
+				assertEquals(1, totalConnections.availablePermits());
+			}
+
+			HttpClientConnection idRepoConnection = idRepo.requestConnection(route, null).get(100,
+					TimeUnit.MILLISECONDS);
+			assertEquals(0, totalConnections.availablePermits());
+			idRepo.releaseConnection(idRepoConnection, null, 0, TimeUnit.MILLISECONDS);
+			packetManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+			assertEquals(2, totalConnections.availablePermits());
+		} finally {
+			packetManager.shutdown();
+			idRepo.shutdown();
+		}
+	}
+
+	@Test
+	public void testRequestTimerRegisteredOncePerPoolMethodAndStatus() {
+		RestTemplate packetManager = apiConnectionPools.getRestTemplate(ApiName.PACKETMANAGER_SEARCH_FIELD);
+		for (int i = 0; i < 2; i++) {
+			try {
+				packetManager.getForObject("http://localhost:1/search", String.class);
+			} catch (RuntimeException e) {
+				// no server is listening, the call is timed as an io error
+			}
+		}
+
+		assertEquals(1, meterRegistry.find("mosip.regproc.httpclient.requests").timers().size());
+		assertEquals(2, meterRegistry.get("mosip.regproc.httpclient.requests").tag("pool", "packetmanager")
+				.tag("method", "GET").tag("status", "IO_ERROR").timer().count());
+	}
+}
@@ -1,11 +1,17 @@
 package io.mosip.registration.processor.reprocessor.verticle;
 
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -96,6 +102,24 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 	@Value("#{'${registration.processor.reprocess.restart-trigger-filter}'.split(',')}")
 	private List<String> reprocessRestartTriggerFilter;
 
+	/**
+	 * Number of packets reprocessed per second while a scan continues page after
+	 * page, 0 reprocesses a single page on every cron tick
+	 */
+	@Value("${registration.processor.reprocess.scan.packets-per-second:0}")
+	private int scanPacketsPerSecond;
+
+	/** Latest transaction time of the last packet of the previous page of the scan */
+	private LocalDateTime scanCursorTransactionTimes;
+
+	/** Workflow instance id of the last packet of the previous page of the scan */
+	private String scanCursorWorkflowInstanceId;
+
+	/** Whether the last page was full, so the scan has more packets to read */
+	private volatile boolean scanHasMore;
+
+	private final AtomicBoolean scanInProgress = new AtomicBoolean(false);
+
 	/** The is transaction successful. */
 	boolean isTransactionSuccessful;
 
@@ -154,10 +178,7 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 
 		EventBus eventBus = vertx.eventBus();
 		// listen the timer events
-		eventBus.consumer((ReprocessorConstants.TIMER_EVENT), message -> {
-
-			process(new MessageDTO());
-		});
+		eventBus.consumer((ReprocessorConstants.TIMER_EVENT), message -> startScan());
 
 		// description of timers
 		JsonObject timer = (new JsonObject())
@@ -191,6 +212,29 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 
 	}
 
+	/**
+	 * Starts reading the un processed packets page after page from where the
+	 * previous scan stopped, unless a scan is still running
+	 */
+	private void startScan() {
+		if (scanInProgress.compareAndSet(false, true))
+			scanNextPage();
+	}
+
+	private void scanNextPage() {
+		vertx.<Boolean>executeBlocking(promise -> {
+			process(new MessageDTO());
+			promise.complete(scanHasMore);
+		}, false, result -> {
+			if (result.succeeded() && Boolean.TRUE.equals(result.result()) && scanPacketsPerSecond > 0) {
+				long delay = Math.max(1, fetchSize * 1000L / scanPacketsPerSecond);
+				vertx.setTimer(delay, id -> scanNextPage());
+			} else {
+				scanInProgress.set(false);
+			}
+		});
+	}
+
 	/**
 	 * Send message.
 	 *
@@ -227,23 +271,26 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(), "",
 				"ReprocessorVerticle::process()::entry");
 		StringBuffer ridSb=new StringBuffer();
+		Map<String, Deque<MessageDTO>> messagesByAddress = new LinkedHashMap<>();
+		List<InternalRegistrationStatusDto> statusUpdates = new ArrayList<>();
 		try {
 			Map<String, Set<String>> reprocessRestartTriggerMap = intializeReprocessRestartTriggerMapping();
-			reprocessorDtoList = registrationStatusService.getResumablePackets(fetchSize);
-			if (!CollectionUtils.isEmpty(reprocessorDtoList)) {
-				if (reprocessorDtoList.size() < fetchSize) {
-					List<InternalRegistrationStatusDto>  reprocessorPacketList = registrationStatusService.getUnProcessedPackets(fetchSize - reprocessorDtoList.size(), elapseTime,
-							reprocessCount, statusList, reprocessExcludeStageNames);
-					if (!CollectionUtils.isEmpty(reprocessorPacketList)) {
-						reprocessorDtoList.addAll(reprocessorPacketList);
-					}
+			reprocessorDtoList = new ArrayList<>();
+			List<InternalRegistrationStatusDto> resumablePacketList = registrationStatusService
+					.getResumablePackets(fetchSize);
+			if (!CollectionUtils.isEmpty(resumablePacketList))
+				reprocessorDtoList.addAll(resumablePacketList);
+			int unProcessedFetchSize = fetchSize - reprocessorDtoList.size();
+			if (unProcessedFetchSize > 0) {
+				List<InternalRegistrationStatusDto> reprocessorPacketList = registrationStatusService
+						.getUnProcessedPackets(unProcessedFetchSize, elapseTime, reprocessCount, statusList,
+								reprocessExcludeStageNames, scanCursorTransactionTimes, scanCursorWorkflowInstanceId);
+				advanceScanCursor(reprocessorPacketList, unProcessedFetchSize);
+				if (!CollectionUtils.isEmpty(reprocessorPacketList)) {
+					reprocessorDtoList.addAll(reprocessorPacketList);
 				}
-			} else {
-				reprocessorDtoList = registrationStatusService.getUnProcessedPackets(fetchSize, elapseTime,
-						reprocessCount, statusList, reprocessExcludeStageNames);
 			}
 
-			
 			if (!CollectionUtils.isEmpty(reprocessorDtoList)) {
 				reprocessorDtoList.forEach(dto -> {
 					String registrationId = dto.getRegistrationId();
@@ -274,7 +321,7 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 						if (isRestartFromStageRequired(dto, reprocessRestartTriggerMap)) {
 							stageName = MessageBusUtil.getMessageBusAdress(reprocessRestartFromStage);
 							stageName = stageName.concat(ReprocessorConstants.BUS_IN);
-								sendAndSetStatus(dto, messageDTO, stageName);
+								sendAndSetStatus(dto, messageDTO, stageName, messagesByAddress);
 								dto.setStatusComment(StatusUtil.RE_PROCESS_RESTART_FROM_STAGE.getMessage());
 								dto.setSubStatusCode(StatusUtil.RE_PROCESS_RESTART_FROM_STAGE.getCode());
 								description
@@ -293,7 +340,7 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 						} else {
 							stageName = stageName.concat(ReprocessorConstants.BUS_IN);
 						}
-							sendAndSetStatus(dto, messageDTO, stageName);
+							sendAndSetStatus(dto, messageDTO, stageName, messagesByAddress);
 						dto.setStatusComment(StatusUtil.RE_PROCESS_COMPLETED.getMessage());
 						dto.setSubStatusCode(StatusUtil.RE_PROCESS_COMPLETED.getCode());
 						description.setMessage(PlatformSuccessMessages.RPR_SENT_TO_REPROCESS_SUCCESS.getMessage());
@@ -306,7 +353,7 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 					/** Module-Id can be Both Success/Error code */
 					String moduleId = PlatformSuccessMessages.RPR_SENT_TO_REPROCESS_SUCCESS.getCode();
 					String moduleName = ModuleName.RE_PROCESSOR.toString();
-					registrationStatusService.updateRegistrationStatusForWorkflowEngine(dto, moduleId, moduleName);
+					statusUpdates.add(dto);
 					String eventId = EventId.RPR_402.toString();
 					String eventName = EventName.UPDATE.toString();
 					String eventType = EventType.BUSINESS.toString();
@@ -315,7 +362,13 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 						auditLogRequestBuilder.createAuditRequestBuilder(description.getMessage(), eventId, eventName,
 								eventType, moduleId, moduleName, registrationId);
 				});
-			
+
+				// the statuses are written before the packets are sent, so a stage never
+				// receives a packet whose reprocess is not recorded yet
+				registrationStatusService.updateRegistrationStatusesForWorkflowEngine(statusUpdates,
+						PlatformSuccessMessages.RPR_SENT_TO_REPROCESS_SUCCESS.getCode(),
+						ModuleName.RE_PROCESSOR.toString());
+				dispatch(messagesByAddress);
 			}
 		} catch (TablenotAccessibleException e) {
 			isTransactionSuccessful = false;
@@ -406,9 +459,43 @@ public class ReprocessorVerticle extends MosipVerticleAPIManager {
 		return isRestartFromStageRequired;
 	}
 
-	private void sendAndSetStatus(InternalRegistrationStatusDto dto, MessageDTO messageDTO, String stageName) {
-		MessageBusAddress address = new MessageBusAddress(stageName);
-		sendMessage(messageDTO, address);
+	/**
+	 * Moves the scan cursor after the last packet of the page, or back to the
+	 * start once the page comes back short and the scan is over
+	 */
+	private void advanceScanCursor(List<InternalRegistrationStatusDto> page, int requestedSize) {
+		InternalRegistrationStatusDto last = CollectionUtils.isEmpty(page) ? null : page.get(page.size() - 1);
+		if (last == null || page.size() < requestedSize || last.getLatestTransactionTimes() == null) {
+			scanCursorTransactionTimes = null;
+			scanCursorWorkflowInstanceId = null;
+			scanHasMore = false;
+		} else {
+			scanCursorTransactionTimes = last.getLatestTransactionTimes();
+			scanCursorWorkflowInstanceId = last.getWorkflowInstanceId();
+			scanHasMore = true;
+		}
+	}
+
+	/**
+	 * Sends the page taking one message per bus address in turn, so that a page
+	 * holding many packets of one stage does not reach that stage in one burst
+	 * ahead of the others
+	 */
+	private void dispatch(Map<String, Deque<MessageDTO>> messagesByAddress) {
+		while (!messagesByAddress.isEmpty()) {
+			Iterator<Map.Entry<String, Deque<MessageDTO>>> iterator = messagesByAddress.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<String, Deque<MessageDTO>> entry = iterator.next();
+				sendMessage(entry.getValue().poll(), new MessageBusAddress(entry.getKey()));
+				if (entry.getValue().isEmpty())
+					iterator.remove();
+			}
+		}
+	}
+
+	private void sendAndSetStatus(InternalRegistrationStatusDto dto, MessageDTO messageDTO, String stageName,
+			Map<String, Deque<MessageDTO>> messagesByAddress) {
+		messagesByAddress.computeIfAbsent(stageName, address -> new ArrayDeque<>()).add(messageDTO);
 		dto.setUpdatedBy(ReprocessorConstants.USER);
 		Integer reprocessRetryCount = dto.getReProcessRetryCount() != null ? dto.getReProcessRetryCount() + 1 : 1;
 		dto.setReProcessRetryCount(reprocessRetryCount);
@@ -1,13 +1,18 @@
 package io.mosip.registration.processor.reprocessor.verticle;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Before;
@@ -52,6 +57,9 @@ import io.vertx.core.Vertx;
 public class ReprocessorVerticleTest {
 
 	MessageDTO dto = new MessageDTO();
+
+	private List<MessageDTO> sentMessages = new ArrayList<>();
+
 	@InjectMocks
 	private ReprocessorVerticle reprocessorVerticle = new ReprocessorVerticle() {
 		@Override
@@ -98,6 +106,7 @@ public class ReprocessorVerticleTest {
 
 		@Override
 		public void send(MosipEventBus mosipEventBus, MessageBusAddress toAddress, MessageDTO message) {
+			sentMessages.add(message);
 		}
 	};
 
@@ -170,7 +179,7 @@ public class ReprocessorVerticleTest {
 		registrationStatusDto1.setRegistrationType("NEW");
 		registrationStatusDto1.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.SUCCESS.toString());
 		dtolist.add(registrationStatusDto1);
-		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList()))
+		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(), any(), any()))
 				.thenReturn(dtolist);
 		reprocessorVerticle.process(dto);
 
@@ -199,7 +208,7 @@ public class ReprocessorVerticleTest {
 		registrationStatusDto1.setRegistrationType("NEW");
 		registrationStatusDto1.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.SUCCESS.toString());
 		dtolist.add(registrationStatusDto1);
-		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList()))
+		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(), any(), any()))
 				.thenReturn(dtolist);
 		reprocessorVerticle.process(dto);
 
@@ -213,7 +222,7 @@ public class ReprocessorVerticleTest {
 	 */
 	@Test
 	public void exceptionTest() throws Exception {
-		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(),anyLong(), anyInt(), anyList(), anyList()))
+		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(), any(), any()))
 				.thenReturn(null);
 		dto = reprocessorVerticle.process(dto);
 		assertEquals(null, dto.getIsValid());
@@ -230,7 +239,7 @@ public class ReprocessorVerticleTest {
 
 	@Test
 	public void TablenotAccessibleExceptionTest() throws Exception {
-		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList()))
+		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(), any(), any()))
 				.thenThrow(new TablenotAccessibleException("") {
 				});
 
@@ -265,7 +274,7 @@ public class ReprocessorVerticleTest {
 		reprocessorDtoList.add(registrationStatusDto1);
 		Mockito.when(registrationStatusService.getResumablePackets(anyInt()))
 				.thenReturn(dtolist);
-		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList()))
+		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(), any(), any()))
 				.thenReturn(reprocessorDtoList);
 		reprocessorVerticle.process(dto);
 
@@ -287,10 +296,82 @@ public class ReprocessorVerticleTest {
 		registrationStatusDto.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
 		dtolist.add(registrationStatusDto);
 		Mockito.when(
-				registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList()))
+				registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(), any(), any()))
 				.thenReturn(dtolist);
 		reprocessorVerticle.process(dto);
 
 	}
 
+	@Test
+	public void testProcessResumesScanAfterLastPacketOfFullPage() {
+		LocalDateTime lastTransactionTimes = LocalDateTime.now().minusDays(1);
+		List<InternalRegistrationStatusDto> dtolist = new ArrayList<>();
+		for (String registrationId : new String[] { "2018701130000410092018110734", "2018701130000410092018110735" }) {
+			InternalRegistrationStatusDto registrationStatusDto = new InternalRegistrationStatusDto();
+			registrationStatusDto.setRegistrationId(registrationId);
+			registrationStatusDto.setWorkflowInstanceId("workflow-" + registrationId);
+			registrationStatusDto.setRegistrationType(RegistrationType.NEW.toString());
+			registrationStatusDto.setRegistrationStageName("PacketValidatorStage");
+			registrationStatusDto.setReProcessRetryCount(0);
+			registrationStatusDto.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
+			registrationStatusDto.setLatestTransactionTimes(lastTransactionTimes);
+			dtolist.add(registrationStatusDto);
+		}
+		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(),
+				isNull(), isNull())).thenReturn(dtolist);
+
+		reprocessorVerticle.process(dto);
+		reprocessorVerticle.process(dto);
+
+		Mockito.verify(registrationStatusService).getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(),
+				anyList(), eq(lastTransactionTimes), eq("workflow-2018701130000410092018110735"));
+		Mockito.verify(registrationStatusService).updateRegistrationStatusesForWorkflowEngine(
+				Mockito.argThat(list -> list.size() == 2), any(), any());
+	}
+
+	@Test
+	public void testProcessUpdatesStatusesBeforeSendingPackets() {
+		List<InternalRegistrationStatusDto> dtolist = new ArrayList<>();
+		InternalRegistrationStatusDto registrationStatusDto = new InternalRegistrationStatusDto();
+		registrationStatusDto.setRegistrationId("2018701130000410092018110735");
+		registrationStatusDto.setRegistrationType(RegistrationType.NEW.toString());
+		registrationStatusDto.setRegistrationStageName("PacketValidatorStage");
+		registrationStatusDto.setReProcessRetryCount(0);
+		registrationStatusDto.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
+		dtolist.add(registrationStatusDto);
+		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(),
+				any(), any())).thenReturn(dtolist);
+		List<Integer> sentBeforeUpdate = new ArrayList<>();
+		Mockito.doAnswer(invocation -> {
+			sentBeforeUpdate.add(sentMessages.size());
+			return new ArrayList<>();
+		}).when(registrationStatusService).updateRegistrationStatusesForWorkflowEngine(anyList(), any(), any());
+
+		reprocessorVerticle.process(dto);
+
+		assertEquals(Arrays.asList(0), sentBeforeUpdate);
+		assertEquals(1, sentMessages.size());
+	}
+
+	@Test
+	public void testProcessSendsNoPacketWhenStatusUpdateFails() {
+		List<InternalRegistrationStatusDto> dtolist = new ArrayList<>();
+		InternalRegistrationStatusDto registrationStatusDto = new InternalRegistrationStatusDto();
+		registrationStatusDto.setRegistrationId("2018701130000410092018110735");
+		registrationStatusDto.setRegistrationType(RegistrationType.NEW.toString());
+		registrationStatusDto.setRegistrationStageName("PacketValidatorStage");
+		registrationStatusDto.setReProcessRetryCount(0);
+		registrationStatusDto.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
+		dtolist.add(registrationStatusDto);
+		Mockito.when(registrationStatusService.getUnProcessedPackets(anyInt(), anyLong(), anyInt(), anyList(), anyList(),
+				any(), any())).thenReturn(dtolist);
+		Mockito.doThrow(new TablenotAccessibleException("")).when(registrationStatusService)
+				.updateRegistrationStatusesForWorkflowEngine(anyList(), any(), any());
+
+		MessageDTO messageDTO = reprocessorVerticle.process(dto);
+
+		assertTrue(sentMessages.isEmpty());
+		assertTrue(messageDTO.getInternalError());
+	}
+
 }
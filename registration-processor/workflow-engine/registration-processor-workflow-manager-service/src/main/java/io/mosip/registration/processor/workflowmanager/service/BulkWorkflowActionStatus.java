@@ -0,0 +1,133 @@
+package io.mosip.registration.processor.workflowmanager.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of a workflow action processed in bulk. The ids of the failed
+ * workflows are kept up to {@link #MAX_FAILED_WORKFLOW_IDS}. A job that stopped
+ * before processing all its workflow ids is ABORTED, with the error that stopped
+ * it.
+ */
+public class BulkWorkflowActionStatus {
+
+	public enum State {
+		RUNNING, COMPLETED, ABORTED
+	}
+
+	static final int MAX_FAILED_WORKFLOW_IDS = 1000;
+
+	private final String jobId = UUID.randomUUID().toString();
+
+	private final String workflowAction;
+
+	private final int total;
+
+	private final AtomicInteger processed = new AtomicInteger();
+
+	private final AtomicInteger failed = new AtomicInteger();
+
+	private final List<String> failedWorkflowIds = new ArrayList<>();
+
+	private volatile String errorCode;
+
+	private volatile String errorMessage;
+
+	private volatile State state = State.RUNNING;
+
+	private volatile long completedTimeMillis;
+
+	BulkWorkflowActionStatus(String workflowAction, int total) {
+		this.workflowAction = workflowAction;
+		this.total = total;
+	}
+
+	void addProcessed(int count) {
+		processed.addAndGet(count);
+	}
+
+	/**
+	 * Records a failed workflow, the error of the first failure is kept.
+	 */
+	void addFailure(String workflowId, String errorCode, String errorMessage) {
+		if (failed.getAndIncrement() == 0) {
+			this.errorCode = errorCode;
+			this.errorMessage = errorMessage;
+		}
+		synchronized (failedWorkflowIds) {
+			if (failedWorkflowIds.size() < MAX_FAILED_WORKFLOW_IDS)
+				failedWorkflowIds.add(workflowId);
+		}
+	}
+
+	void complete() {
+		completedTimeMillis = System.currentTimeMillis();
+		state = State.COMPLETED;
+	}
+
+	/**
+	 * Records the error that stopped the job, it replaces the error of the failed
+	 * workflows.
+	 */
+	void abort(String errorCode, String errorMessage) {
+		this.errorCode = errorCode;
+		this.errorMessage = errorMessage;
+		completedTimeMillis = System.currentTimeMillis();
+		state = State.ABORTED;
+	}
+
+	public boolean isDone() {
+		return state != State.RUNNING;
+	}
+
+	public String getJobId() {
+		return jobId;
+	}
+
+	public String getWorkflowAction() {
+		return workflowAction;
+	}
+
+	public int getTotal() {
+		return total;
+	}
+
+	public int getProcessed() {
+		return processed.get();
+	}
+
+	public int getFailed() {
+		return failed.get();
+	}
+
+	public List<String> getFailedWorkflowIds() {
+		synchronized (failedWorkflowIds) {
+			return new ArrayList<>(failedWorkflowIds);
+		}
+	}
+
+	public String getErrorCode() {
+		return errorCode;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	long getCompletedTimeMillis() {
+		return completedTimeMillis;
+	}
+
+	@Override
+	public String toString() {
+		String progress = String.format("%s of %d workflow ids %s: %d processed, %d failed", workflowAction, total,
+				state, getProcessed(), getFailed());
+		return state == State.ABORTED ? progress + ", " + errorCode + " " + errorMessage : progress;
+	}
+}
@@ -8,6 +8,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -29,6 +39,7 @@ import io.mosip.registration.processor.core.code.RegistrationExceptionTypeCode;
 import io.mosip.registration.processor.core.code.RegistrationTransactionStatusCode;
 import io.mosip.registration.processor.core.code.RegistrationTransactionTypeCode;
 import io.mosip.registration.processor.core.code.WorkflowActionCode;
+import io.mosip.registration.processor.core.constant.AuditLogConstant;
 import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
 import io.mosip.registration.processor.core.exception.PacketManagerException;
 import io.mosip.registration.processor.core.exception.WorkflowActionException;
@@ -77,6 +88,29 @@ public class WorkflowActionService {
 	@Value("${mosip.regproc.workflow-manager.action.resumefrombeginning.stage}")
 	private String resumeFromBeginningStage;
 
+	/** The number of workflow ids from which an action is processed in bulk, 0 to disable. */
+	@Value("${mosip.regproc.workflow-manager.action.bulk.min-size:100}")
+	private int bulkMinSize;
+
+	/** The number of workflow ids updated and audited together. */
+	@Value("${mosip.regproc.workflow-manager.action.bulk.chunk-size:500}")
+	private int bulkChunkSize;
+
+	/** The number of packet manager tag updates run in parallel. */
+	@Value("${mosip.regproc.workflow-manager.action.bulk.tag-update.pool-size:8}")
+	private int tagUpdatePoolSize;
+
+	/** The time for which the status of a completed bulk action is kept. */
+	@Value("${mosip.regproc.workflow-manager.action.bulk.job-retention-minutes:1440}")
+	private long bulkJobRetentionMinutes;
+
+	/** The bulk actions submitted to this instance by job id. */
+	private final Map<String, BulkWorkflowActionStatus> bulkJobs = new ConcurrentHashMap<>();
+
+	private ExecutorService tagUpdateExecutor;
+
+	private ExecutorService bulkJobExecutor;
+
 	/** The module name. */
 	public static String MODULE_NAME = ModuleName.WORKFLOW_ACTION_SERVICE.toString();
 
@@ -98,12 +132,14 @@ public class WorkflowActionService {
 	 */
 	public void processWorkflowAction(List<InternalRegistrationStatusDto> internalRegistrationStatusDtos,
 			String workflowAction) throws WorkflowActionException {
-		WorkflowActionCode workflowActionCode = null;
-		try {
-			workflowActionCode = WorkflowActionCode.valueOf(workflowAction);
-		} catch (IllegalArgumentException e) {
-			throw new WorkflowActionException(PlatformErrorMessages.RPR_WAS_UNKNOWN_WORKFLOW_ACTION.getCode(),
-					PlatformErrorMessages.RPR_WAS_UNKNOWN_WORKFLOW_ACTION.getMessage());
+		WorkflowActionCode workflowActionCode = getWorkflowActionCode(workflowAction);
+		if (internalRegistrationStatusDtos != null && isBulkAction(internalRegistrationStatusDtos.size())) {
+			BulkWorkflowActionStatus status = new BulkWorkflowActionStatus(workflowActionCode.name(),
+					internalRegistrationStatusDtos.size());
+			processInBulk(internalRegistrationStatusDtos, workflowActionCode, status);
+			if (status.getFailed() > 0)
+				throw new WorkflowActionException(status.getErrorCode(), status.getErrorMessage());
+			return;
 		}
 		switch (workflowActionCode) {
 		case RESUME_PROCESSING:
@@ -123,6 +159,253 @@ public class WorkflowActionService {
 
 	}
 
+	/**
+	 * Returns true if this number of workflow ids is processed in bulk.
+	 *
+	 * @param size the number of workflow ids
+	 * @return true if the action is processed in bulk
+	 */
+	public boolean isBulkAction(int size) {
+		return bulkMinSize > 0 && size >= bulkMinSize;
+	}
+
+	/**
+	 * Starts processing the workflow action in bulk and returns without waiting for
+	 * it. The progress is available from
+	 * {@link #getBulkWorkflowActionStatus(String)} with the job id of the returned
+	 * status. The jobs run one at a time on this instance and their status is only
+	 * kept in its memory, so it is lost on restart and not known to the other
+	 * instances of the service.
+	 *
+	 * @param internalRegistrationStatusDtos the internal registration status dtos
+	 * @param workflowAction                 the workflow action
+	 * @return the status of the bulk action
+	 * @throws WorkflowActionException the workflow action exception
+	 */
+	public BulkWorkflowActionStatus submitBulkWorkflowAction(
+			List<InternalRegistrationStatusDto> internalRegistrationStatusDtos, String workflowAction)
+			throws WorkflowActionException {
+		WorkflowActionCode workflowActionCode = getWorkflowActionCode(workflowAction);
+		long expiryTimeMillis = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(bulkJobRetentionMinutes);
+		bulkJobs.values().removeIf(job -> job.isDone() && job.getCompletedTimeMillis() < expiryTimeMillis);
+		BulkWorkflowActionStatus status = new BulkWorkflowActionStatus(workflowActionCode.name(),
+				internalRegistrationStatusDtos.size());
+		bulkJobs.put(status.getJobId(), status);
+		getBulkJobExecutor().execute(() -> {
+			try {
+				processInBulk(internalRegistrationStatusDtos, workflowActionCode, status);
+				status.complete();
+			} catch (RuntimeException e) {
+				regProcLogger.error("Bulk workflow action {} aborted {}", status.getJobId(),
+						ExceptionUtils.getStackTrace(e));
+				if (e instanceof BaseUncheckedException)
+					status.abort(((BaseUncheckedException) e).getErrorCode(), e.getMessage());
+				else
+					status.abort(PlatformErrorMessages.RPR_WAS_UNKNOWN_EXCEPTION.getCode(),
+							PlatformErrorMessages.RPR_WAS_UNKNOWN_EXCEPTION.getMessage() + " " + e.getMessage());
+			} finally {
+				regProcLogger.info("Bulk workflow action {} {}", status.getJobId(), status);
+			}
+		});
+		return status;
+	}
+
+	/**
+	 * Gets the status of a bulk workflow action.
+	 *
+	 * @param jobId the job id
+	 * @return the status, null if the job is unknown or has expired
+	 */
+	public BulkWorkflowActionStatus getBulkWorkflowActionStatus(String jobId) {
+		return bulkJobs.get(jobId);
+	}
+
+	private WorkflowActionCode getWorkflowActionCode(String workflowAction) throws WorkflowActionException {
+		try {
+			return WorkflowActionCode.valueOf(workflowAction);
+		} catch (IllegalArgumentException e) {
+			throw new WorkflowActionException(PlatformErrorMessages.RPR_WAS_UNKNOWN_WORKFLOW_ACTION.getCode(),
+					PlatformErrorMessages.RPR_WAS_UNKNOWN_WORKFLOW_ACTION.getMessage());
+		}
+	}
+
+	/**
+	 * Processes the workflow ids in chunks. The packet manager tags of a chunk are
+	 * updated in parallel, the statuses of the chunk are then updated together and
+	 * one audit is sent for the chunk. A failed workflow is recorded in the status
+	 * and does not stop the others.
+	 */
+	private void processInBulk(List<InternalRegistrationStatusDto> internalRegistrationStatusDtos,
+			WorkflowActionCode workflowActionCode, BulkWorkflowActionStatus status) {
+		regProcLogger.debug("processInBulk called for {} workflowIds with action {}",
+				internalRegistrationStatusDtos.size(), workflowActionCode);
+		int chunkSize = bulkChunkSize > 0 ? bulkChunkSize : internalRegistrationStatusDtos.size();
+		for (int i = 0; i < internalRegistrationStatusDtos.size(); i += chunkSize) {
+			List<InternalRegistrationStatusDto> chunk = internalRegistrationStatusDtos.subList(i,
+					Math.min(i + chunkSize, internalRegistrationStatusDtos.size()));
+			processChunk(chunk, workflowActionCode, status);
+			status.addProcessed(chunk.size());
+		}
+		regProcLogger.debug("processInBulk call ended {}", status);
+	}
+
+	private void processChunk(List<InternalRegistrationStatusDto> chunk, WorkflowActionCode workflowActionCode,
+			BulkWorkflowActionStatus status) {
+		boolean isStopProcessing = workflowActionCode == WorkflowActionCode.STOP_PROCESSING;
+		// Pause and Immunity not added for STOP processing
+		List<InternalRegistrationStatusDto> registrationStatusDtos = isStopProcessing ? chunk
+				: addRuleIdsToTags(chunk, status);
+		int reprocessFailedCount = 0;
+		for (InternalRegistrationStatusDto internalRegistrationStatusDto : registrationStatusDtos) {
+			if (isStopProcessing) {
+				setRegistrationStatus(internalRegistrationStatusDto, RegistrationStatusCode.REJECTED,
+						workflowActionCode);
+			} else if (RegistrationTransactionStatusCode.REPROCESS_FAILED.name()
+					.equals(internalRegistrationStatusDto.getLatestTransactionStatusCode())) {
+				setRegistrationStatus(internalRegistrationStatusDto, RegistrationStatusCode.REPROCESS_FAILED,
+						workflowActionCode);
+				reprocessFailedCount++;
+			} else {
+				if (workflowActionCode == WorkflowActionCode.RESUME_FROM_BEGINNING) {
+					internalRegistrationStatusDto
+							.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.REPROCESS.toString());
+					internalRegistrationStatusDto.setRegistrationStageName(resumeFromBeginningStage);
+				}
+				setRegistrationStatus(internalRegistrationStatusDto, RegistrationStatusCode.RESUMABLE,
+						workflowActionCode);
+			}
+		}
+		int updatedCount = registrationStatusDtos.size();
+		try {
+			if (!registrationStatusDtos.isEmpty()) {
+				List<InternalRegistrationStatusDto> notFoundDtos = registrationStatusService
+						.updateRegistrationStatusesForWorkflowEngine(registrationStatusDtos, MODULE_ID, MODULE_NAME,
+								false);
+				if (!CollectionUtils.isEmpty(notFoundDtos)) {
+					for (InternalRegistrationStatusDto internalRegistrationStatusDto : notFoundDtos) {
+						status.addFailure(internalRegistrationStatusDto.getRegistrationId(),
+								PlatformErrorMessages.RPR_WAA_WORKFLOW_ID_NOT_FOUND.getCode(),
+								String.format(PlatformErrorMessages.RPR_WAA_WORKFLOW_ID_NOT_FOUND.getMessage(),
+										internalRegistrationStatusDto.getRegistrationId()));
+						if (RegistrationStatusCode.REPROCESS_FAILED.name()
+								.equals(internalRegistrationStatusDto.getStatusCode()))
+							reprocessFailedCount--;
+					}
+					registrationStatusDtos = new ArrayList<>(registrationStatusDtos);
+					registrationStatusDtos.removeAll(notFoundDtos);
+					updatedCount = registrationStatusDtos.size();
+				}
+			}
+		} catch (TablenotAccessibleException e) {
+			regProcLogger.error("Error in  processWorkflowAction  for {} registration ids {} {}",
+					registrationStatusDtos.size(), e.getMessage(), ExceptionUtils.getStackTrace(e));
+			for (InternalRegistrationStatusDto internalRegistrationStatusDto : registrationStatusDtos)
+				status.addFailure(internalRegistrationStatusDto.getRegistrationId(), e.getErrorCode(), e.getMessage());
+			updatedCount = 0;
+			reprocessFailedCount = 0;
+		}
+		if (isStopProcessing && updatedCount > 0) {
+			for (InternalRegistrationStatusDto internalRegistrationStatusDto : registrationStatusDtos) {
+				try {
+					sendWebSubEvent(internalRegistrationStatusDto);
+				} catch (WebSubClientException e) {
+					regProcLogger.error("Error in  processWorkflowAction  for registration id  {} {} {}",
+							internalRegistrationStatusDto.getRegistrationId(), e.getMessage(),
+							ExceptionUtils.getStackTrace(e));
+					status.addFailure(internalRegistrationStatusDto.getRegistrationId(),
+							((BaseUncheckedException) e).getErrorCode(), ((BaseUncheckedException) e).getMessage());
+				}
+			}
+		}
+
+		int successCount = updatedCount - reprocessFailedCount;
+		if (successCount > 0) {
+			LogDescription description = new LogDescription();
+			description.setMessage(
+					String.format(PlatformSuccessMessages.RPR_WORKFLOW_ACTION_SERVICE_SUCCESS.getMessage(),
+							workflowActionCode.name()) + " for " + successCount + " workflow ids");
+			updateAudit(description, AuditLogConstant.MULTIPLE_ID.toString(), true);
+		}
+		int failedCount = chunk.size() - successCount;
+		if (failedCount > 0) {
+			LogDescription description = new LogDescription();
+			description.setCode(reprocessFailedCount == failedCount
+					? PlatformErrorMessages.RPR_WAS_REPROCESS_FAILED.getCode()
+					: PlatformErrorMessages.RPR_WAS_UNKNOWN_EXCEPTION.getCode());
+			description.setMessage("Workflow action " + workflowActionCode.name() + " failed for " + failedCount
+					+ " workflow ids, " + reprocessFailedCount + " of them REPROCESS_FAILED");
+			updateAudit(description, AuditLogConstant.MULTIPLE_ID.toString(), false);
+		}
+	}
+
+	/**
+	 * Adds the pause rule ids to the tags of each packet of the chunk in parallel
+	 * and returns the registrations whose tags were updated.
+	 */
+	private List<InternalRegistrationStatusDto> addRuleIdsToTags(List<InternalRegistrationStatusDto> chunk,
+			BulkWorkflowActionStatus status) {
+		ExecutorService executor = getTagUpdateExecutor();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(chunk.size());
+		for (InternalRegistrationStatusDto internalRegistrationStatusDto : chunk) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				try {
+					addRuleIdsToTag(internalRegistrationStatusDto);
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				}
+			}, executor));
+		}
+		List<InternalRegistrationStatusDto> taggedDtos = new ArrayList<>(chunk.size());
+		for (int i = 0; i < chunk.size(); i++) {
+			String rid = chunk.get(i).getRegistrationId();
+			try {
+				futures.get(i).join();
+				taggedDtos.add(chunk.get(i));
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause() != null ? e.getCause() : e;
+				String errorCode = cause instanceof BaseCheckedException
+						? ((BaseCheckedException) cause).getErrorCode()
+						: PlatformErrorMessages.RPR_WAS_UNKNOWN_EXCEPTION.getCode();
+				String errorMessage = cause instanceof BaseCheckedException ? cause.getMessage()
+						: PlatformErrorMessages.RPR_WAS_UNKNOWN_EXCEPTION.getMessage();
+				regProcLogger.error("Error in  processWorkflowAction  for registration id  {} {} {}", rid,
+						errorMessage, ExceptionUtils.getStackTrace(cause));
+				status.addFailure(rid, errorCode, errorMessage);
+			}
+		}
+		return taggedDtos;
+	}
+
+	private synchronized ExecutorService getTagUpdateExecutor() {
+		if (tagUpdateExecutor == null)
+			tagUpdateExecutor = Executors.newFixedThreadPool(Math.max(tagUpdatePoolSize, 1),
+					daemonThreadFactory("workflow-action-tag-update-"));
+		return tagUpdateExecutor;
+	}
+
+	private synchronized ExecutorService getBulkJobExecutor() {
+		if (bulkJobExecutor == null)
+			bulkJobExecutor = Executors.newSingleThreadExecutor(daemonThreadFactory("workflow-action-bulk-"));
+		return bulkJobExecutor;
+	}
+
+	private static ThreadFactory daemonThreadFactory(String namePrefix) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@PreDestroy
+	private synchronized void shutdownExecutors() {
+		if (tagUpdateExecutor != null)
+			tagUpdateExecutor.shutdown();
+		if (bulkJobExecutor != null)
+			bulkJobExecutor.shutdown();
+	}
+
 	/**
 	 * Process stop processing.
 	 *
@@ -386,6 +669,20 @@ public class WorkflowActionService {
 	 */
 	private InternalRegistrationStatusDto updateRegistrationStatus(InternalRegistrationStatusDto registrationStatusDto,
 			RegistrationStatusCode statusCode, WorkflowActionCode workflowActionCode) {
+		setRegistrationStatus(registrationStatusDto, statusCode, workflowActionCode);
+		registrationStatusService.updateRegistrationStatusForWorkflowEngine(registrationStatusDto, MODULE_ID, MODULE_NAME);
+		return registrationStatusDto;
+	}
+
+	/**
+	 * Sets the status of the workflow action on the registration status dto.
+	 *
+	 * @param registrationStatusDto the registration status dto
+	 * @param statusCode            the status code
+	 * @param workflowActionCode    the workflow action code
+	 */
+	private void setRegistrationStatus(InternalRegistrationStatusDto registrationStatusDto,
+			RegistrationStatusCode statusCode, WorkflowActionCode workflowActionCode) {
 		registrationStatusDto.setStatusCode(statusCode.name());
 		registrationStatusDto.setStatusComment(String.format(
 				PlatformSuccessMessages.RPR_WORKFLOW_ACTION_SERVICE_SUCCESS.getMessage(), workflowActionCode.name()));
@@ -398,8 +695,6 @@ public class WorkflowActionService {
 		registrationStatusDto.setDefaultResumeAction(null);
 		registrationStatusDto.setResumeTimeStamp(null);
 		registrationStatusDto.setPauseRuleIds(null);
-		registrationStatusService.updateRegistrationStatusForWorkflowEngine(registrationStatusDto, MODULE_ID, MODULE_NAME);
-		return registrationStatusDto;
 	}
 
 	/**
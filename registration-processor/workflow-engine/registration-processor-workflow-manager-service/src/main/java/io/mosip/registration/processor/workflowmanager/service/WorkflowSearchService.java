@@ -5,7 +5,6 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +20,7 @@ import io.mosip.registration.processor.core.workflow.dto.SearchInfo;
 import io.mosip.registration.processor.core.workflow.dto.WorkflowDetail;
 import io.mosip.registration.processor.rest.client.audit.builder.AuditLogRequestBuilder;
 import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
+import io.mosip.registration.processor.status.dto.KeysetPage;
 import io.mosip.registration.processor.status.dto.RegistrationStatusDto;
 import io.mosip.registration.processor.status.service.RegistrationStatusService;
 
@@ -56,9 +56,10 @@ public class WorkflowSearchService {
 			logAndThrowError(e, PlatformErrorMessages.RPR_RGS_REGISTRATION_TABLE_NOT_ACCESSIBLE.getCode(),
 					PlatformErrorMessages.RPR_RGS_REGISTRATION_TABLE_NOT_ACCESSIBLE.getMessage());
 		}
-		return new PageImpl<>(workflowDetails,
+		return new KeysetPage<>(workflowDetails,
 				PageRequest.of(searchInfo.getPagination().getPageStart(), searchInfo.getPagination().getPageFetch()),
-				pageDtos.getTotalElements());
+				pageDtos.getTotalElements(),
+				pageDtos instanceof KeysetPage ? ((KeysetPage<?>) pageDtos).getNextCursor() : null);
 
 	}
 
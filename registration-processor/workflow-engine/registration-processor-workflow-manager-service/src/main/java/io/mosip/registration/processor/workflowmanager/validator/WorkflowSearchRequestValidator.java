@@ -18,6 +18,7 @@ import io.mosip.registration.processor.core.workflow.dto.FilterInfo;
 import io.mosip.registration.processor.core.workflow.dto.PaginationInfo;
 import io.mosip.registration.processor.core.workflow.dto.SortInfo;
 import io.mosip.registration.processor.core.workflow.dto.WorkflowSearchRequestDTO;
+import io.mosip.registration.processor.status.utilities.SearchCursor;
 
 @Component
 public class WorkflowSearchRequestValidator {
@@ -59,6 +60,7 @@ public class WorkflowSearchRequestValidator {
 		validateFilter(workflowSearchDTO.getRequest().getFilters());
 		validatePagination(workflowSearchDTO.getRequest().getPagination());
 		validateSort(workflowSearchDTO.getRequest().getSort());
+		validateCursor(workflowSearchDTO.getRequest().getPagination(), workflowSearchDTO.getRequest().getSort());
 
 		regProcLogger.debug("WorkflowSearchRequestValidator  validate exit");
 
@@ -111,6 +113,33 @@ public class WorkflowSearchRequestValidator {
 
 	}
 
+	/**
+	 * Validate the cursor of the pagination, which can only page a search sorted
+	 * on a field supported by cursors, with the sort of the search that returned it.
+	 *
+	 * @param pagination the pagination
+	 * @param sortInfo   the sort of the search
+	 * @throws WorkFlowSearchException
+	 */
+	private void validateCursor(PaginationInfo pagination, SortInfo sortInfo) throws WorkFlowSearchException {
+		if (pagination.getCursor() == null)
+			return;
+		String sortField = sortInfo == null ? null : SearchCursor.getSortField(sortInfo.getSortField());
+		if (sortInfo != null && sortField == null) {
+			throw new WorkFlowSearchException(PlatformErrorMessages.RPR_WAA_INVALID_INPUT_PARAMETER.getCode(),
+					String.format(PlatformErrorMessages.RPR_WAA_INVALID_INPUT_PARAMETER.getMessage(), "sortField"));
+		}
+		try {
+			SearchCursor cursor = SearchCursor.decode(pagination.getCursor());
+			if (!cursor.matches(sortField, sortInfo == null ? null : sortInfo.getSortType()))
+				throw new IllegalArgumentException("Search cursor does not match the sort of the search");
+		} catch (IllegalArgumentException e) {
+			regProcLogger.error("Invalid search cursor {}", ExceptionUtils.getStackTrace(e));
+			throw new WorkFlowSearchException(PlatformErrorMessages.RPR_WAA_INVALID_INPUT_PARAMETER.getCode(),
+					String.format(PlatformErrorMessages.RPR_WAA_INVALID_INPUT_PARAMETER.getMessage(), "cursor"));
+		}
+	}
+
 	/**
 	 * Validate sortInfo.
 	 *
@@ -22,6 +22,7 @@ import io.mosip.registration.processor.core.code.EventName;
 import io.mosip.registration.processor.core.code.EventType;
 import io.mosip.registration.processor.core.code.ModuleName;
 import io.mosip.registration.processor.core.common.rest.dto.ErrorDTO;
+import io.mosip.registration.processor.core.constant.AuditLogConstant;
 import io.mosip.registration.processor.core.exception.WorkflowActionException;
 import io.mosip.registration.processor.core.exception.WorkflowActionRequestValidationException;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
@@ -36,6 +37,7 @@ import io.mosip.registration.processor.status.code.RegistrationStatusCode;
 import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
 import io.mosip.registration.processor.status.dto.RegistrationStatusDto;
 import io.mosip.registration.processor.status.service.RegistrationStatusService;
+import io.mosip.registration.processor.workflowmanager.service.BulkWorkflowActionStatus;
 import io.mosip.registration.processor.workflowmanager.service.WorkflowActionService;
 import io.mosip.registration.processor.workflowmanager.validator.WorkflowActionRequestValidator;
 import io.vertx.core.json.JsonObject;
@@ -137,6 +139,8 @@ public class WorkflowActionApi extends MosipVerticleAPIManager {
 	private void routes(MosipRouter router) {
 		router.post(contextPath + "/workflowaction");
 		router.handler(this::processURL, this::failure);
+		router.get(contextPath + "/workflowaction/:jobId");
+		router.handler(this::processBulkActionStatus, this::failure);
 	}
 
 	/**
@@ -162,6 +166,7 @@ public class WorkflowActionApi extends MosipVerticleAPIManager {
 			String user = getUser(ctx);
 			List<InternalRegistrationStatusDto> internalRegistrationStatusDtos = registrationStatusService
 					.getByIdsAndTimestamp(workflowIds);
+			boolean isBulkAction = workflowActionService.isBulkAction(workflowIds.size());
 			if (internalRegistrationStatusDtos.size() == workflowIds.size()) {
 				for (InternalRegistrationStatusDto internalRegistrationStatusDto : internalRegistrationStatusDtos) {
 					
@@ -176,15 +181,34 @@ public class WorkflowActionApi extends MosipVerticleAPIManager {
 						}
 
 					isTransactionSuccessful = true;
-					description.setMessage(PlatformErrorMessages.RPR_WAA_VALIDATION_SUCCESS.getMessage());
-					updateAudit(description, internalRegistrationStatusDto.getRegistrationId(), isTransactionSuccessful,
-							user);
+					if (!isBulkAction) {
+						description.setMessage(PlatformErrorMessages.RPR_WAA_VALIDATION_SUCCESS.getMessage());
+						updateAudit(description, internalRegistrationStatusDto.getRegistrationId(),
+								isTransactionSuccessful, user);
+					}
+				}
+				if (isBulkAction) {
+					description.setMessage(PlatformErrorMessages.RPR_WAA_VALIDATION_SUCCESS.getMessage() + " for "
+							+ workflowIds.size() + " workflow ids");
+					updateAudit(description, AuditLogConstant.MULTIPLE_ID.toString(), isTransactionSuccessful, user);
 				}
 			} else {
 				checkWorkflowIdPresent(workflowIds, isTransactionSuccessful, description, user,
 						internalRegistrationStatusDtos);
 			}
 
+			if (isBulkAction) {
+				BulkWorkflowActionStatus status = workflowActionService.submitBulkWorkflowAction(
+						internalRegistrationStatusDtos, workflowActionDTO.getRequest().getWorkflowAction());
+				regProcLogger.info("Started bulk workflow action {} for {} workflow ids", status.getJobId(),
+						workflowIds.size());
+				ResponseDTO responseDTO = new ResponseDTO();
+				responseDTO.setStatusMessage(
+						"Processing of the " + workflowIds.size() + " workflowIds started, job id " + status.getJobId());
+				responseDTO.setJobId(status.getJobId());
+				buildWorkflowActionResponse(ctx, responseDTO, null);
+				return;
+			}
 				workflowActionService.processWorkflowAction(internalRegistrationStatusDtos,
 						workflowActionDTO.getRequest().getWorkflowAction());
 
@@ -206,6 +230,27 @@ public class WorkflowActionApi extends MosipVerticleAPIManager {
 		}
 	}
 
+	/**
+	 * Returns the progress of a bulk workflow action.
+	 *
+	 * @param ctx the ctx
+	 */
+	public void processBulkActionStatus(RoutingContext ctx) {
+		String jobId = ctx.pathParam("jobId");
+		BulkWorkflowActionStatus status = workflowActionService.getBulkWorkflowActionStatus(jobId);
+		if (status == null) {
+			logError(null, null, PlatformErrorMessages.RPR_WAA_BULK_ACTION_NOT_FOUND.getCode(),
+					String.format(PlatformErrorMessages.RPR_WAA_BULK_ACTION_NOT_FOUND.getMessage(), jobId), null, ctx);
+			return;
+		}
+		ResponseDTO responseDTO = new ResponseDTO();
+		responseDTO.setStatusMessage(status.toString());
+		responseDTO.setJobId(status.getJobId());
+		if (status.getFailed() > 0)
+			responseDTO.setFailedWorkflowIds(status.getFailedWorkflowIds());
+		buildWorkflowActionResponse(ctx, responseDTO, null);
+	}
+
 	private void checkWorkflowIdPresent(List<String> workflowIds, boolean isTransactionSuccessful,
 			LogDescription description, String user, List<InternalRegistrationStatusDto> internalRegistrationStatusDtos)
 			throws WorkflowActionException {
@@ -259,15 +304,23 @@ public class WorkflowActionApi extends MosipVerticleAPIManager {
 	}
 
 	private void buildResponse(RoutingContext routingContext, String message, List<ErrorDTO> errors) {
+		ResponseDTO responseDTO = null;
+		if (message != null) {
+			responseDTO = new ResponseDTO();
+			responseDTO.setStatusMessage(message);
+		}
+		buildWorkflowActionResponse(routingContext, responseDTO, errors);
+	}
+
+	private void buildWorkflowActionResponse(RoutingContext routingContext, ResponseDTO responseDTO,
+			List<ErrorDTO> errors) {
 		WorkflowActionResponseDTO workflowActionResponseDTO = new WorkflowActionResponseDTO();
 		workflowActionResponseDTO.setId(id);
 		workflowActionResponseDTO.setVersion(version);
 		workflowActionResponseDTO.setResponsetime(DateUtils.getUTCCurrentDateTimeString(dateTimePattern));
-		if (message == null) {
+		if (responseDTO == null) {
 			workflowActionResponseDTO.setErrors(errors);
 		} else {
-			ResponseDTO responseDTO = new ResponseDTO();
-			responseDTO.setStatusMessage(message);
 			workflowActionResponseDTO.setResponse(responseDTO);
 		}
 		this.setResponse(routingContext, workflowActionResponseDTO);
@@ -42,6 +42,7 @@ import io.mosip.registration.processor.core.code.WorkflowActionCode;
 import io.mosip.registration.processor.core.code.WorkflowInternalActionCode;
 import io.mosip.registration.processor.core.constant.MappingJsonConstants;
 import io.mosip.registration.processor.core.constant.ProviderStageName;
+import io.mosip.registration.processor.core.eventbus.MessageDTOCodec;
 import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
 import io.mosip.registration.processor.core.exception.PacketManagerException;
 import io.mosip.registration.processor.core.exception.WorkflowActionException;
@@ -66,7 +67,6 @@ import io.mosip.registration.processor.status.service.AnonymousProfileService;
 import io.mosip.registration.processor.status.service.RegistrationStatusService;
 import io.mosip.registration.processor.workflowmanager.service.WorkflowActionService;
 import io.mosip.registration.processor.workflowmanager.util.WebSubUtil;
-import io.vertx.core.json.JsonObject;
 @Component
 public class WorkflowInternalActionVerticle extends MosipVerticleAPIManager {
 
@@ -164,13 +164,13 @@ public class WorkflowInternalActionVerticle extends MosipVerticleAPIManager {
 		mosipEventBus.consume(fromAddress, (msg, handler) -> {
 
 			Map<String, String> mdc = MDC.getCopyOfContextMap();
-			vertx.executeBlocking(future -> {
+			executeBlocking(future -> {
 				MDC.setContextMap(mdc);
-				JsonObject jsonObject = (JsonObject) msg.getBody();
-				WorkflowInternalActionDTO workflowEventDTO = jsonObject.mapTo(WorkflowInternalActionDTO.class);
+				WorkflowInternalActionDTO workflowEventDTO = MessageDTOCodec.decode(msg.getRawBody(),
+						WorkflowInternalActionDTO.class);
 				MessageDTO result = process(workflowEventDTO);
 				future.complete(result);
-			}, false, handler);
+			}, handler);
 			MDC.clear();
 		});
 	}
@@ -30,6 +30,7 @@ import io.mosip.registration.processor.core.workflow.dto.WorkflowDetail;
 import io.mosip.registration.processor.core.workflow.dto.WorkflowSearchRequestDTO;
 import io.mosip.registration.processor.core.workflow.dto.WorkflowSearchResponseDTO;
 import io.mosip.registration.processor.rest.client.audit.builder.AuditLogRequestBuilder;
+import io.mosip.registration.processor.status.dto.KeysetPage;
 import io.mosip.registration.processor.workflowmanager.service.WorkflowSearchService;
 import io.mosip.registration.processor.workflowmanager.validator.WorkflowSearchRequestValidator;
 import io.vertx.core.json.Json;
@@ -203,6 +204,8 @@ public class WorkflowSearchApi extends MosipRouter {
 			pageResponse.setFromRecord(start);
 			pageResponse.setToRecord((long) (start - 1) + page.getNumberOfElements());
 			pageResponse.setTotalRecord(totalItem);
+			if (page instanceof KeysetPage)
+				pageResponse.setNextCursor(((KeysetPage<T>) page).getNextCursor());
 		}
 		return pageResponse;
 	}
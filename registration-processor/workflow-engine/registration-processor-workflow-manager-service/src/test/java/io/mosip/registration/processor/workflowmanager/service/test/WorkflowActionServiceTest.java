@@ -1,10 +1,17 @@
 package io.mosip.registration.processor.workflowmanager.service.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +44,7 @@ import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
 import io.mosip.registration.processor.status.dto.RegistrationStatusDto;
 import io.mosip.registration.processor.status.exception.TablenotAccessibleException;
 import io.mosip.registration.processor.status.service.RegistrationStatusService;
+import io.mosip.registration.processor.workflowmanager.service.BulkWorkflowActionStatus;
 import io.mosip.registration.processor.workflowmanager.service.WorkflowActionService;
 import io.mosip.registration.processor.workflowmanager.util.WebSubUtil;
 
@@ -245,5 +253,101 @@ public class WorkflowActionServiceTest {
 		internalRegistrationStatusDtos.add(registrationStatusDto);
 		workflowActionService.processWorkflowAction(internalRegistrationStatusDtos, "test");
 	}
-	
+
+	@Test
+	public void testResumeProcessingInBulk() throws Exception {
+		ReflectionTestUtils.setField(workflowActionService, "bulkMinSize", 2);
+		ReflectionTestUtils.setField(workflowActionService, "bulkChunkSize", 2);
+		ReflectionTestUtils.setField(workflowActionService, "tagUpdatePoolSize", 2);
+		Mockito.doThrow(new PacketManagerException("ERR-001", "exception occured")).when(packetManagerService)
+				.getTags(eq("10003100030001520190422074513"), any());
+		List<InternalRegistrationStatusDto> internalRegistrationStatusDtos = new ArrayList<InternalRegistrationStatusDto>();
+		internalRegistrationStatusDtos.add(registrationStatusDto);
+		internalRegistrationStatusDtos.add(createPausedStatus("10003100030001520190422074512"));
+		internalRegistrationStatusDtos.add(createPausedStatus("10003100030001520190422074513"));
+		try {
+			workflowActionService.processWorkflowAction(internalRegistrationStatusDtos, "RESUME_PROCESSING");
+			fail();
+		} catch (WorkflowActionException e) {
+			assertEquals("ERR-001", e.getErrorCode());
+		}
+		Mockito.verify(registrationStatusService, Mockito.times(1)).updateRegistrationStatusesForWorkflowEngine(any(),
+				any(), any(), eq(false));
+		Mockito.verify(registrationStatusService, Mockito.never()).updateRegistrationStatusForWorkflowEngine(any(),
+				any(), any());
+		Mockito.verify(packetManagerService, Mockito.times(2)).addOrUpdateTags(any(), any());
+		assertEquals(RegistrationStatusCode.RESUMABLE.name(), registrationStatusDto.getStatusCode());
+	}
+
+	@Test
+	public void testStopProcessingInBulkWithWorkflowNotFound() throws Exception {
+		ReflectionTestUtils.setField(workflowActionService, "bulkMinSize", 2);
+		ReflectionTestUtils.setField(workflowActionService, "bulkChunkSize", 500);
+		InternalRegistrationStatusDto notFoundStatus = createPausedStatus("10003100030001520190422074512");
+		List<InternalRegistrationStatusDto> internalRegistrationStatusDtos = new ArrayList<InternalRegistrationStatusDto>();
+		internalRegistrationStatusDtos.add(registrationStatusDto);
+		internalRegistrationStatusDtos.add(notFoundStatus);
+		Mockito.when(registrationStatusService.updateRegistrationStatusesForWorkflowEngine(any(), any(), any(),
+				anyBoolean())).thenReturn(Collections.singletonList(notFoundStatus));
+		try {
+			workflowActionService.processWorkflowAction(internalRegistrationStatusDtos, "STOP_PROCESSING");
+			fail();
+		} catch (WorkflowActionException e) {
+			assertEquals(PlatformErrorMessages.RPR_WAA_WORKFLOW_ID_NOT_FOUND.getCode(), e.getErrorCode());
+		}
+		Mockito.verify(webSubUtil, Mockito.times(1)).publishEvent(any(WorkflowCompletedEventDTO.class));
+	}
+
+	@Test
+	public void testSubmitBulkWorkflowAction() throws Exception {
+		ReflectionTestUtils.setField(workflowActionService, "bulkMinSize", 1);
+		ReflectionTestUtils.setField(workflowActionService, "bulkChunkSize", 500);
+		List<InternalRegistrationStatusDto> internalRegistrationStatusDtos = new ArrayList<InternalRegistrationStatusDto>();
+		internalRegistrationStatusDtos.add(registrationStatusDto);
+		internalRegistrationStatusDtos.add(createPausedStatus("10003100030001520190422074512"));
+		BulkWorkflowActionStatus status = workflowActionService.submitBulkWorkflowAction(
+				internalRegistrationStatusDtos, "STOP_PROCESSING");
+		assertSame(status, workflowActionService.getBulkWorkflowActionStatus(status.getJobId()));
+		for (int i = 0; i < 100 && status.getState() != BulkWorkflowActionStatus.State.COMPLETED; i++)
+			Thread.sleep(50);
+		assertEquals(BulkWorkflowActionStatus.State.COMPLETED, status.getState());
+		assertEquals(2, status.getProcessed());
+		assertEquals(0, status.getFailed());
+		Mockito.verify(webSubUtil, Mockito.times(2)).publishEvent(any(WorkflowCompletedEventDTO.class));
+		Mockito.verify(auditLogRequestBuilder, Mockito.times(1)).createAuditRequestBuilder(any(), any(), any(), any(),
+				any(), any(), any());
+		assertTrue(status.getFailedWorkflowIds().isEmpty());
+	}
+
+	@Test
+	public void testSubmitBulkWorkflowActionAborted() throws Exception {
+		ReflectionTestUtils.setField(workflowActionService, "bulkMinSize", 1);
+		ReflectionTestUtils.setField(workflowActionService, "bulkChunkSize", 500);
+		Mockito.doThrow(new IllegalStateException("connection closed")).when(registrationStatusService)
+				.updateRegistrationStatusesForWorkflowEngine(any(), any(), any(), anyBoolean());
+		List<InternalRegistrationStatusDto> internalRegistrationStatusDtos = new ArrayList<InternalRegistrationStatusDto>();
+		internalRegistrationStatusDtos.add(registrationStatusDto);
+		internalRegistrationStatusDtos.add(createPausedStatus("10003100030001520190422074512"));
+		BulkWorkflowActionStatus status = workflowActionService.submitBulkWorkflowAction(
+				internalRegistrationStatusDtos, "STOP_PROCESSING");
+		for (int i = 0; i < 100 && !status.isDone(); i++)
+			Thread.sleep(50);
+		assertEquals(BulkWorkflowActionStatus.State.ABORTED, status.getState());
+		assertEquals(0, status.getProcessed());
+		assertEquals(PlatformErrorMessages.RPR_WAS_UNKNOWN_EXCEPTION.getCode(), status.getErrorCode());
+		assertTrue(status.getErrorMessage().contains("connection closed"));
+	}
+
+	private InternalRegistrationStatusDto createPausedStatus(String registrationId) {
+		InternalRegistrationStatusDto internalRegistrationStatusDto = new InternalRegistrationStatusDto();
+		internalRegistrationStatusDto.setRegistrationId(registrationId);
+		internalRegistrationStatusDto.setRegistrationType("NEW");
+		internalRegistrationStatusDto.setRegistrationStageName("SecurezoneNotificationStage");
+		internalRegistrationStatusDto
+				.setLatestTransactionStatusCode(RegistrationTransactionStatusCode.SUCCESS.name());
+		internalRegistrationStatusDto.setStatusCode(RegistrationStatusCode.PAUSED.name());
+		internalRegistrationStatusDto.setPauseRuleIds("testhotlisted");
+		return internalRegistrationStatusDto;
+	}
+
 }
@@ -0,0 +1,97 @@
+package io.mosip.registration.processor.workflowmanager.validator.test;
+
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.registration.processor.core.exception.WorkFlowSearchException;
+import io.mosip.registration.processor.core.workflow.dto.PaginationInfo;
+import io.mosip.registration.processor.core.workflow.dto.SearchInfo;
+import io.mosip.registration.processor.core.workflow.dto.SortInfo;
+import io.mosip.registration.processor.core.workflow.dto.WorkflowSearchRequestDTO;
+import io.mosip.registration.processor.status.utilities.SearchCursor;
+import io.mosip.registration.processor.workflowmanager.validator.WorkflowSearchRequestValidator;
+
+@RunWith(SpringRunner.class)
+public class WorkflowSearchRequestValidatorTest {
+	@Mock
+	private Environment env;
+
+	@InjectMocks
+	WorkflowSearchRequestValidator workflowSearchRequestValidator;
+
+	@Before
+	public void setup() {
+		when(env.getProperty("mosip.regproc.workflow-manager.search.api-id"))
+				.thenReturn("mosip.registration.processor.workflow.search");
+		when(env.getProperty("mosip.regproc.workflow-manager.search.version")).thenReturn("1.0");
+	}
+
+	@Test
+	public void testValidateCursorOfSameSort() throws WorkFlowSearchException {
+		String cursor = new SearchCursor("createDateTime", "desc", LocalDateTime.of(2021, 5, 10, 10, 30), "instance-2")
+				.encode();
+
+		workflowSearchRequestValidator.validate(createSearchRequest(new SortInfo("createDateTime", "desc"), cursor));
+	}
+
+	@Test
+	public void testValidateCursorOfUnsortedSearch() throws WorkFlowSearchException {
+		String cursor = new SearchCursor(null, "asc", null, "instance-2").encode();
+
+		workflowSearchRequestValidator.validate(createSearchRequest(null, cursor));
+	}
+
+	@Test(expected = WorkFlowSearchException.class)
+	public void testCursorOfOtherSortField() throws WorkFlowSearchException {
+		String cursor = new SearchCursor("updateDateTime", "desc", LocalDateTime.of(2021, 5, 10, 10, 30), "instance-2")
+				.encode();
+
+		workflowSearchRequestValidator.validate(createSearchRequest(new SortInfo("createDateTime", "desc"), cursor));
+	}
+
+	@Test(expected = WorkFlowSearchException.class)
+	public void testCursorOfOtherSortType() throws WorkFlowSearchException {
+		String cursor = new SearchCursor("createDateTime", "desc", LocalDateTime.of(2021, 5, 10, 10, 30), "instance-2")
+				.encode();
+
+		workflowSearchRequestValidator.validate(createSearchRequest(new SortInfo("createDateTime", "asc"), cursor));
+	}
+
+	@Test(expected = WorkFlowSearchException.class)
+	public void testCursorOfUnsortedSearchWithSort() throws WorkFlowSearchException {
+		String cursor = new SearchCursor(null, "asc", null, "instance-2").encode();
+
+		workflowSearchRequestValidator.validate(createSearchRequest(new SortInfo("createDateTime", "asc"), cursor));
+	}
+
+	@Test(expected = WorkFlowSearchException.class)
+	public void testCursorWithInvalidSortValue() throws WorkFlowSearchException {
+		String cursor = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("createDateTime|desc|yesterday|instance-2".getBytes(StandardCharsets.UTF_8));
+
+		workflowSearchRequestValidator.validate(createSearchRequest(new SortInfo("createDateTime", "desc"), cursor));
+	}
+
+	private WorkflowSearchRequestDTO createSearchRequest(SortInfo sort, String cursor) {
+		PaginationInfo pagination = new PaginationInfo(0, 10);
+		pagination.setCursor(cursor);
+		WorkflowSearchRequestDTO workflowSearchRequestDTO = new WorkflowSearchRequestDTO();
+		workflowSearchRequestDTO.setId("mosip.registration.processor.workflow.search");
+		workflowSearchRequestDTO.setVersion("1.0");
+		workflowSearchRequestDTO.setRequesttime("2021-03-15T10:02:45.474Z");
+		workflowSearchRequestDTO.setRequest(new SearchInfo(new ArrayList<>(), sort, pagination));
+		return workflowSearchRequestDTO;
+	}
+}
@@ -34,6 +34,7 @@ import io.mosip.registration.processor.status.code.RegistrationStatusCode;
 import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
 import io.mosip.registration.processor.status.dto.RegistrationStatusDto;
 import io.mosip.registration.processor.status.service.RegistrationStatusService;
+import io.mosip.registration.processor.workflowmanager.service.BulkWorkflowActionStatus;
 import io.mosip.registration.processor.workflowmanager.service.WorkflowActionService;
 import io.mosip.registration.processor.workflowmanager.validator.WorkflowActionRequestValidator;
 import io.vertx.core.AsyncResult;
@@ -521,4 +522,24 @@ public class WorkflowActionApiTest {
 		workflowActionApi.processURL(ctx);
 		assertTrue(responseObject);
 	}
+
+	@Test
+	public void testProcessURLSubmitsBulkAction() throws WorkflowActionException {
+		BulkWorkflowActionStatus status = Mockito.mock(BulkWorkflowActionStatus.class);
+		Mockito.when(status.getJobId()).thenReturn("job-1");
+		Mockito.when(workflowActionService.isBulkAction(1)).thenReturn(true);
+		Mockito.when(workflowActionService.submitBulkWorkflowAction(any(), any())).thenReturn(status);
+		workflowActionApi.processURL(ctx);
+		assertTrue(responseObject);
+		Mockito.verify(workflowActionService).submitBulkWorkflowAction(internalRegistrationStatusDtos,
+				"RESUME_PROCESSING");
+		Mockito.verify(workflowActionService, Mockito.never()).processWorkflowAction(any(), any());
+	}
+
+	@Test
+	public void testProcessBulkActionStatusNotFound() {
+		workflowActionApi.processBulkActionStatus(ctx);
+		assertTrue(responseObject);
+		Mockito.verify(workflowActionService).getBulkWorkflowActionStatus(null);
+	}
 }